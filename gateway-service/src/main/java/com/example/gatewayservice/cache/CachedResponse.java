@@ -0,0 +1,9 @@
+package com.example.gatewayservice.cache;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 캐시해 둔 응답. startedAt은 이 응답을 만든 요청이 게이트웨이에 들어온 시각이고, 플랜이 그 뒤에 바뀌었다면 더 이상 쓰지 않는다.
+ */
+public record CachedResponse(Long planId, long startedAt, HttpHeaders headers, byte[] body) {
+}
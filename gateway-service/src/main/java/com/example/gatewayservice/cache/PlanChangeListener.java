@@ -0,0 +1,30 @@
+package com.example.gatewayservice.cache;
+
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * plan-service가 보내는 플랜 변경을 인스턴스마다 이름 없는 큐로 받아서, 바뀐 플랜의 응답을 캐시에서 쓰지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "planting.gateway.response-cache", name = "invalidate-on-change",
+    havingValue = "true", matchIfMissing = true)
+public class PlanChangeListener {
+    private final ResponseCache responseCache;
+
+    @RabbitListener(bindings = @QueueBinding(
+        value = @Queue,
+        exchange = @Exchange(value = "${planting.plan.outbox.exchange:planting.plan-changes}", type = "topic"),
+        key = "plan.change.#"))
+    public void onChange(@Header("planId") Long planId) {
+        responseCache.invalidate(planId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.gatewayservice.cache;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 공개 플랜의 응답을 인스턴스 메모리에 캐시한다. 캐시가 쓰는 메모리는 본문의 크기로 제한하고, 넘치면 덜 쓰인 응답부터 지운다.
+ * 플랜이 바뀌었다는 알림을 받으면 그 시각을 기록해 두고, 그보다 먼저 시작한 요청으로 만든 응답은 꺼내지도 저장하지도 않는다.
+ * 알림을 놓치더라도 ttl이 지나면 다시 읽는다.
+ */
+@Component
+public class ResponseCache {
+    private final LongSupplier nanoTime;
+    private final long maxEntrySize;
+    private final Cache<String, CachedResponse> responses;
+    private final Cache<Long, Long> changedAt;
+
+    @Autowired
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.maxEntrySize = properties.getMaxEntrySize().toBytes();
+        this.responses = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaxSize().toBytes())
+            .weigher((String key, CachedResponse response) -> key.length() + response.body().length)
+            .expireAfterWrite(properties.getTtl())
+            .ticker(nanoTime::getAsLong)
+            .recordStats()
+            .build();
+        this.changedAt = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getTtl())
+            .ticker(nanoTime::getAsLong)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "gateway.response");
+    }
+
+    public long now() {
+        return nanoTime.getAsLong();
+    }
+
+    public Optional<CachedResponse> get(String key) {
+        CachedResponse response = responses.getIfPresent(key);
+        if (response == null || isStale(response)) {
+            return Optional.empty();
+        }
+        return Optional.of(response);
+    }
+
+    public void put(String key, CachedResponse response) {
+        if (response.body().length <= maxEntrySize && !isStale(response)) {
+            responses.put(key, response);
+        }
+    }
+
+    public void invalidate(Long planId) {
+        changedAt.put(planId, now());
+    }
+
+    private boolean isStale(CachedResponse response) {
+        Long planChangedAt = changedAt.getIfPresent(response.planId());
+        return planChangedAt != null && planChangedAt - response.startedAt() >= 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.gatewayservice.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "planting.gateway.response-cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+    private boolean enabled = true;
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+    private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,11 @@
+package com.example.gatewayservice.config;
+
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.gatewayservice.jwt.TokenRevokedEvent;
+
+@Configuration
+@RemoteApplicationEventScan(basePackageClasses = TokenRevokedEvent.class)
+public class BusConfig {
+}
@@ -1,23 +1,47 @@
 package com.example.gatewayservice.config;
 
+import com.example.gatewayservice.cache.ResponseCache;
+import com.example.gatewayservice.cache.ResponseCacheProperties;
 import com.example.gatewayservice.filter.AuthenticationFilter;
-import com.example.gatewayservice.jwt.JwtValidator;
+import com.example.gatewayservice.filter.RateLimitFilter;
+import com.example.gatewayservice.filter.ResponseCacheFilter;
+import com.example.gatewayservice.filter.ResponseCacheRecordingFilter;
+import com.example.gatewayservice.jwt.VerifiedTokenCache;
+import com.example.gatewayservice.ratelimit.RateLimitProperties;
+import com.example.gatewayservice.ratelimit.RateLimitStore;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.annotation.Order;
 
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
-    private final JwtValidator jwtValidator;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitStore rateLimitStore;
+    private final ResponseCacheProperties responseCacheProperties;
+    private final ResponseCache responseCache;
 
     @Bean
-    @Order(-1)
     public AuthenticationFilter authenticationFilter() {
-        return new AuthenticationFilter(jwtValidator);
+        return new AuthenticationFilter(verifiedTokenCache);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimitProperties, rateLimitStore);
+    }
+
+    @Bean
+    public ResponseCacheFilter responseCacheFilter() {
+        return new ResponseCacheFilter(responseCacheProperties, responseCache);
+    }
+
+    @Bean
+    public ResponseCacheRecordingFilter responseCacheRecordingFilter() {
+        return new ResponseCacheRecordingFilter(responseCacheProperties, responseCache);
     }
 
 }
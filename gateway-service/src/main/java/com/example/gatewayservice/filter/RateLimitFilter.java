@@ -0,0 +1,66 @@
+package com.example.gatewayservice.filter;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.gatewayservice.ratelimit.RateLimitProperties;
+import com.example.gatewayservice.ratelimit.RateLimitStore;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class RateLimitFilter implements GlobalFilter, Ordered {
+    public static final int ORDER = AuthenticationFilter.ORDER + 1;
+
+    private final RateLimitProperties properties;
+    private final RateLimitStore rateLimitStore;
+
+    /**
+     * 라우트와 사용자마다 토큰 버킷을 두고, 토큰이 없으면 429와 함께 다시 시도할 수 있는 시각까지의 초를 Retry-After로 응답한다.
+     * 사용자는 AuthenticationFilter가 검증한 뒤 채운 X-User-Id로 구분하고, 로그인하지 않은 요청은 클라이언트 IP로 구분한다.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "default" : route.getId();
+        return rateLimitStore.tryConsume(routeId + ":" + resolveClient(exchange), properties.getLimit(routeId))
+            .flatMap(decision -> {
+                if (decision.allowed()) {
+                    return chain.filter(exchange);
+                }
+                long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+                exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                return exchange.getResponse().setComplete();
+            });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private String resolveClient(ServerWebExchange exchange) {
+        String userId = exchange.getRequest().getHeaders().getFirst("X-User-Id");
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "ip:unknown";
+        }
+        return "ip:" + remoteAddress.getAddress().getHostAddress();
+    }
+}
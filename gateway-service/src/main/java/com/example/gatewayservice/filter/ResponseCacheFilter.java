@@ -0,0 +1,83 @@
+package com.example.gatewayservice.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.gatewayservice.cache.CachedResponse;
+import com.example.gatewayservice.cache.ResponseCache;
+import com.example.gatewayservice.cache.ResponseCacheProperties;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+    public static final int ORDER = RateLimitFilter.ORDER + 1;
+    static final String CACHE_MISS_ATTR = ResponseCacheFilter.class.getName() + ".cacheMiss";
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCache responseCache;
+
+    /**
+     * GET 요청에 대해 plan-service가 Cache-Control: public과 X-Plan-Id를 담아 보낸 응답만 캐시한다.
+     * 공개 플랜의 응답은 보는 사람과 관계없이 같으므로 사용자와 상관없이 경로와 쿼리로 찾는다.
+     * 캐시된 응답의 ETag를 If-None-Match로 보낸 요청에는 plan-service까지 가지 않고 304로 응답한다.
+     * 캐시는 인증과 요청 수 제한을 통과한 요청에만 쓰이고, 응답을 캐시에 넣는 일은 응답 본문을 쓰기 전에 실행되는
+     * {@link ResponseCacheRecordingFilter}가 맡는다.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String key = key(exchange);
+        CachedResponse cached = responseCache.get(key).orElse(null);
+        if (cached != null) {
+            return writeCached(exchange, cached);
+        }
+
+        exchange.getAttributes().put(CACHE_MISS_ATTR, new CacheMiss(key, responseCache.now()));
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        String eTag = cached.headers().getETag();
+        if (eTag != null && exchange.getRequest().getHeaders().getIfNoneMatch().contains(eTag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().setETag(eTag);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static String key(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "default" : route.getId();
+        return routeId + " " + exchange.getRequest().getURI().getRawPath() + "?"
+            + exchange.getRequest().getURI().getRawQuery();
+    }
+
+    /**
+     * 캐시에 없어서 plan-service로 보낸 요청. 응답을 캐시할지는 {@link ResponseCacheRecordingFilter}가 응답을 쓸 때 정한다.
+     */
+    record CacheMiss(String key, long startedAt) {
+    }
+}
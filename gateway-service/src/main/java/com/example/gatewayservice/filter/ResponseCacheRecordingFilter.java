@@ -0,0 +1,96 @@
+package com.example.gatewayservice.filter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.gatewayservice.cache.CachedResponse;
+import com.example.gatewayservice.cache.ResponseCache;
+import com.example.gatewayservice.cache.ResponseCacheProperties;
+import com.example.gatewayservice.filter.ResponseCacheFilter.CacheMiss;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ResponseCacheRecordingFilter implements GlobalFilter, Ordered {
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    private static final String PLAN_ID = "X-Plan-Id";
+    private static final List<String> CACHED_HEADERS =
+        List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL, PLAN_ID);
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCache responseCache;
+
+    /**
+     * NettyWriteResponseFilter는 plan-service의 응답을 자신이 받은 exchange의 응답에 쓰므로, 그보다 먼저 실행되어 응답을 감싸야
+     * 본문을 가로챌 수 있다. 캐시를 확인하는 {@link ResponseCacheFilter}는 인증과 요청 수 제한 뒤에 실행되므로,
+     * 여기서는 응답만 감싸 두고 그 필터가 캐시에 없다고 표시한 요청의 공개 응답만 캐시에 넣는다.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled() || exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpResponse response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                CacheMiss miss = exchange.getAttribute(ResponseCacheFilter.CACHE_MISS_ATTR);
+                String planId = getHeaders().getFirst(PLAN_ID);
+                if (miss == null || getStatusCode() != HttpStatus.OK || planId == null || !isPublic(getHeaders())) {
+                    return super.writeWith(body);
+                }
+                return DataBufferUtils.join(body)
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        responseCache.put(miss.key(), new CachedResponse(Long.valueOf(planId), miss.startedAt(),
+                            copyCachedHeaders(getHeaders()), bytes));
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+            }
+        };
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private static boolean isPublic(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return false;
+        }
+        List<String> directives = Arrays.stream(cacheControl.split(","))
+            .map(String::trim)
+            .toList();
+        return directives.contains("public") && !directives.contains("no-store") && !directives.contains("private");
+    }
+
+    private static HttpHeaders copyCachedHeaders(HttpHeaders headers) {
+        HttpHeaders copied = new HttpHeaders();
+        CACHED_HEADERS.forEach(name -> {
+            List<String> values = headers.get(name);
+            if (values != null) {
+                copied.put(name, List.copyOf(values));
+            }
+        });
+        return copied;
+    }
+}
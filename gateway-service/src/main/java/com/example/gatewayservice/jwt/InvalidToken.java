@@ -0,0 +1,14 @@
+package com.example.gatewayservice.jwt;
+
+/**
+ * 검증에 실패한 토큰과 그 이유
+ */
+public record InvalidToken(Reason reason) implements TokenVerification {
+
+    public enum Reason {
+        EXPIRED,
+        MALFORMED,
+        BAD_SIGNATURE,
+        UNSUPPORTED
+    }
+}
@@ -8,10 +8,13 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 
 @Component
 public class JwtValidator {
@@ -25,30 +28,25 @@ public class JwtValidator {
             .setSigningKey(key)
             .build();
     }
-    public boolean validateToken(String token) {
-        return !isTokenExpired(token);
-    }
-
-    public String getSubject(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return claims.getSubject();
-    }
 
-    private boolean isTokenExpired(String token) {
+    /**
+     * 토큰을 한 번만 파싱해서 서명과 만료 시각을 확인하고, 필요한 클레임을 담아 돌려준다.
+     * 파싱에 실패한 경우에도 예외를 던지지 않고 실패 이유를 담아 돌려준다.
+     */
+    public TokenVerification verify(String token) {
         try {
-            getExpirationDateFromToken(token);
-            return false;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(claims.getSubject(), expiration == null ? null : expiration.toInstant());
         } catch (ExpiredJwtException e) {
-            return true;
+            return new InvalidToken(InvalidToken.Reason.EXPIRED);
+        } catch (SignatureException e) {
+            return new InvalidToken(InvalidToken.Reason.BAD_SIGNATURE);
+        } catch (UnsupportedJwtException e) {
+            return new InvalidToken(InvalidToken.Reason.UNSUPPORTED);
+        } catch (JwtException | IllegalArgumentException e) {
+            return new InvalidToken(InvalidToken.Reason.MALFORMED);
         }
     }
 
-    private Date getExpirationDateFromToken(String token) {
-        return getAllClaimsFromToken(token).getExpiration();
-    }
-
-    private Claims getAllClaimsFromToken(String token) {
-        return parser.parseClaimsJws(token).getBody();
-    }
-
 }
@@ -0,0 +1,23 @@
+package com.example.gatewayservice.jwt;
+
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+import lombok.Getter;
+
+/**
+ * 사용자의 토큰을 더 이상 받아주면 안 될 때 모든 게이트웨이 인스턴스에 알리는 버스 이벤트. 받은 인스턴스는 해당 사용자의 검증 결과를 캐시에서 지운다.
+ */
+@Getter
+public class TokenRevokedEvent extends RemoteApplicationEvent {
+    private String subject;
+
+    @SuppressWarnings("unused")
+    public TokenRevokedEvent() {
+        // 버스에서 역직렬화할 때 사용한다
+    }
+
+    public TokenRevokedEvent(Object source, String originService, String subject) {
+        super(source, originService);
+        this.subject = subject;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.gatewayservice.jwt;
+
+/**
+ * 토큰을 한 번 파싱해서 얻은 검증 결과. 검증에 성공했다면 {@link VerifiedToken}, 실패했다면 {@link InvalidToken}이다.
+ */
+public sealed interface TokenVerification permits VerifiedToken, InvalidToken {
+}
@@ -0,0 +1,9 @@
+package com.example.gatewayservice.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료 시각을 확인한 토큰의 클레임. 만료 시각이 없는 토큰은 expiresAt이 null이다.
+ */
+public record VerifiedToken(String subject, Instant expiresAt) implements TokenVerification {
+}
@@ -0,0 +1,118 @@
+package com.example.gatewayservice.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 검증에 성공한 토큰을 인스턴스 메모리에 캐시해서, 같은 토큰이 다시 들어오면 서명 검증을 건너뛴다.
+ * 키에는 토큰 원문 대신 SHA-256 해시를 쓰고, 항목은 토큰의 만료 시각과 max-ttl 중 이른 시각에 사라진다.
+ * 꺼낼 때도 만료 시각을 다시 확인하므로 만료된 토큰이 캐시에서 통과되는 일은 없고, 검증에 실패한 토큰은 캐시하지 않는다.
+ * 토큰이 폐기되면 버스 이벤트로 해당 사용자의 항목을 모든 인스턴스에서 지우고, 이벤트를 놓치더라도 max-ttl이 지나면 다시 검증한다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final JwtValidator jwtValidator;
+    private final Clock clock;
+    private final Duration maxTtl;
+    private final Cache<String, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(JwtValidator jwtValidator, MeterRegistry meterRegistry,
+                              @Value("${planting.gateway.token-cache.max-size:100000}") long maxSize,
+                              @Value("${planting.gateway.token-cache.max-ttl:PT5M}") Duration maxTtl) {
+        this(jwtValidator, meterRegistry, maxSize, maxTtl, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(JwtValidator jwtValidator, MeterRegistry meterRegistry, long maxSize, Duration maxTtl,
+                       Clock clock) {
+        this.jwtValidator = jwtValidator;
+        this.clock = clock;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .ticker(() -> ChronoUnit.NANOS.between(Instant.EPOCH, clock.instant()))
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                    return timeToLive(token).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                                              long currentDuration) {
+                    return timeToLive(token).toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.token");
+    }
+
+    public TokenVerification verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            cache.invalidate(key);
+        }
+
+        TokenVerification verification = jwtValidator.verify(token);
+        if (verification instanceof VerifiedToken verifiedToken && !isExpired(verifiedToken)) {
+            cache.put(key, verifiedToken);
+        }
+        return verification;
+    }
+
+    @EventListener
+    public void evict(TokenRevokedEvent event) {
+        cache.asMap()
+            .values()
+            .removeIf(token -> token.subject().equals(event.getSubject()));
+    }
+
+    private boolean isExpired(VerifiedToken token) {
+        return token.expiresAt() != null && !token.expiresAt().isAfter(clock.instant());
+    }
+
+    private Duration timeToLive(VerifiedToken token) {
+        if (token.expiresAt() == null) {
+            return maxTtl;
+        }
+        Duration untilExpiry = Duration.between(clock.instant(), token.expiresAt());
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
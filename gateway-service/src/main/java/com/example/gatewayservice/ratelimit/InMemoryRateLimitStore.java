@@ -0,0 +1,46 @@
+package com.example.gatewayservice.ratelimit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+/**
+ * 토큰 버킷을 인스턴스 메모리에 둔다. 게이트웨이를 여러 대 띄우면 인스턴스마다 따로 센다.
+ * 한동안 쓰이지 않은 버킷은 어차피 가득 차 있으므로 지워도 결과가 같고, 키의 개수는 max-keys로 제한한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "planting.gateway.rate-limit", name = "mode", havingValue = "memory",
+    matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public InMemoryRateLimitStore(RateLimitProperties properties) {
+        this(properties.getMaxKeys(), System::nanoTime);
+    }
+
+    InMemoryRateLimitStore(long maxKeys, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(IDLE_TIMEOUT)
+            .build();
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, RateLimitProperties.Limit limit) {
+        long now = nanoTime.getAsLong();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(limit, now));
+        return Mono.just(bucket.tryConsume(now));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.gatewayservice.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 요청을 받아줄지와, 받아주지 않는다면 언제 다시 시도하면 되는지를 담는다.
+ */
+public record RateLimitDecision(boolean allowed, Duration retryAfter) {
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, Duration.ZERO);
+
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision reject(Duration retryAfter) {
+        return new RateLimitDecision(false, retryAfter);
+    }
+}
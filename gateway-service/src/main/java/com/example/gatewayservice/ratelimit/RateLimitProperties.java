@@ -0,0 +1,47 @@
+package com.example.gatewayservice.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 라우트마다 다르게 줄 수 있는 토큰 버킷 설정. routes에 없는 라우트는 default-limit을 따른다.
+ */
+@Component
+@ConfigurationProperties(prefix = "planting.gateway.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Mode mode = Mode.MEMORY;
+    private long maxKeys = 100_000;
+    private Limit defaultLimit = new Limit(100, 20);
+    private Map<String, Limit> routes = new HashMap<>();
+
+    public Limit getLimit(String routeId) {
+        return routes.getOrDefault(routeId, defaultLimit);
+    }
+
+    public enum Mode {
+        MEMORY, REDIS
+    }
+
+    /**
+     * capacity만큼 한 번에 몰아서 보낼 수 있고, 그 뒤로는 초당 refill-per-second개씩 다시 채워진다.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.gatewayservice.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * key의 토큰 버킷에서 토큰 하나를 꺼낸다. 버킷은 처음 쓰일 때 가득 찬 상태로 만들어진다.
+ */
+public interface RateLimitStore {
+    Mono<RateLimitDecision> tryConsume(String key, RateLimitProperties.Limit limit);
+}
@@ -0,0 +1,72 @@
+package com.example.gatewayservice.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 토큰 버킷을 Redis에 두어 모든 게이트웨이 인스턴스가 같은 버킷을 나눠 쓴다.
+ * 채우고 꺼내는 과정은 Lua 스크립트 하나로 처리해서 인스턴스끼리 경쟁하더라도 토큰이 더 꺼내지지 않는다.
+ * Redis에 문제가 생기면 요청을 막지 않고 통과시킨다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "planting.gateway.rate-limit", name = "mode", havingValue = "redis")
+public class RedisRateLimitStore implements RateLimitStore {
+    private static final String KEY_PREFIX = "rate-limit:";
+    private static final RedisScript<Long> SCRIPT = RedisScript.of("""
+        local capacity = tonumber(ARGV[1])
+        local rate = tonumber(ARGV[2])
+        local now = tonumber(ARGV[3])
+        local bucket = redis.call('hmget', KEYS[1], 'tokens', 'refilled_at')
+        local tokens = tonumber(bucket[1]) or capacity
+        local refilledAt = tonumber(bucket[2]) or now
+        if now > refilledAt then
+            tokens = math.min(capacity, tokens + (now - refilledAt) * rate / 1000)
+            refilledAt = now
+        end
+        local retryAfter = 0
+        if tokens >= 1 then
+            tokens = tokens - 1
+        else
+            retryAfter = math.ceil((1 - tokens) * 1000 / rate)
+        end
+        redis.call('hmset', KEYS[1], 'tokens', tostring(tokens), 'refilled_at', refilledAt)
+        redis.call('pexpire', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+        return retryAfter
+        """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Clock clock;
+
+    public RedisRateLimitStore(ReactiveStringRedisTemplate redisTemplate) {
+        this(redisTemplate, Clock.systemUTC());
+    }
+
+    RedisRateLimitStore(ReactiveStringRedisTemplate redisTemplate, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, RateLimitProperties.Limit limit) {
+        List<String> args = List.of(String.valueOf(limit.getCapacity()), String.valueOf(limit.getRefillPerSecond()),
+            String.valueOf(clock.millis()));
+        return redisTemplate.execute(SCRIPT, List.of(KEY_PREFIX + key), args)
+            .next()
+            .map(retryAfter -> retryAfter == 0 ? RateLimitDecision.allow()
+                : RateLimitDecision.reject(Duration.ofMillis(retryAfter)))
+            .onErrorResume(e -> {
+                log.warn("Redis에서 토큰 버킷을 읽지 못해 요청을 통과시킵니다. key={}", key, e);
+                return Mono.just(RateLimitDecision.allow());
+            });
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.gatewayservice.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 마지막으로 꺼낸 시각부터 지난 시간만큼 토큰을 채운 뒤 하나를 꺼낸다. 시각은 나노초 단위로 받는다.
+ */
+class TokenBucket {
+    private final int capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(RateLimitProperties.Limit limit, long now) {
+        this.capacity = limit.getCapacity();
+        this.refillPerNano = limit.getRefillPerSecond() / Duration.ofSeconds(1).toNanos();
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    synchronized RateLimitDecision tryConsume(long now) {
+        if (now > refilledAt) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return RateLimitDecision.allow();
+        }
+        return RateLimitDecision.reject(Duration.ofNanos((long) Math.ceil((1 - tokens) / refillPerNano)));
+    }
+}
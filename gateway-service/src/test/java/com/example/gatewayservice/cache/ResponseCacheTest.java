@@ -0,0 +1,68 @@
+package com.example.gatewayservice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ResponseCacheTest {
+    private final AtomicLong now = new AtomicLong();
+    private ResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setMaxEntrySize(DataSize.ofBytes(100));
+        properties.setTtl(Duration.ofSeconds(30));
+        responseCache = new ResponseCache(properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("플랜이 바뀐 뒤에 시작한 요청으로 만든 응답은 다시 캐시에서 꺼낼 수 있다")
+    void putAfterPlanChange() {
+        // given
+        responseCache.invalidate(1L);
+        now.addAndGet(1);
+
+        // when
+        responseCache.put("key", response(1L, responseCache.now(), 10));
+
+        // then
+        assertThat(responseCache.get("key")).isPresent();
+    }
+
+    @Test
+    @DisplayName("한 항목이 차지할 수 있는 크기보다 큰 응답은 캐시하지 않는다")
+    void putTooLarge() {
+        // when
+        responseCache.put("key", response(1L, responseCache.now(), 101));
+
+        // then
+        assertThat(responseCache.get("key")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 응답은 꺼내지 않는다")
+    void getAfterTtl() {
+        // given
+        responseCache.put("key", response(1L, responseCache.now(), 10));
+
+        // when
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // then
+        assertThat(responseCache.get("key")).isEmpty();
+    }
+
+    private CachedResponse response(Long planId, long startedAt, int size) {
+        return new CachedResponse(planId, startedAt, new HttpHeaders(), new byte[size]);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.gatewayservice.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.example.gatewayservice.jwt.JwtProperties;
+import com.example.gatewayservice.jwt.JwtValidator;
+import com.example.gatewayservice.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class AuthenticationFilterTest {
+    private static final String SECRET =
+        "5plDwnuqJyjDbaTJai5nS9tLCA7QwYwnCn2MhW6K8e/ohLrV7QVzR9IUKyrIk0f35GOOwIT4dQqfGKzLtV3NzV7qlr+7V6M6u5A4iJTh";
+
+    private AuthenticationFilter authenticationFilter;
+    private Key key;
+    private final AtomicReference<ServerHttpRequest> forwarded = new AtomicReference<>();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.set(exchange.getRequest());
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        authenticationFilter = new AuthenticationFilter(new VerifiedTokenCache(new JwtValidator(properties),
+            new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)));
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이면 subject를 X-User-Id 헤더에 담아 다음 필터로 넘긴다")
+    void filter() {
+        // given
+        MockServerWebExchange exchange = exchangeWithToken(makeToken(key, Instant.now().plus(1, ChronoUnit.HOURS)));
+
+        // when
+        authenticationFilter.filter(exchange, chain).block();
+
+        // then
+        assertThat(forwarded.get().getHeaders().getFirst("X-User-Id")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰이면 다음 필터로 넘기지 않고 401로 응답한다")
+    void filterExpiredToken() {
+        // given
+        MockServerWebExchange exchange = exchangeWithToken(makeToken(key, Instant.now().minus(1, ChronoUnit.HOURS)));
+
+        // when
+        authenticationFilter.filter(exchange, chain).block();
+
+        // then
+        assertThat(forwarded.get()).isNull();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰이나 형식이 잘못된 토큰도 예외 대신 401로 응답한다")
+    void filterInvalidToken() {
+        // given
+        Key otherKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        MockServerWebExchange badSignature = exchangeWithToken(makeToken(otherKey,
+            Instant.now().plus(1, ChronoUnit.HOURS)));
+        MockServerWebExchange malformed = exchangeWithToken("not-a-jwt");
+
+        // when
+        authenticationFilter.filter(badSignature, chain).block();
+        authenticationFilter.filter(malformed, chain).block();
+
+        // then
+        assertThat(forwarded.get()).isNull();
+        assertThat(badSignature.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(malformed.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 사용자가 보낸 X-User-Id 헤더를 지우고 다음 필터로 넘긴다")
+    void filterWithoutToken() {
+        // given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/plans/1")
+            .header("X-User-Id", "2"));
+
+        // when
+        authenticationFilter.filter(exchange, chain).block();
+
+        // then
+        assertThat(forwarded.get().getHeaders().containsKey("X-User-Id")).isFalse();
+    }
+
+    private MockServerWebExchange exchangeWithToken(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/plans/1")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    private String makeToken(Key signingKey, Instant expiresAt) {
+        return Jwts.builder()
+            .setSubject("1")
+            .setExpiration(Date.from(expiresAt))
+            .signWith(signingKey, SignatureAlgorithm.HS256)
+            .compact();
+    }
+}
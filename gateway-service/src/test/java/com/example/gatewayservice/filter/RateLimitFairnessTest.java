@@ -0,0 +1,88 @@
+package com.example.gatewayservice.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.example.gatewayservice.ratelimit.InMemoryRateLimitStore;
+import com.example.gatewayservice.ratelimit.RateLimitProperties;
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청을 쉬지 않고 보내는 사용자 한 명과 제한보다 느리게 보내는 사용자 여럿이 동시에 게이트웨이를 쓰는 상황을 만든다.
+ * 몰아서 보내는 사용자는 버킷 크기와 채워지는 속도만큼만 통과하고, 나머지 사용자의 요청은 거의 모두 통과해야 한다.
+ */
+class RateLimitFairnessTest {
+    private static final int CAPACITY = 20;
+    private static final double REFILL_PER_SECOND = 50;
+    private static final long DURATION_MILLIS = 1_000;
+    private static final int POLITE_USERS = 4;
+    private static final long POLITE_INTERVAL_MILLIS = 40;
+
+    @Test
+    @DisplayName("한 사용자가 요청을 몰아서 보내도 다른 사용자들의 요청은 제한되지 않는다")
+    void fairness() throws Exception {
+        // given
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setDefaultLimit(new RateLimitProperties.Limit(CAPACITY, REFILL_PER_SECOND));
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(properties, new InMemoryRateLimitStore(properties));
+        GatewayFilterChain chain = exchange -> Mono.empty();
+        ExecutorService executor = Executors.newFixedThreadPool(POLITE_USERS + 1);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+
+        // when
+        long startedAt = System.nanoTime();
+        Future<int[]> greedy = executor.submit(() -> send(rateLimitFilter, chain, "greedy", deadline, 0));
+        List<Future<int[]>> polite = new ArrayList<>();
+        for (int i = 0; i < POLITE_USERS; i++) {
+            String userId = "polite" + i;
+            polite.add(executor.submit(() -> send(rateLimitFilter, chain, userId, deadline, POLITE_INTERVAL_MILLIS)));
+        }
+        int[] greedyResult = greedy.get();
+        List<int[]> politeResults = new ArrayList<>();
+        for (Future<int[]> future : polite) {
+            politeResults.add(future.get());
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        executor.shutdown();
+
+        // then
+        assertThat(greedyResult[0]).as("greedy allowed: %d, rejected: %d", greedyResult[0], greedyResult[1])
+            .isLessThanOrEqualTo((int) (CAPACITY + REFILL_PER_SECOND * elapsedSeconds) + 1);
+        assertThat(greedyResult[1]).isPositive();
+        assertThat(politeResults).allSatisfy(result -> assertThat(result[1]).isZero());
+    }
+
+    private static int[] send(RateLimitFilter rateLimitFilter, GatewayFilterChain chain, String userId,
+                              long deadline, long intervalMillis) throws InterruptedException {
+        int allowed = 0;
+        int rejected = 0;
+        while (System.nanoTime() < deadline) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/plans/main")
+                .header("X-User-Id", userId));
+            rateLimitFilter.filter(exchange, chain).block();
+            if (exchange.getResponse().getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                rejected++;
+            } else {
+                allowed++;
+            }
+            if (intervalMillis > 0) {
+                Thread.sleep(intervalMillis);
+            }
+        }
+        return new int[] {allowed, rejected};
+    }
+}
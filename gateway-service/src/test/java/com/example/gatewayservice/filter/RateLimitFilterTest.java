@@ -0,0 +1,130 @@
+package com.example.gatewayservice.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.example.gatewayservice.ratelimit.InMemoryRateLimitStore;
+import com.example.gatewayservice.ratelimit.RateLimitProperties;
+import reactor.core.publisher.Mono;
+
+class RateLimitFilterTest {
+    private RateLimitFilter rateLimitFilter;
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setDefaultLimit(new RateLimitProperties.Limit(3, 0.01));
+        properties.setRoutes(Map.of("plan-service", new RateLimitProperties.Limit(1, 0.01)));
+        rateLimitFilter = new RateLimitFilter(properties, new InMemoryRateLimitStore(properties));
+    }
+
+    @Test
+    @DisplayName("버킷의 토큰을 다 쓰면 다음 필터로 넘기지 않고 429와 Retry-After로 응답한다")
+    void filter() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimitFilter.filter(exchange("1", null), chain).block();
+        }
+        MockServerWebExchange exchange = exchange("1", null);
+
+        // when
+        rateLimitFilter.filter(exchange, chain).block();
+
+        // then
+        assertThat(forwarded.get()).isEqualTo(3);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(Long.parseLong(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)))
+            .isPositive();
+    }
+
+    @Test
+    @DisplayName("사용자마다 버킷을 따로 두므로 한 사용자가 토큰을 다 써도 다른 사용자의 요청은 통과한다")
+    void filterPerUser() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            rateLimitFilter.filter(exchange("1", null), chain).block();
+        }
+        MockServerWebExchange exchange = exchange("2", null);
+
+        // when
+        rateLimitFilter.filter(exchange, chain).block();
+
+        // then
+        assertThat(forwarded.get()).isEqualTo(4);
+        assertThat(exchange.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("라우트에 따로 설정한 제한이 있으면 그 제한을 따르고, 버킷도 라우트마다 따로 둔다")
+    void filterPerRoute() {
+        // given
+        rateLimitFilter.filter(exchange("1", "plan-service"), chain).block();
+        MockServerWebExchange limited = exchange("1", "plan-service");
+        MockServerWebExchange otherRoute = exchange("1", "auth-service");
+
+        // when
+        rateLimitFilter.filter(limited, chain).block();
+        rateLimitFilter.filter(otherRoute, chain).block();
+
+        // then
+        assertThat(forwarded.get()).isEqualTo(2);
+        assertThat(limited.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(otherRoute.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("로그인하지 않은 요청은 클라이언트 IP로 구분한다")
+    void filterWithoutUser() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimitFilter.filter(exchangeFrom("10.0.0.1"), chain).block();
+        }
+        MockServerWebExchange sameIp = exchangeFrom("10.0.0.1");
+        MockServerWebExchange otherIp = exchangeFrom("10.0.0.2");
+
+        // when
+        rateLimitFilter.filter(sameIp, chain).block();
+        rateLimitFilter.filter(otherIp, chain).block();
+
+        // then
+        assertThat(sameIp.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(otherIp.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private MockServerWebExchange exchange(String userId, String routeId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/plans/main")
+            .header("X-User-Id", userId));
+        if (routeId != null) {
+            exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId)
+                .uri("http://localhost")
+                .predicate(e -> true)
+                .build());
+        }
+        return exchange;
+    }
+
+    private MockServerWebExchange exchangeFrom(String ip) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/plans/main")
+            .remoteAddress(new InetSocketAddress(ip, 50000)));
+    }
+}
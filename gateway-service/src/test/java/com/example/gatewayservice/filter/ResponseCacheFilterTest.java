@@ -0,0 +1,150 @@
+package com.example.gatewayservice.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.gatewayservice.cache.ResponseCache;
+import com.example.gatewayservice.cache.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheFilterTest {
+    private ResponseCache responseCache;
+    private ResponseCacheFilter responseCacheFilter;
+    private ResponseCacheRecordingFilter responseCacheRecordingFilter;
+    private final AtomicInteger forwarded = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        responseCache = new ResponseCache(properties, new SimpleMeterRegistry());
+        responseCacheFilter = new ResponseCacheFilter(properties, responseCache);
+        responseCacheRecordingFilter = new ResponseCacheRecordingFilter(properties, responseCache);
+    }
+
+    @Test
+    @DisplayName("공개 플랜의 응답은 캐시해 두었다가 다음 요청에는 plan-service까지 가지 않고 응답한다")
+    void filter() {
+        // given
+        GatewayFilterChain chain = upstream(CacheControl.empty().cachePublic(), "\"1-3\"");
+        filter(exchange(), chain).block();
+        MockServerWebExchange exchange = exchange();
+
+        // when
+        filter(exchange, chain).block();
+
+        // then
+        assertThat(forwarded.get()).isEqualTo(1);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchange.getResponse().getHeaders().getETag()).isEqualTo("\"1-3\"");
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("비공개 플랜의 응답은 캐시하지 않는다")
+    void filterPrivate() {
+        // given
+        GatewayFilterChain chain = upstream(CacheControl.empty().cachePrivate(), null);
+        filter(exchange(), chain).block();
+
+        // when
+        filter(exchange(), chain).block();
+
+        // then
+        assertThat(forwarded.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 캐시된 응답의 ETag와 같으면 304로 응답한다")
+    void filterNotModified() {
+        // given
+        GatewayFilterChain chain = upstream(CacheControl.empty().cachePublic(), "\"1-3\"");
+        filter(exchange(), chain).block();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/tasks/1")
+            .ifNoneMatch("\"1-3\""));
+
+        // when
+        filter(exchange, chain).block();
+
+        // then
+        assertThat(forwarded.get()).isEqualTo(1);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("플랜이 바뀌었다는 알림을 받으면 그 전에 캐시한 응답은 쓰지 않는다")
+    void filterAfterPlanChange() {
+        // given
+        GatewayFilterChain chain = upstream(CacheControl.empty().cachePublic(), "\"1-3\"");
+        filter(exchange(), chain).block();
+        responseCache.invalidate(1L);
+
+        // when
+        filter(exchange(), chain).block();
+        filter(exchange(), chain).block();
+
+        // then
+        assertThat(forwarded.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답을 만드는 사이에 플랜이 바뀌었다면 그 응답은 캐시하지 않는다")
+    void filterPlanChangedWhileReading() {
+        // given
+        GatewayFilterChain upstream = upstream(CacheControl.empty().cachePublic(), "\"1-3\"");
+        GatewayFilterChain chain = exchange -> {
+            responseCache.invalidate(1L);
+            return upstream.filter(exchange);
+        };
+        filter(exchange(), chain).block();
+
+        // when
+        filter(exchange(), upstream).block();
+
+        // then
+        assertThat(forwarded.get()).isEqualTo(2);
+    }
+
+    /**
+     * 게이트웨이에서처럼 응답을 감싸는 필터가 먼저, 캐시를 확인하는 필터가 나중에 실행되도록 묶는다
+     */
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain upstream) {
+        return responseCacheRecordingFilter.filter(exchange,
+            recorded -> responseCacheFilter.filter(recorded, upstream));
+    }
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/tasks/1"));
+    }
+
+    private GatewayFilterChain upstream(CacheControl cacheControl, String eTag) {
+        return exchange -> {
+            forwarded.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setCacheControl(cacheControl);
+            if (eTag != null) {
+                response.getHeaders().setETag(eTag);
+                response.getHeaders().set("X-Plan-Id", "1");
+            }
+            byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.gatewayservice.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 실제 라우트를 거쳐 응답이 캐시되는지 확인한다. plan-service 대신 공개 플랜 응답을 돌려주는 서버를 띄운다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCacheRouteTest {
+    private static final AtomicInteger forwarded = new AtomicInteger();
+    private static DisposableServer upstream;
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void route(DynamicPropertyRegistry registry) {
+        upstream = HttpServer.create()
+            .port(0)
+            .route(routes -> routes.get("/plans/{planId}", (request, response) -> {
+                forwarded.incrementAndGet();
+                return response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.CACHE_CONTROL, "public")
+                    .header(HttpHeaders.ETAG, "\"1-3\"")
+                    .header("X-Plan-Id", request.param("planId"))
+                    .sendString(Mono.just("{\"id\":1}"))
+                    .then();
+            }))
+            .bindNow();
+        registry.add("spring.cloud.gateway.routes[0].id", () -> "plan-service");
+        registry.add("spring.cloud.gateway.routes[0].uri", () -> "http://localhost:" + upstream.port());
+        registry.add("spring.cloud.gateway.routes[0].predicates[0]", () -> "Path=/plans/**");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        upstream.disposeNow();
+    }
+
+    @Test
+    @DisplayName("공개 플랜을 두 번 요청하면 두 번째 요청은 plan-service까지 가지 않고 캐시된 응답을 받는다")
+    void cacheHitThroughRoute() {
+        // given
+        webTestClient.get().uri("/plans/1").exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class).isEqualTo("{\"id\":1}");
+
+        // when & then
+        webTestClient.get().uri("/plans/1").exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-3\"")
+            .expectBody(String.class).isEqualTo("{\"id\":1}");
+        assertThat(forwarded.get()).isEqualTo(1);
+    }
+}
@@ -35,33 +35,56 @@ class JwtValidatorTest {
     }
 
     @Test
-    @DisplayName("토큰이 기한이 만료되지 않으면 true를 반환한다")
+    @DisplayName("토큰이 기한이 만료되지 않으면 subject와 만료 시각을 담은 검증 결과를 반환한다")
     void validateToken() {
         // given
         final LocalDateTime expired = LocalDateTime.of(3099, 1, 1, 0, 0);
-        final String token = makeToken("1L", expired);
+        final String token = makeToken("1L", expired, key);
 
-        // when & then
-        assertThat(jwtValidator.validateToken(token)).isTrue();
+        // when
+        TokenVerification verification = jwtValidator.verify(token);
+
+        // then
+        assertThat(verification).isEqualTo(new VerifiedToken("1L",
+            expired.atZone(ZoneId.systemDefault()).toInstant()));
     }
 
     @Test
-    @DisplayName("토큰이 기한이 만료되었으면 false를 반환한다")
+    @DisplayName("토큰이 기한이 만료되었으면 만료로 실패한다")
     void validateExpiredToken() {
         // given
         final LocalDateTime expired = LocalDateTime.of(1999, 1, 1, 0, 0);
-        final String token = makeToken("1L", expired);
+        final String token = makeToken("1L", expired, key);
+
+        // when & then
+        assertThat(jwtValidator.verify(token)).isEqualTo(new InvalidToken(InvalidToken.Reason.EXPIRED));
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 예외를 던지지 않고 서명 오류로 실패한다")
+    void validateTokenWithOtherKey() {
+        // given
+        final Key otherKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        final String token = makeToken("1L", LocalDateTime.of(3099, 1, 1, 0, 0), otherKey);
+
+        // when & then
+        assertThat(jwtValidator.verify(token)).isEqualTo(new InvalidToken(InvalidToken.Reason.BAD_SIGNATURE));
+    }
 
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 예외를 던지지 않고 형식 오류로 실패한다")
+    void validateMalformedToken() {
         // when & then
-        assertThat(jwtValidator.validateToken(token)).isFalse();
+        assertThat(jwtValidator.verify("not-a-jwt")).isEqualTo(new InvalidToken(InvalidToken.Reason.MALFORMED));
+        assertThat(jwtValidator.verify("")).isEqualTo(new InvalidToken(InvalidToken.Reason.MALFORMED));
     }
 
-    private String makeToken(String subject, LocalDateTime expiredDateTime) {
+    private String makeToken(String subject, LocalDateTime expiredDateTime, Key signingKey) {
         final Date expiredDate = Date.from(expiredDateTime.atZone(ZoneId.systemDefault()).toInstant());
         return Jwts.builder()
                    .setSubject(subject)
                    .setExpiration(expiredDate)
-                   .signWith(key, SignatureAlgorithm.HS256)
+                   .signWith(signingKey, SignatureAlgorithm.HS256)
                    .compact();
     }
 
@@ -0,0 +1,153 @@
+package com.example.gatewayservice.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+    private static final String SECRET =
+        "5plDwnuqJyjDbaTJai5nS9tLCA7QwYwnCn2MhW6K8e/ohLrV7QVzR9IUKyrIk0f35GOOwIT4dQqfGKzLtV3NzV7qlr+7V6M6u5A4iJTh";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.now());
+    private VerifiedTokenCache verifiedTokenCache;
+    private Key key;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        verifiedTokenCache = new VerifiedTokenCache(new JwtValidator(properties), meterRegistry, 100,
+            Duration.ofMinutes(5), clock);
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 토큰은 다시 검증하지 않고 캐시된 결과를 돌려준다")
+    void verify() {
+        // given
+        String token = makeToken("1", Instant.now().plus(1, ChronoUnit.HOURS));
+        verifiedTokenCache.verify(token);
+
+        // when
+        TokenVerification result = verifiedTokenCache.verify(token);
+
+        // then
+        assertThat(result).isInstanceOf(VerifiedToken.class)
+            .extracting("subject")
+            .isEqualTo("1");
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목은 캐시에 남아 있더라도 꺼내 쓰지 않는다")
+    void verifyAfterExpiration() {
+        // given
+        String token = makeToken("1", Instant.now().plus(1, ChronoUnit.HOURS));
+        verifiedTokenCache.verify(token);
+        clock.advance(Duration.ofHours(2));
+
+        // when
+        verifiedTokenCache.verify(token);
+
+        // then
+        assertThat(gets("hit")).isZero();
+        assertThat(gets("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않는다")
+    void verifyExpiredToken() {
+        // given
+        String token = makeToken("1", Instant.now().minus(1, ChronoUnit.HOURS));
+        verifiedTokenCache.verify(token);
+
+        // when
+        TokenVerification result = verifiedTokenCache.verify(token);
+
+        // then
+        assertThat(result).isEqualTo(new InvalidToken(InvalidToken.Reason.EXPIRED));
+        assertThat(gets("hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰이 폐기되면 해당 사용자의 캐시만 지운다")
+    void evict() {
+        // given
+        String revoked = makeToken("1", Instant.now().plus(1, ChronoUnit.HOURS));
+        String other = makeToken("2", Instant.now().plus(1, ChronoUnit.HOURS));
+        verifiedTokenCache.verify(revoked);
+        verifiedTokenCache.verify(other);
+
+        // when
+        verifiedTokenCache.evict(new TokenRevokedEvent(this, "gateway", "1"));
+        verifiedTokenCache.verify(revoked);
+        verifiedTokenCache.verify(other);
+
+        // then
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(3);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", "gateway.token")
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private String makeToken(String subject, Instant expiresAt) {
+        return Jwts.builder()
+            .setSubject(subject)
+            .setExpiration(Date.from(expiresAt))
+            .signWith(key, SignatureAlgorithm.HS256)
+            .compact();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.gatewayservice.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimitStoreTest {
+    private final AtomicLong now = new AtomicLong();
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, now::get);
+    private final RateLimitProperties.Limit limit = new RateLimitProperties.Limit(2, 4);
+
+    @Test
+    @DisplayName("버킷이 비면 토큰 하나가 채워질 때까지 남은 시간을 알려준다")
+    void tryConsume() {
+        // given
+        store.tryConsume("key", limit).block();
+        store.tryConsume("key", limit).block();
+
+        // when
+        RateLimitDecision result = store.tryConsume("key", limit).block();
+
+        // then
+        assertThat(result.allowed()).isFalse();
+        assertThat(result.retryAfter()).isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 지난 시간만큼 토큰이 채워지지만 버킷 크기를 넘지는 않는다")
+    void tryConsumeAfterRefill() {
+        // given
+        store.tryConsume("key", limit).block();
+        store.tryConsume("key", limit).block();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // when
+        boolean first = store.tryConsume("key", limit).block().allowed();
+        boolean second = store.tryConsume("key", limit).block().allowed();
+        boolean third = store.tryConsume("key", limit).block().allowed();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+    }
+}
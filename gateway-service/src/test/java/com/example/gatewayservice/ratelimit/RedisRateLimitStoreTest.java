@@ -0,0 +1,107 @@
+package com.example.gatewayservice.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import reactor.core.publisher.Flux;
+import redis.embedded.RedisServer;
+
+class RedisRateLimitStoreTest {
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final RateLimitProperties.Limit limit = new RateLimitProperties.Limit(2, 4);
+    private Instant now;
+    private RedisRateLimitStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReactiveStringRedisTemplate redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        redisTemplate.execute(connection -> connection.serverCommands().flushAll()).blockLast();
+        now = Instant.now();
+        store = new RedisRateLimitStore(redisTemplate, new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("버킷이 비면 토큰 하나가 채워질 때까지 남은 시간을 알려주고, 시간이 지나면 다시 통과시킨다")
+    void tryConsume() {
+        // given
+        store.tryConsume("key", limit).block();
+        store.tryConsume("key", limit).block();
+
+        // when
+        RateLimitDecision rejected = store.tryConsume("key", limit).block();
+        now = now.plusMillis(250);
+        RateLimitDecision allowed = store.tryConsume("key", limit).block();
+
+        // then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofMillis(250));
+        assertThat(allowed.allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 꺼내더라도 버킷 크기보다 많이 통과시키지 않는다")
+    void tryConsumeConcurrently() {
+        // when
+        List<RateLimitDecision> results = Flux.fromStream(IntStream.range(0, 20).boxed())
+            .flatMap(i -> store.tryConsume("key", limit))
+            .collectList()
+            .block();
+
+        // then
+        assertThat(results).filteredOn(RateLimitDecision::allowed)
+            .hasSize(2);
+    }
+}
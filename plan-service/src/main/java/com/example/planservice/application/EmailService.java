@@ -14,8 +14,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.planservice.config.MailProperties;
-import com.example.planservice.exception.ApiException;
-import com.example.planservice.exception.ErrorCode;
 
 @Component
 public class EmailService {
@@ -33,26 +31,26 @@ public class EmailService {
         session = createSession();
     }
 
-    public void sendInviteEmail(String to, String text, String uuid) {
-        try {
-            Message message = new MimeMessage(session);
-            message.setFrom(new InternetAddress(mailProperties.getUsername()));
-            message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(to));
-            message.setSubject(INVITING_SUBJECT);
-            String content = text + ' ' + INVITING_ANNOUNCEMENT;
-            content += "<br>";
-            content += url + "/invite/" + uuid;
-
-            message.setContent(content, "text/html; charset=utf-8");
-
-            send(message);
-        } catch (MessagingException e) {
-            throw new ApiException(ErrorCode.SERVER_ERROR);
-        }
+    /**
+     * SMTP 서버에 한 번 연결해서 그 연결로 여러 초대 메일을 보낸다. 다 보낸 뒤에는 닫아야 한다
+     */
+    public Connection connect() throws MessagingException {
+        Transport transport = session.getTransport("smtp");
+        transport.connect(mailProperties.getUsername(), mailProperties.getPassword());
+        return new Connection(transport);
     }
 
-    protected void send(Message message) throws MessagingException {
-        Transport.send(message);
+    private Message createInviteMessage(String to, String text, String uuid) throws MessagingException {
+        Message message = new MimeMessage(session);
+        message.setFrom(new InternetAddress(mailProperties.getUsername()));
+        message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(to));
+        message.setSubject(INVITING_SUBJECT);
+        String content = text + ' ' + INVITING_ANNOUNCEMENT;
+        content += "<br>";
+        content += url + "/invite/" + uuid;
+
+        message.setContent(content, "text/html; charset=utf-8");
+        return message;
     }
 
     private Session createSession() {
@@ -63,4 +61,26 @@ public class EmailService {
             }
         });
     }
+
+    public class Connection implements AutoCloseable {
+        private final Transport transport;
+
+        private Connection(Transport transport) {
+            this.transport = transport;
+        }
+
+        public void sendInviteEmail(String to, String text, String uuid) throws MessagingException {
+            Message message = createInviteMessage(to, text, uuid);
+            transport.sendMessage(message, message.getAllRecipients());
+        }
+
+        public boolean isConnected() {
+            return transport.isConnected();
+        }
+
+        @Override
+        public void close() throws MessagingException {
+            transport.close();
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package com.example.planservice.application;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.mail.MessagingException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.planservice.domain.invitation.InvitationMail;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쌓여 있는 초대 메일을 주기적으로 가져와 여러 스레드로 나눠 보낸다.
+ * 스레드마다 SMTP 연결을 한 번만 맺고 맡은 메일을 모두 보내며, 보내지 못한 메일은 나중에 다시 시도한다.
+ * 메일은 작업 스레드가 보내므로, 다른 주기 작업과 함께 쓰는 스케줄러 스레드는 SMTP 서버를 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class InvitationMailJob {
+    private final InvitationMailService invitationMailService;
+    private final EmailService emailService;
+    private final ExecutorService executor;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final int workers;
+    private final int batchSize;
+
+    public InvitationMailJob(InvitationMailService invitationMailService, EmailService emailService,
+                             @Value("${planting.invitation.workers:4}") int workers,
+                             @Value("${planting.invitation.batch-size:100}") int batchSize) {
+        this.invitationMailService = invitationMailService;
+        this.emailService = emailService;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.executor = Executors.newFixedThreadPool(workers);
+    }
+
+    @Scheduled(fixedDelayString = "${planting.invitation.poll-delay:PT10S}",
+        initialDelayString = "${planting.invitation.poll-delay:PT10S}")
+    public void send() {
+        dispatch();
+    }
+
+    /**
+     * 가져온 메일을 작업 스레드에 나눠 맡기고 기다리지 않는다.
+     * 앞 주기에 맡긴 메일을 아직 보내고 있으면 이번 주기는 건너뛰므로, 두 주기가 겹쳐서 보내지 않는다.
+     */
+    CompletableFuture<Void> dispatch() {
+        if (!sending.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            List<Long> ids = invitationMailService.findIdsToSend(batchSize);
+            return CompletableFuture.allOf(partition(ids).stream()
+                    .map(chunk -> CompletableFuture.runAsync(() -> send(chunk), executor))
+                    .toArray(CompletableFuture[]::new))
+                .whenComplete((result, e) -> sending.set(false));
+        } catch (RuntimeException e) {
+            sending.set(false);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void send(List<Long> ids) {
+        String token = UUID.randomUUID()
+            .toString();
+        Iterator<InvitationMail> remaining = invitationMailService.claim(ids, token)
+            .iterator();
+        while (remaining.hasNext()) {
+            try (EmailService.Connection connection = emailService.connect()) {
+                while (remaining.hasNext() && connection.isConnected()) {
+                    send(connection, remaining.next(), token);
+                }
+            } catch (MessagingException e) {
+                log.warn("SMTP 서버에 연결하지 못해 초대 메일을 나중에 다시 보냅니다", e);
+                remaining.forEachRemaining(mail -> invitationMailService.markFailed(mail.getId(), token));
+            }
+        }
+    }
+
+    private void send(EmailService.Connection connection, InvitationMail mail, String token) {
+        try {
+            connection.sendInviteEmail(mail.getEmail(), mail.getPlanTitle(), mail.getUuid());
+            invitationMailService.markSent(mail.getId(), token);
+        } catch (MessagingException e) {
+            log.warn("초대 메일 {}을 보내지 못해 나중에 다시 보냅니다", mail.getId(), e);
+            invitationMailService.markFailed(mail.getId(), token);
+        }
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        int size = (ids.size() + workers - 1) / workers;
+        List<List<Long>> result = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += size) {
+            result.add(ids.subList(from, Math.min(from + size, ids.size())));
+        }
+        return result;
+    }
+}
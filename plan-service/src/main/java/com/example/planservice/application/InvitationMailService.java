@@ -0,0 +1,82 @@
+package com.example.planservice.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.domain.invitation.InvitationMail;
+import com.example.planservice.domain.invitation.InvitationMailStatus;
+import com.example.planservice.domain.invitation.repository.InvitationMailRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 초대 메일을 쌓아두고, 메일 작업이 보낼 메일을 나눠 가져가고 결과를 남기는 일을 맡는다.
+ * 메일을 가져간 작업이 결과를 남기지 못하고 죽으면, claim-timeout이 지난 뒤 다른 작업이 다시 가져간다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InvitationMailService {
+    private final InvitationMailRepository invitationMailRepository;
+
+    @Value("${planting.invitation.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${planting.invitation.retry-backoff:PT1M}")
+    private Duration retryBackoff;
+
+    @Value("${planting.invitation.claim-timeout:PT5M}")
+    private Duration claimTimeout;
+
+    /**
+     * 호출한 트랜잭션에 함께 저장되므로, 플랜이 커밋된 뒤에야 메일 작업이 볼 수 있다
+     */
+    @Transactional
+    public void enqueue(List<String> emails, String planTitle, String uuid) {
+        LocalDateTime now = LocalDateTime.now();
+        invitationMailRepository.saveAll(emails.stream()
+            .map(email -> InvitationMail.builder()
+                .email(email)
+                .planTitle(planTitle)
+                .uuid(uuid)
+                .nextAttemptAt(now)
+                .build())
+            .toList());
+    }
+
+    public List<Long> findIdsToSend(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return invitationMailRepository.findIdsToSend(InvitationMailStatus.PENDING, InvitationMailStatus.SENDING,
+            now, now.minus(claimTimeout), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 주어진 메일 중 아직 아무도 가져가지 않은 것만 token으로 표시해서 돌려준다
+     */
+    @Transactional
+    public List<InvitationMail> claim(List<Long> ids, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        invitationMailRepository.claim(ids, token, InvitationMailStatus.PENDING, InvitationMailStatus.SENDING,
+            now, now.minus(claimTimeout));
+        return invitationMailRepository.findAllByClaimToken(token);
+    }
+
+    @Transactional
+    public void markSent(Long id, String token) {
+        invitationMailRepository.findById(id)
+            .filter(mail -> mail.isClaimedBy(token))
+            .ifPresent(InvitationMail::markSent);
+    }
+
+    @Transactional
+    public void markFailed(Long id, String token) {
+        invitationMailRepository.findById(id)
+            .filter(mail -> mail.isClaimedBy(token))
+            .ifPresent(mail -> mail.markFailed(LocalDateTime.now(), maxAttempts, retryBackoff));
+    }
+}
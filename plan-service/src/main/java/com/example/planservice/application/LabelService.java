@@ -7,6 +7,7 @@ import com.example.planservice.application.dto.LabelDeleteServiceRequest;
 import com.example.planservice.domain.label.Label;
 import com.example.planservice.domain.label.repository.LabelRepository;
 import com.example.planservice.domain.plan.Plan;
+import com.example.planservice.domain.planchange.PlanChangeType;
 import com.example.planservice.exception.ApiException;
 import com.example.planservice.exception.ErrorCode;
 import com.example.planservice.presentation.dto.request.LabelCreateRequest;
@@ -19,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 public class LabelService {
     private final LabelRepository labelRepository;
     private final PlanMembershipService planMembershipService;
+    private final PlanRevisionService planRevisionService;
 
     @Transactional
     public Long create(Long memberId, LabelCreateRequest request) {
@@ -31,6 +33,7 @@ public class LabelService {
 
         Label label = Label.create(name, plan);
         Label savedEntity = labelRepository.save(label);
+        planRevisionService.increase(plan.getId(), PlanChangeType.LABEL_CREATED, savedEntity.getId());
         return savedEntity.getId();
     }
 
@@ -43,6 +46,7 @@ public class LabelService {
 
         labelRepository.delete(label);
         plan.removeLabel(label);
+        planRevisionService.increase(plan.getId(), PlanChangeType.LABEL_DELETED, label.getId());
     }
 
     public LabelFindResponse find(Long labelId, Long memberId) {
@@ -50,7 +54,7 @@ public class LabelService {
             .orElseThrow(() -> new ApiException(ErrorCode.LABEL_NOT_FOUND));
         Plan plan = label.getPlan();
         if (!plan.isPublic()) {
-            planMembershipService.validateMemberIsInThePlan(memberId, plan);
+            planMembershipService.validateMember(memberId, plan);
         }
         return LabelFindResponse.from(label);
     }
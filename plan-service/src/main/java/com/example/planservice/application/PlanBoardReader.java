@@ -0,0 +1,216 @@
+package com.example.planservice.application;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.application.dto.TaskPage;
+import com.example.planservice.config.BoardProperties;
+import com.example.planservice.domain.label.repository.LabelRepository;
+import com.example.planservice.domain.memberofplan.repository.MemberOfPlanRepository;
+import com.example.planservice.domain.plan.Plan;
+import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.domain.plan.repository.PlanSummary;
+import com.example.planservice.domain.tab.repository.TabRepository;
+import com.example.planservice.domain.tab.repository.TabSummary;
+import com.example.planservice.domain.task.TaskCursor;
+import com.example.planservice.domain.task.repository.LabelOfTaskRepository;
+import com.example.planservice.domain.task.repository.LabelOfTaskSummary;
+import com.example.planservice.domain.task.repository.TaskRepository;
+import com.example.planservice.domain.task.repository.TaskSummary;
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import com.example.planservice.presentation.dto.response.LabelOfPlanResponse;
+import com.example.planservice.presentation.dto.response.MemberOfPlanResponse;
+import com.example.planservice.presentation.dto.response.PlanMainResponse;
+import com.example.planservice.presentation.dto.response.PlanResponse;
+import com.example.planservice.presentation.dto.response.TabOfPlanResponse;
+import com.example.planservice.presentation.dto.response.TabTaskPageResponse;
+import com.example.planservice.presentation.dto.response.TaskOfPlanResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 보드 화면을 그리기 위한 읽기 전용 로더.
+ * 엔티티 그래프를 따라가지 않고 필요한 테이블을 각각 한 번의 쿼리로 읽는다.
+ * 태스크는 탭과 rank 순서로 정렬된 채 읽히므로 탭별로 나누기만 하면 되고, 탭은 메모리에서 순서를 맞춘다.
+ * 따라서 플랜, 탭, 태스크의 개수와 관계없이 쿼리 수가 일정하다.
+ * 태스크는 탭마다 앞에서부터 한 페이지만 읽고, 나머지는 탭별 커서로 이어서 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanBoardReader {
+    private final PlanRepository planRepository;
+    private final TabRepository tabRepository;
+    private final TaskRepository taskRepository;
+    private final MemberOfPlanRepository memberOfPlanRepository;
+    private final LabelRepository labelRepository;
+    private final LabelOfTaskRepository labelOfTaskRepository;
+    private final BoardProperties boardProperties;
+
+    public List<PlanMainResponse> readMainBoards(Long memberId) {
+        List<PlanSummary> plans = planRepository.findAllSummariesByMemberId(memberId);
+        if (plans.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> planIds = plans.stream()
+            .map(PlanSummary::id)
+            .toList();
+
+        Map<Long, List<TabSummary>> tabsByPlanId = tabRepository.findAllSummariesByPlanIdIn(planIds)
+            .stream()
+            .collect(groupingBy(TabSummary::planId));
+        int limit = boardProperties.getTaskPageSize();
+        Map<Long, TaskPage> pagesByTabId = readFirstPages(planIds, limit);
+
+        return plans.stream()
+            .map(plan -> {
+                List<TabSummary> sortedTabs = sortTabs(tabsByPlanId.getOrDefault(plan.id(), List.of()));
+                List<Long> tabOrder = sortedTabs.stream()
+                    .map(TabSummary::id)
+                    .toList();
+                List<PlanMainResponse.TabInfo> tabs = sortedTabs.stream()
+                    .map(tab -> toTabInfo(tab, pagesByTabId.getOrDefault(tab.id(), TaskPage.EMPTY)))
+                    .toList();
+                return PlanMainResponse.from(plan, tabOrder, tabs);
+            })
+            .toList();
+    }
+
+    /**
+     * 플랜 하나의 스냅샷을 만든다. 플랜, 멤버, 라벨, 탭, 태스크, 태스크의 라벨을 각각 한 번씩만 조회한다.
+     * 태스크는 탭마다 limit개까지만 담고, 더 남아있는 탭에는 다음 페이지의 커서를 함께 내려준다.
+     */
+    public PlanResponse readPlanSnapshot(Long planId, Integer limit) {
+        int pageSize = boardProperties.resolveTaskPageSize(limit);
+        Plan plan = planRepository.findById(planId)
+            .orElseThrow(() -> new ApiException(ErrorCode.PLAN_NOT_FOUND));
+        Long ownerId = plan.getOwner() != null ? plan.getOwner()
+            .getId() : null;
+
+        List<MemberOfPlanResponse> members = memberOfPlanRepository.findAllWithMemberByPlanId(planId)
+            .stream()
+            .map(memberOfPlan -> MemberOfPlanResponse.from(memberOfPlan.getMember(), ownerId))
+            .toList();
+        List<LabelOfPlanResponse> labels = labelRepository.findAllByPlanIdOrderById(planId)
+            .stream()
+            .map(LabelOfPlanResponse::from)
+            .toList();
+
+        List<TabSummary> sortedTabs = sortTabs(tabRepository.findAllSummariesByPlanIdIn(List.of(planId)));
+        Map<Long, TaskPage> pagesByTabId = readFirstPages(List.of(planId), pageSize);
+        List<Long> taskIds = pagesByTabId.values()
+            .stream()
+            .flatMap(page -> page.taskIds()
+                .stream())
+            .toList();
+        Map<Long, List<Long>> labelIdsByTaskId = readLabelIds(taskIds);
+
+        List<TabOfPlanResponse> tabs = new ArrayList<>();
+        List<TaskOfPlanResponse> tasks = new ArrayList<>();
+        for (TabSummary tab : sortedTabs) {
+            TaskPage page = pagesByTabId.getOrDefault(tab.id(), TaskPage.EMPTY);
+            tabs.add(TabOfPlanResponse.from(tab, page.taskIds(), page.nextCursor()));
+            page.tasks()
+                .forEach(task ->
+                    tasks.add(TaskOfPlanResponse.from(task, labelIdsByTaskId.getOrDefault(task.id(), List.of()))));
+        }
+        List<Long> tabOrder = sortedTabs.stream()
+            .map(TabSummary::id)
+            .toList();
+
+        return PlanResponse.builder()
+            .id(plan.getId())
+            .title(plan.getTitle())
+            .description(plan.getIntro())
+            .members(members)
+            .tabOrder(tabOrder)
+            .tabs(tabs)
+            .tasks(tasks)
+            .labels(labels)
+            .isPublic(plan.isPublic())
+            .build();
+    }
+
+    /**
+     * 탭 하나의 태스크를 after 커서 뒤에서부터 limit개 읽는다. after가 없으면 맨 앞에서부터 읽는다.
+     */
+    public TaskPage readTaskPage(Long tabId, String after, Integer limit) {
+        int pageSize = boardProperties.resolveTaskPageSize(limit);
+        PageRequest pageable = PageRequest.of(0, pageSize + 1);
+        if (after == null) {
+            return TaskPage.of(taskRepository.findSummariesByTabId(tabId, pageable), pageSize);
+        }
+        TaskCursor cursor = TaskCursor.decode(after);
+        return TaskPage.of(taskRepository.findSummariesByTabIdAfter(tabId, cursor.rank(), cursor.id(), pageable),
+            pageSize);
+    }
+
+    /**
+     * 탭 하나의 태스크 한 페이지를 라벨과 함께 읽는다
+     */
+    public TabTaskPageResponse readTabTasks(Long tabId, String after, Integer limit) {
+        TaskPage page = readTaskPage(tabId, after, limit);
+        Map<Long, List<Long>> labelIdsByTaskId = readLabelIds(page.taskIds());
+        List<TaskOfPlanResponse> tasks = page.tasks()
+            .stream()
+            .map(task -> TaskOfPlanResponse.from(task, labelIdsByTaskId.getOrDefault(task.id(), List.of())))
+            .toList();
+        return new TabTaskPageResponse(tasks, page.nextCursor());
+    }
+
+    /**
+     * 플랜들의 탭마다 첫 페이지를 한 번의 쿼리로 읽는다. 다음 페이지가 있는지 알 수 있도록 탭마다 하나씩 더 읽는다.
+     */
+    private Map<Long, TaskPage> readFirstPages(List<Long> planIds, int limit) {
+        Map<Long, List<TaskSummary>> tasksByTabId = taskRepository.findFirstSummariesOfEachTab(planIds, limit + 1)
+            .stream()
+            .collect(groupingBy(TaskSummary::tabId));
+        return tasksByTabId.entrySet()
+            .stream()
+            .collect(toMap(Map.Entry::getKey, entry -> TaskPage.of(entry.getValue(), limit)));
+    }
+
+    private Map<Long, List<Long>> readLabelIds(List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return labelOfTaskRepository.findAllSummariesByTaskIdIn(taskIds)
+            .stream()
+            .collect(groupingBy(LabelOfTaskSummary::taskId, mapping(LabelOfTaskSummary::labelId, toList())));
+    }
+
+    private PlanMainResponse.TabInfo toTabInfo(TabSummary tab, TaskPage page) {
+        List<PlanMainResponse.TaskInfo> taskList = page.tasks()
+            .stream()
+            .map(PlanMainResponse.TaskInfo::from)
+            .toList();
+        return PlanMainResponse.TabInfo.from(tab, page.taskIds(), taskList, page.nextCursor());
+    }
+
+    static List<TabSummary> sortTabs(List<TabSummary> tabs) {
+        Map<Long, TabSummary> tabsById = tabs.stream()
+            .collect(toMap(TabSummary::id, Function.identity()));
+        List<TabSummary> result = new ArrayList<>();
+        TabSummary temp = tabs.stream()
+            .filter(TabSummary::first)
+            .findFirst()
+            .orElse(null);
+        while (temp != null && result.size() < tabs.size()) {
+            result.add(temp);
+            temp = tabsById.get(temp.nextId());
+        }
+        return result;
+    }
+}
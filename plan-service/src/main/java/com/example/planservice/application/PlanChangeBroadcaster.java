@@ -0,0 +1,80 @@
+package com.example.planservice.application;
+
+import java.io.IOException;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.planservice.application.dto.PlanChangeMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 플랜 변경을 Redis 채널로 모든 인스턴스에 퍼뜨리고, 채널로 받은 변경을 이 인스턴스의 구독자에게 넘긴다.
+ * 변경을 만든 인스턴스도 채널을 통해서만 받으므로, 모든 인스턴스의 구독자가 같은 경로로 같은 순서의 변경을 받는다.
+ * 알림은 최선을 다해 보낼 뿐이고, 빠진 변경은 클라이언트가 변경분 조회로 채운다.
+ * Redis에 연결할 수 없으면 알림만 멈추고, 채널 구독은 주기적으로 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanChangeBroadcaster implements MessageListener {
+    public static final String CHANNEL_PATTERN = "plan:changes:*";
+    private static final String CHANNEL_PREFIX = "plan:changes:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PlanChangeStreams planChangeStreams;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void listen() {
+        redisMessageListenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PATTERN));
+        ready = true;
+        startListening();
+    }
+
+    @Scheduled(fixedDelayString = "${planting.plan.stream.reconnect-delay:PT30S}")
+    public void startListening() {
+        if (!ready || redisMessageListenerContainer.isRunning()) {
+            return;
+        }
+        try {
+            redisMessageListenerContainer.start();
+        } catch (DataAccessException e) {
+            redisMessageListenerContainer.stop();
+            log.warn("플랜 변경 채널을 구독하지 못해 다음에 다시 시도합니다", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void publish(PlanChangeMessage message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + message.planId(), objectMapper.writeValueAsString(message));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("플랜 변경을 알리지 못했습니다. planId={}, revision={}", message.planId(), message.revision(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            planChangeStreams.dispatch(objectMapper.readValue(message.getBody(), PlanChangeMessage.class));
+        } catch (IOException e) {
+            log.warn("플랜 변경 알림을 읽지 못했습니다", e);
+        }
+    }
+}
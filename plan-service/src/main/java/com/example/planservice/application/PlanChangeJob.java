@@ -0,0 +1,38 @@
+package com.example.planservice.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.domain.planchange.repository.PlanChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관 기간이 지난 플랜 변경 기록 중 메시지 브로커로 보낸 것을 주기적으로 지운다.
+ * 지워진 구간을 지나야 하는 클라이언트는 변경분 대신 전체 스냅샷을 받게 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanChangeJob {
+    private final PlanChangeRepository planChangeRepository;
+
+    @Value("${planting.plan.changes.retention:P7D}")
+    private Duration retention;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${planting.plan.changes.compact-delay:PT1H}",
+        initialDelayString = "${planting.plan.changes.compact-delay:PT1H}")
+    public void compact() {
+        int deleted = planChangeRepository.deleteAllPublishedBefore(LocalDateTime.now()
+            .minus(retention));
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 플랜 변경 기록 {}개를 지웠습니다", deleted);
+        }
+    }
+}
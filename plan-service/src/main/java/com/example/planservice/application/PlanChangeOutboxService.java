@@ -0,0 +1,61 @@
+package com.example.planservice.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.domain.planchange.PlanChange;
+import com.example.planservice.domain.planchange.PlanChangeRelayLease;
+import com.example.planservice.domain.planchange.repository.PlanChangeBacklog;
+import com.example.planservice.domain.planchange.repository.PlanChangeRelayLeaseRepository;
+import com.example.planservice.domain.planchange.repository.PlanChangeRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 플랜 변경 기록을 outbox로 읽고, 메시지 브로커로 보낸 기록을 표시한다.
+ * 변경 기록은 {@link PlanRevisionService}가 플랜을 바꾸는 트랜잭션 안에서 남기므로, 커밋된 변경만 여기서 보인다.
+ * 여러 인스턴스 중 임대를 가진 relay 하나만 보내며, 임대를 가진 인스턴스가 죽으면 lease가 지난 뒤 다른 인스턴스가 가져간다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanChangeOutboxService {
+    private final PlanChangeRepository planChangeRepository;
+    private final PlanChangeRelayLeaseRepository planChangeRelayLeaseRepository;
+
+    @Value("${planting.plan.outbox.lease:PT30S}")
+    private Duration lease;
+
+    public List<PlanChange> findUnpublished(int limit) {
+        return planChangeRepository.findAllUnpublished(PageRequest.of(0, limit));
+    }
+
+    public PlanChangeBacklog getBacklog() {
+        return planChangeRepository.findBacklog();
+    }
+
+    @Transactional
+    public void markPublished(Collection<Long> ids) {
+        planChangeRepository.markPublished(ids, LocalDateTime.now());
+    }
+
+    /**
+     * 임대를 가져오거나 연장한다. 다른 relay가 임대를 가지고 있으면 false를 돌려준다.
+     */
+    @Transactional
+    public boolean acquireLease(String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        return planChangeRelayLeaseRepository.acquire(PlanChangeRelayLease.NAME, owner, now, now.plus(lease)) > 0;
+    }
+
+    @Transactional
+    public void releaseLease(String owner) {
+        planChangeRelayLeaseRepository.release(PlanChangeRelayLease.NAME, owner);
+    }
+}
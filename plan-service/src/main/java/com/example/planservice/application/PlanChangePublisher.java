@@ -0,0 +1,66 @@
+package com.example.planservice.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.planservice.application.dto.PlanChangeMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 플랜 변경을 RabbitMQ exchange로 보낸다. routing key는 변경의 종류이고,
+ * message id는 플랜과 revision으로 정해지므로 같은 변경을 두 번 받은 쪽은 message id로 걸러낼 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanChangePublisher {
+    private static final String ROUTING_KEY_PREFIX = "plan.change.";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${planting.plan.outbox.exchange:planting.plan-changes}")
+    private String exchange;
+
+    @Value("${planting.plan.outbox.confirm-timeout:PT5S}")
+    private Duration confirmTimeout;
+
+    /**
+     * 하나의 채널로 순서대로 보내고, 브로커가 모두 받았다고 확인해줄 때까지 기다린다.
+     * 확인받지 못하면 AmqpException을 던지므로, 호출한 쪽은 보낸 적이 없는 것으로 보고 다시 보내야 한다.
+     */
+    public void publish(List<PlanChangeMessage> messages) {
+        rabbitTemplate.invoke(operations -> {
+            for (PlanChangeMessage message : messages) {
+                operations.send(exchange, ROUTING_KEY_PREFIX + message.type()
+                    .name()
+                    .toLowerCase(Locale.ROOT), toMessage(message));
+            }
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+    }
+
+    private Message toMessage(PlanChangeMessage message) {
+        try {
+            return MessageBuilder.withBody(objectMapper.writeValueAsBytes(message))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setMessageId(message.planId() + ":" + message.revision())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setHeader("planId", message.planId())
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.planservice.application;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.planservice.application.dto.PlanChangeMessage;
+import com.example.planservice.domain.planchange.PlanChange;
+import com.example.planservice.domain.planchange.repository.PlanChangeBacklog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아직 보내지 않은 플랜 변경 기록을 주기적으로 읽어 메시지 브로커로 보낸다.
+ * 브로커가 받았다고 확인한 뒤에 보낸 것으로 표시하므로, 그 사이에 죽으면 같은 변경을 한 번 더 보낼 수 있다.
+ * 같은 플랜의 변경은 한 스레드가 revision 순서대로 보내고, 앞의 변경을 보내지 못하면 뒤의 변경도 다음 주기로 미룬다.
+ * 인스턴스가 여럿이어도 임대를 가진 relay만 보내고, 묶음마다 임대를 연장하므로 한 묶음은 lease 안에 보내져야 한다.
+ */
+@Slf4j
+@Component
+public class PlanChangeRelay {
+    private final PlanChangeOutboxService planChangeOutboxService;
+    private final PlanChangePublisher planChangePublisher;
+    private final String owner = UUID.randomUUID()
+        .toString();
+    private final ExecutorService executor;
+    private final Counter published;
+    private final Counter failed;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final int workers;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public PlanChangeRelay(PlanChangeOutboxService planChangeOutboxService, PlanChangePublisher planChangePublisher,
+                           MeterRegistry meterRegistry,
+                           @Value("${planting.plan.outbox.workers:4}") int workers,
+                           @Value("${planting.plan.outbox.batch-size:500}") int batchSize,
+                           @Value("${planting.plan.outbox.max-batches:10}") int maxBatches) {
+        this.planChangeOutboxService = planChangeOutboxService;
+        this.planChangePublisher = planChangePublisher;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.executor = Executors.newFixedThreadPool(workers);
+        this.published = meterRegistry.counter("plan.outbox.published");
+        this.failed = meterRegistry.counter("plan.outbox.failed");
+        meterRegistry.gauge("plan.outbox.pending", pending);
+        TimeGauge.builder("plan.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+            .description("아직 보내지 않은 가장 오래된 플랜 변경이 기다린 시간")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 한 번에 batch-size만큼 읽고, 다 찼다면 밀린 변경이 더 있으므로 이어서 다음 묶음을 보낸다.
+     * 보내지 못한 변경이 있으면 다음 주기까지 기다린다.
+     * 변경이 계속 밀려 들어와도 스케줄러 스레드를 붙잡고 있지 않도록, 한 주기에는 max-batches 묶음까지만 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${planting.plan.outbox.poll-delay:PT1S}",
+        initialDelayString = "${planting.plan.outbox.poll-delay:PT1S}")
+    public void relay() {
+        boolean hasMore = true;
+        for (int batch = 0; batch < maxBatches && hasMore && planChangeOutboxService.acquireLease(owner); batch++) {
+            List<PlanChange> changes = planChangeOutboxService.findUnpublished(batchSize);
+            hasMore = publish(changes) && changes.size() == batchSize;
+        }
+        updateBacklog();
+    }
+
+    /**
+     * 임대를 돌려줘서 다른 인스턴스가 lease를 기다리지 않고 바로 이어서 보내게 한다
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+        try {
+            planChangeOutboxService.releaseLease(owner);
+        } catch (DataAccessException e) {
+            log.warn("플랜 변경 전송 임대를 돌려주지 못했습니다", e);
+        }
+    }
+
+    /**
+     * 모든 스레드가 맡은 플랜의 변경을 다 보낼 때까지 기다리므로, 다음 묶음이나 다음 주기와 겹치지 않는다
+     */
+    private boolean publish(List<PlanChange> changes) {
+        AtomicBoolean allPublished = new AtomicBoolean(true);
+        CompletableFuture.allOf(partition(changes).stream()
+                .map(plans -> CompletableFuture.runAsync(() -> plans.forEach(changesOfPlan -> {
+                    if (!publishPlan(changesOfPlan)) {
+                        allPublished.set(false);
+                    }
+                }), executor))
+                .toArray(CompletableFuture[]::new))
+            .join();
+        return allPublished.get();
+    }
+
+    private boolean publishPlan(List<PlanChange> changesOfPlan) {
+        try {
+            planChangePublisher.publish(changesOfPlan.stream()
+                .map(change -> new PlanChangeMessage(change.getPlanId(), change.getRevision(), change.getType(),
+                    change.getTargetId()))
+                .toList());
+            planChangeOutboxService.markPublished(changesOfPlan.stream()
+                .map(PlanChange::getId)
+                .toList());
+            published.increment(changesOfPlan.size());
+            return true;
+        } catch (AmqpException e) {
+            failed.increment(changesOfPlan.size());
+            log.warn("플랜 {}의 변경을 보내지 못해 다음에 다시 보냅니다", changesOfPlan.get(0)
+                .getPlanId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 변경을 플랜별로 revision 순서대로 묶고, 같은 플랜의 묶음은 항상 같은 스레드가 맡도록 플랜 아이디로 나눈다
+     */
+    private List<List<List<PlanChange>>> partition(List<PlanChange> changes) {
+        Map<Long, List<PlanChange>> changesByPlanId = changes.stream()
+            .collect(groupingBy(PlanChange::getPlanId, LinkedHashMap::new, toList()));
+        List<List<List<PlanChange>>> result = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            result.add(new ArrayList<>());
+        }
+        changesByPlanId.forEach((planId, changesOfPlan) -> result.get((int) Math.floorMod(planId, (long) workers))
+            .add(changesOfPlan));
+        return result;
+    }
+
+    private void updateBacklog() {
+        PlanChangeBacklog backlog = planChangeOutboxService.getBacklog();
+        pending.set(backlog.count());
+        lagMillis.set(backlog.oldestCreatedAt() == null ? 0 : Duration.between(backlog.oldestCreatedAt(),
+                LocalDateTime.now())
+            .toMillis());
+    }
+}
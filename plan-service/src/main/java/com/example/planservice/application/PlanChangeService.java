@@ -0,0 +1,177 @@
+package com.example.planservice.application;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.domain.label.Label;
+import com.example.planservice.domain.label.repository.LabelRepository;
+import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.domain.planchange.PlanChange;
+import com.example.planservice.domain.planchange.PlanChangeType;
+import com.example.planservice.domain.planchange.repository.PlanChangeRepository;
+import com.example.planservice.domain.tab.repository.TabRepository;
+import com.example.planservice.domain.tab.repository.TabSummary;
+import com.example.planservice.domain.task.repository.LabelOfTaskRepository;
+import com.example.planservice.domain.task.repository.LabelOfTaskSummary;
+import com.example.planservice.domain.task.repository.TaskPosition;
+import com.example.planservice.domain.task.repository.TaskRepository;
+import com.example.planservice.domain.task.repository.TaskSummary;
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import com.example.planservice.presentation.dto.response.LabelOfPlanResponse;
+import com.example.planservice.presentation.dto.response.PlanChangesResponse;
+import com.example.planservice.presentation.dto.response.PlanChangesResponse.ChangeInfo;
+import com.example.planservice.presentation.dto.response.PlanChangesResponse.TabChange;
+import com.example.planservice.presentation.dto.response.PlanChangesResponse.TaskChange;
+import com.example.planservice.presentation.dto.response.TaskOfPlanResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클라이언트가 가진 revision 이후의 변경분만 내려준다.
+ * 변경 기록에는 무엇이 바뀌었는지만 남기고, 바뀐 대상의 내용은 응답할 때 현재 상태를 읽어 채운다.
+ * 그 사이의 기록이 정리되어 빠졌거나, 변경이 너무 많거나, 변경분만으로 보드를 맞출 수 없는 변경이 있으면 전체 스냅샷을 내려준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanChangeService {
+    private final PlanService planService;
+    private final PlanMembershipService planMembershipService;
+    private final PlanRepository planRepository;
+    private final PlanChangeRepository planChangeRepository;
+    private final TabRepository tabRepository;
+    private final TaskRepository taskRepository;
+    private final LabelRepository labelRepository;
+    private final LabelOfTaskRepository labelOfTaskRepository;
+
+    @Value("${planting.plan.changes.max-ops:500}")
+    private int maxOps;
+
+    public PlanChangesResponse findChanges(Long planId, Long memberId, long since) {
+        planMembershipService.getReadablePlan(planId, memberId);
+
+        long revision = planRepository.findRevisionById(planId)
+            .orElseThrow(() -> new ApiException(ErrorCode.PLAN_NOT_FOUND));
+        if (since > revision || revision - since > maxOps) {
+            return snapshot(planId, revision);
+        }
+
+        List<PlanChange> changes = planChangeRepository.findAllAfter(planId, since, PageRequest.of(0, maxOps + 1))
+            .stream()
+            .filter(change -> change.getRevision() <= revision)
+            .toList();
+        boolean compacted = changes.size() != revision - since;
+        if (compacted || changes.stream()
+            .anyMatch(change -> change.getType()
+                .isSnapshotRequired())) {
+            return snapshot(planId, revision);
+        }
+        return delta(planId, revision, changes);
+    }
+
+    private PlanChangesResponse snapshot(Long planId, long revision) {
+        return PlanChangesResponse.ofSnapshot(revision, planService.getTotalPlanResponse(planId, null));
+    }
+
+    private PlanChangesResponse delta(Long planId, long revision, List<PlanChange> changes) {
+        Set<Long> taskIds = targetIds(changes, PlanChangeType.Target.TASK);
+        Set<Long> tabIds = targetIds(changes, PlanChangeType.Target.TAB);
+        Set<Long> labelIds = targetIds(changes, PlanChangeType.Target.LABEL);
+
+        List<TaskSummary> tasks = taskIds.isEmpty() ? List.of() : taskRepository.findSummariesByIdIn(taskIds);
+        Map<Long, List<Long>> labelIdsByTaskId = readLabelIds(tasks);
+        List<TaskChange> taskChanges = tasks.stream()
+            .map(task -> TaskChange.builder()
+                .task(TaskOfPlanResponse.from(task, labelIdsByTaskId.getOrDefault(task.id(), List.of())))
+                .prevId(findPrevId(task))
+                .build())
+            .toList();
+
+        List<TabSummary> sortedTabs = List.of();
+        if (!tabIds.isEmpty()) {
+            sortedTabs = PlanBoardReader.sortTabs(tabRepository.findAllSummariesByPlanIdIn(List.of(planId)));
+        }
+        Map<Long, TabSummary> tabsById = sortedTabs.stream()
+            .collect(toMap(TabSummary::id, Function.identity()));
+
+        Map<Long, Label> labelsById = labelRepository.findAllById(labelIds)
+            .stream()
+            .collect(toMap(Label::getId, Function.identity()));
+
+        return PlanChangesResponse.builder()
+            .revision(revision)
+            .snapshot(false)
+            .changes(changes.stream()
+                .map(ChangeInfo::from)
+                .toList())
+            .tasks(taskChanges)
+            .deletedTaskIds(missing(taskIds, tasks.stream()
+                .map(TaskSummary::id)
+                .toList()))
+            .tabOrder(tabIds.isEmpty() ? null : sortedTabs.stream()
+                .map(TabSummary::id)
+                .toList())
+            .tabs(tabIds.stream()
+                .filter(tabsById::containsKey)
+                .map(tabId -> TabChange.from(tabsById.get(tabId)))
+                .toList())
+            .deletedTabIds(missing(tabIds, tabsById.keySet()))
+            .labels(labelIds.stream()
+                .filter(labelsById::containsKey)
+                .map(labelId -> LabelOfPlanResponse.from(labelsById.get(labelId)))
+                .toList())
+            .deletedLabelIds(missing(labelIds, labelsById.keySet()))
+            .build();
+    }
+
+    private Long findPrevId(TaskSummary task) {
+        List<TaskPosition> prev = taskRepository.findPositionsBefore(task.tabId(), task.rank(), task.id(),
+            PageRequest.of(0, 1));
+        return prev.isEmpty() ? null : prev.get(0)
+            .id();
+    }
+
+    private Map<Long, List<Long>> readLabelIds(List<TaskSummary> tasks) {
+        if (tasks.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return labelOfTaskRepository.findAllSummariesByTaskIdIn(tasks.stream()
+                .map(TaskSummary::id)
+                .toList())
+            .stream()
+            .collect(groupingBy(LabelOfTaskSummary::taskId, mapping(LabelOfTaskSummary::labelId, toList())));
+    }
+
+    private static Set<Long> targetIds(List<PlanChange> changes, PlanChangeType.Target target) {
+        Set<Long> result = new LinkedHashSet<>();
+        for (PlanChange change : changes) {
+            if (change.getType()
+                .getTarget() == target) {
+                result.add(change.getTargetId());
+            }
+        }
+        return result;
+    }
+
+    private static List<Long> missing(Set<Long> targetIds, Collection<Long> existingIds) {
+        List<Long> result = new ArrayList<>(targetIds);
+        result.removeAll(existingIds);
+        return result;
+    }
+}
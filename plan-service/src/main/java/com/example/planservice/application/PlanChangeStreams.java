@@ -0,0 +1,162 @@
+package com.example.planservice.application;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.planservice.application.dto.PlanChangeMessage;
+import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 이 인스턴스에 연결된 플랜 변경 구독자들을 관리한다.
+ * 다른 인스턴스에서 일어난 변경도 Redis를 통해 dispatch로 들어오므로, 구독자는 어느 인스턴스에 연결되어 있어도 모든 변경을 받는다.
+ * 연결마다 보낼 수 있는 이벤트 수와 인스턴스가 받을 수 있는 연결 수를 제한해서, 느린 클라이언트가 메모리를 계속 차지하지 못하게 한다.
+ * 멤버 구성이 바뀌면 해당 멤버의 연결을 끊고, 다시 연결할 때 권한을 새로 확인한다.
+ */
+@Component
+public class PlanChangeStreams {
+    private final PlanMembershipService planMembershipService;
+    private final PlanRepository planRepository;
+    private final Map<Long, Set<PlanChangeSubscriber>> subscribersByPlanId = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ExecutorService executor;
+    private final Counter overflows;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+
+    @SuppressWarnings("java:S107")
+    public PlanChangeStreams(PlanMembershipService planMembershipService, PlanRepository planRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${planting.plan.stream.buffer-size:64}") int bufferSize,
+                             @Value("${planting.plan.stream.max-subscribers:2000}") int maxSubscribers,
+                             @Value("${planting.plan.stream.timeout:PT30M}") Duration timeout,
+                             @Value("${planting.plan.stream.send-threads:4}") int sendThreads) {
+        this.planMembershipService = planMembershipService;
+        this.planRepository = planRepository;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.executor = Executors.newFixedThreadPool(sendThreads);
+        this.overflows = meterRegistry.counter("plan.stream.overflow");
+        meterRegistry.gauge("plan.stream.subscribers", size);
+    }
+
+    /**
+     * 플랜의 변경을 구독한다. 처음에는 현재 revision을 보내서, 클라이언트가 어디서부터 변경분을 받으면 되는지 알려준다.
+     */
+    public SseEmitter subscribe(Long planId, Long memberId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        // 권한을 확인하기 전에 등록해야, 확인한 뒤 등록하기 전에 내보내진 멤버의 연결도 disconnect가 끊는다
+        PlanChangeSubscriber subscriber = register(planId, memberId, emitter);
+        try {
+            planMembershipService.getReadablePlan(planId, memberId);
+            long revision = planRepository.findRevisionById(planId)
+                .orElseThrow(() -> new ApiException(ErrorCode.PLAN_NOT_FOUND));
+            subscriber.offer(() -> SseEmitter.event()
+                .id(String.valueOf(revision))
+                .name("revision")
+                .data(revision));
+        } catch (ApiException e) {
+            subscriber.close();
+            throw e;
+        }
+        return emitter;
+    }
+
+    PlanChangeSubscriber register(Long planId, Long memberId, SseEmitter emitter) {
+        if (size.incrementAndGet() > maxSubscribers) {
+            size.decrementAndGet();
+            throw new ApiException(ErrorCode.PLAN_STREAM_UNAVAILABLE);
+        }
+        PlanChangeSubscriber[] holder = new PlanChangeSubscriber[1];
+        holder[0] = new PlanChangeSubscriber(planId, memberId, emitter, bufferSize, executor,
+            () -> unregister(holder[0]));
+        subscribersByPlanId.computeIfAbsent(planId, id -> ConcurrentHashMap.newKeySet())
+            .add(holder[0]);
+        return holder[0];
+    }
+
+    /**
+     * 이 인스턴스에서 플랜을 구독 중인 연결마다 변경을 큐에 넣는다. 보내는 일은 각 연결의 큐를 비우는 스레드가 한다.
+     */
+    public void dispatch(PlanChangeMessage message) {
+        Set<PlanChangeSubscriber> subscribers = subscribersByPlanId.get(message.planId());
+        if (subscribers == null) {
+            return;
+        }
+        for (PlanChangeSubscriber subscriber : subscribers) {
+            boolean accepted = subscriber.offer(() -> SseEmitter.event()
+                .id(String.valueOf(message.revision()))
+                .name("change")
+                .data(message));
+            if (!accepted) {
+                overflows.increment();
+            }
+        }
+    }
+
+    /**
+     * 플랜에서 나가거나 내보내진 멤버의 연결을 끊는다. 플랜 전체가 바뀌었다면(플랜 삭제) 플랜의 모든 연결을 끊는다.
+     * 클라이언트가 다시 연결하면 subscribe가 권한을 다시 확인하므로, 공개 플랜이라면 멤버가 아니어도 이어서 받는다.
+     */
+    @EventListener
+    public void disconnect(PlanMembershipChangedEvent event) {
+        Set<PlanChangeSubscriber> subscribers = subscribersByPlanId.get(event.getPlanId());
+        if (subscribers == null) {
+            return;
+        }
+        boolean wholePlan = event.getMemberIds() == null || event.getMemberIds()
+            .isEmpty();
+        subscribers.stream()
+            .filter(subscriber -> wholePlan || event.getMemberIds()
+                .contains(subscriber.getMemberId()))
+            .toList()
+            .forEach(PlanChangeSubscriber::close);
+    }
+
+    /**
+     * 변경이 없는 동안 게이트웨이나 프록시가 연결을 끊지 않도록, 그리고 끊긴 연결을 찾아낼 수 있도록 주기적으로 주석을 보낸다
+     */
+    @Scheduled(fixedDelayString = "${planting.plan.stream.heartbeat:PT30S}")
+    public void heartbeat() {
+        subscribersByPlanId.values()
+            .forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(() -> SseEmitter.event()
+                .comment("heartbeat"))));
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribersByPlanId.values()
+            .forEach(subscribers -> subscribers.forEach(PlanChangeSubscriber::close));
+        executor.shutdownNow();
+    }
+
+    private void unregister(PlanChangeSubscriber subscriber) {
+        subscribersByPlanId.computeIfPresent(subscriber.getPlanId(), (planId, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                size.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
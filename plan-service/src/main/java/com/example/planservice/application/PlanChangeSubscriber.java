@@ -0,0 +1,103 @@
+package com.example.planservice.application;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import lombok.Getter;
+
+/**
+ * 플랜 변경을 구독하는 SSE 연결 하나.
+ * 보낼 이벤트는 크기가 정해진 큐에 담고, 공용 스레드가 큐를 비우며 차례로 보낸다. 한 연결의 큐는 동시에 한 스레드만 비운다.
+ * 클라이언트가 느려서 큐가 가득 차면 이벤트를 더 쌓지 않고 연결을 끊는다.
+ * 클라이언트는 다시 연결한 뒤 마지막으로 받은 revision으로 변경분을 조회해서 빠진 변경을 채운다.
+ */
+class PlanChangeSubscriber {
+    @Getter
+    private final Long planId;
+    @Getter
+    private final Long memberId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Supplier<SseEventBuilder>> queue;
+    private final Executor executor;
+    private final Runnable onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    PlanChangeSubscriber(Long planId, Long memberId, SseEmitter emitter, int bufferSize, Executor executor,
+                         Runnable onClose) {
+        this.planId = planId;
+        this.memberId = memberId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.executor = executor;
+        this.onClose = onClose;
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(e -> close());
+    }
+
+    /**
+     * 이벤트를 큐에 넣는다. 큐가 가득 차서 연결을 끊었으면 false를 돌려준다.
+     * 이벤트 빌더는 한 번 보내면 다시 쓸 수 없으므로, 보낼 때마다 새로 만들 수 있도록 Supplier로 받는다.
+     */
+    boolean offer(Supplier<SseEventBuilder> event) {
+        if (closed.get()) {
+            return true;
+        }
+        if (!queue.offer(event)) {
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        queue.clear();
+        onClose.run();
+        emitter.complete();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close();
+        }
+    }
+
+    private void drain() {
+        try {
+            Supplier<SseEventBuilder> event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                emitter.send(event.get());
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            draining.set(false);
+        }
+        if (!closed.get() && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
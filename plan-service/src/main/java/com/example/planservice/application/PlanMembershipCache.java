@@ -0,0 +1,99 @@
+package com.example.planservice.application;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.planservice.application.dto.PlanMembershipChange;
+import com.example.planservice.domain.memberofplan.repository.MemberOfPlanRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 멤버가 플랜에 속해 있는지를 인스턴스 메모리에 캐시한다.
+ * 속해 있다는 결과만 캐시하므로 새로 초대된 멤버가 거절되는 일은 없고, 나가거나 내보내진 멤버는 커밋 직후 모든 인스턴스에서 지운다.
+ * 버스 이벤트를 놓치더라도 TTL이 지나면 다시 확인한다.
+ * 캐시를 비울 때마다 플랜의 세대를 올리고, 조회를 시작한 뒤 세대가 바뀌었다면 조회 결과를 캐시에 넣지 않는다.
+ * 그래야 멤버를 내보내기 전에 시작된 조회가 캐시를 비운 뒤에 속해 있다는 결과를 다시 넣지 못한다.
+ */
+@Component
+public class PlanMembershipCache {
+    private final MemberOfPlanRepository memberOfPlanRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String busId;
+    private final Cache<Key, Boolean> cache;
+    private final Cache<Long, Long> generations;
+
+    public PlanMembershipCache(MemberOfPlanRepository memberOfPlanRepository,
+                               ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                               @Value("${spring.cloud.bus.id:application}") String busId,
+                               @Value("${planting.plan.membership-cache.max-size:10000}") long maxSize,
+                               @Value("${planting.plan.membership-cache.ttl:PT5M}") Duration ttl) {
+        this.memberOfPlanRepository = memberOfPlanRepository;
+        this.eventPublisher = eventPublisher;
+        this.busId = busId;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        // 세대는 진행 중인 조회와 비교할 때만 쓰이므로, 조회 결과보다 오래 남아 있기만 하면 된다
+        this.generations = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "plan.membership");
+    }
+
+    public boolean isMember(Long planId, Long memberId) {
+        Key key = new Key(planId, memberId);
+        if (cache.getIfPresent(key) != null) {
+            return true;
+        }
+        long generation = generationOf(planId);
+        boolean member = memberOfPlanRepository.existsByPlanIdAndMemberId(planId, memberId);
+        if (member) {
+            // 같은 키를 비우는 작업과 순서가 정해지도록 compute 안에서 세대를 확인한다
+            cache.asMap()
+                .compute(key, (k, cached) -> generationOf(planId) == generation ? Boolean.TRUE : cached);
+        }
+        return member;
+    }
+
+    /**
+     * 멤버 구성을 바꾼 트랜잭션이 커밋되면 버스로 알린다. 이 인스턴스도 같은 이벤트를 받아 캐시를 비운다.
+     */
+    @TransactionalEventListener
+    public void publish(PlanMembershipChange change) {
+        eventPublisher.publishEvent(new PlanMembershipChangedEvent(this, busId, change.planId(), change.memberIds()));
+    }
+
+    @EventListener
+    public void evict(PlanMembershipChangedEvent event) {
+        generations.asMap()
+            .merge(event.getPlanId(), 1L, Long::sum);
+        if (event.getMemberIds() == null || event.getMemberIds()
+            .isEmpty()) {
+            cache.asMap()
+                .keySet()
+                .removeIf(key -> Objects.equals(key.planId(), event.getPlanId()));
+            return;
+        }
+        event.getMemberIds()
+            .forEach(memberId -> cache.invalidate(new Key(event.getPlanId(), memberId)));
+    }
+
+    private long generationOf(Long planId) {
+        Long generation = generations.getIfPresent(planId);
+        return generation == null ? 0L : generation;
+    }
+
+    private record Key(Long planId, Long memberId) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.planservice.application;
+
+import java.util.List;
+
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+import lombok.Getter;
+
+/**
+ * 멤버 구성이 바뀐 플랜을 모든 인스턴스에 알리는 버스 이벤트. 받은 인스턴스는 해당 멤버십 캐시를 비운다.
+ */
+@Getter
+public class PlanMembershipChangedEvent extends RemoteApplicationEvent {
+    private Long planId;
+    private List<Long> memberIds;
+
+    @SuppressWarnings("unused")
+    public PlanMembershipChangedEvent() {
+        // 버스에서 역직렬화할 때 사용한다
+    }
+
+    public PlanMembershipChangedEvent(Object source, String originService, Long planId, List<Long> memberIds) {
+        super(source, originService);
+        this.planId = planId;
+        this.memberIds = memberIds;
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.planservice.application;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,11 +24,24 @@ import lombok.RequiredArgsConstructor;
 public class PlanMembershipService {
     private final PlanRepository planRepository;
     private final MemberOfPlanRepository memberOfPlanRepository;
+    private final PlanMembershipCache planMembershipCache;
 
     public Plan getPlanAfterValidateAuthorization(Long planId, Long memberId) {
         Plan plan = planRepository.findById(planId)
             .orElseThrow(() -> new ApiException(ErrorCode.PLAN_NOT_FOUND));
-        validateMemberIsInThePlan(memberId, plan);
+        validateMember(memberId, plan);
+        return plan;
+    }
+
+    /**
+     * 공개 플랜은 누구나, 비공개 플랜은 플랜에 속한 멤버만 읽을 수 있다
+     */
+    public Plan getReadablePlan(Long planId, Long memberId) {
+        Plan plan = planRepository.findById(planId)
+            .orElseThrow(() -> new ApiException(ErrorCode.PLAN_NOT_FOUND));
+        if (!plan.isPublic()) {
+            validateMember(memberId, plan);
+        }
         return plan;
     }
 
@@ -36,6 +53,15 @@ public class PlanMembershipService {
         return Objects.equals(memberId, owner.getId());
     }
 
+    /**
+     * 멤버가 플랜에 속해 있는지만 확인한다. 매 요청마다 반복되는 확인이므로 캐시된 결과를 사용한다
+     */
+    public void validateMember(Long memberId, Plan plan) {
+        if (!planMembershipCache.isMember(plan.getId(), memberId)) {
+            throw new ApiException(ErrorCode.MEMBER_NOT_FOUND_IN_PLAN);
+        }
+    }
+
     public MemberOfPlan validateMemberIsInThePlan(Long memberId, Plan plan) {
         return validateMemberIsInThePlan(memberId, plan.getId());
     }
@@ -50,4 +76,23 @@ public class PlanMembershipService {
         return memberOfPlan.getMember();
     }
 
+    /**
+     * 여러 멤버를 플랜의 멤버 목록 한 번의 조회로 확인한다. 한 명이라도 플랜에 속하지 않으면 실패한다
+     */
+    public Map<Long, Member> getMembersBelongingToPlan(Collection<Long> memberIds, Plan plan) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Member> membersById = memberOfPlanRepository.findAllWithMemberByPlanId(plan.getId())
+            .stream()
+            .map(MemberOfPlan::getMember)
+            .filter(member -> memberIds.contains(member.getId()))
+            .collect(Collectors.toMap(Member::getId, Function.identity()));
+        if (!membersById.keySet()
+            .containsAll(memberIds)) {
+            throw new ApiException(ErrorCode.MEMBER_NOT_FOUND_IN_PLAN);
+        }
+        return membersById;
+    }
+
 }
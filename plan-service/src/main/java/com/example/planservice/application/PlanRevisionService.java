@@ -0,0 +1,49 @@
+package com.example.planservice.application;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.application.dto.PlanChangeMessage;
+import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.domain.planchange.PlanChange;
+import com.example.planservice.domain.planchange.PlanChangeType;
+import com.example.planservice.domain.planchange.repository.PlanChangeRepository;
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 플랜의 revision과 변경 기록을 관리한다.
+ * 플랜의 내용을 바꾸는 모든 유스케이스는 같은 트랜잭션 안에서 revision을 올리고 무엇이 바뀌었는지 남겨야 한다.
+ * 변경과 revision이 함께 커밋되므로, 새 revision을 읽은 쪽은 항상 변경된 내용을 보게 된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanRevisionService {
+    private final PlanRepository planRepository;
+    private final PlanChangeRepository planChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * revision을 올리고 올라간 revision으로 변경을 기록한다.
+     * revision을 올리는 update가 플랜 행에 잠금을 걸기 때문에, 같은 플랜의 변경은 서로 다른 revision을 받는다.
+     * 구독 중인 클라이언트에게는 트랜잭션이 커밋된 뒤에 알린다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long increase(Long planId, PlanChangeType type, Long targetId) {
+        planRepository.increaseRevision(planId);
+        long revision = planRepository.findRevisionById(planId)
+            .orElseThrow(() -> new ApiException(ErrorCode.PLAN_NOT_FOUND));
+        planChangeRepository.save(PlanChange.builder()
+            .planId(planId)
+            .revision(revision)
+            .type(type)
+            .targetId(targetId)
+            .build());
+        eventPublisher.publishEvent(new PlanChangeMessage(planId, revision, type, targetId));
+        return revision;
+    }
+}
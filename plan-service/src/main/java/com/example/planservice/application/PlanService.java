@@ -2,35 +2,35 @@ package com.example.planservice.application;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
-import com.example.planservice.domain.label.Label;
+import com.example.planservice.application.dto.PlanMembershipChange;
+import com.example.planservice.config.BoardProperties;
 import com.example.planservice.domain.member.Member;
 import com.example.planservice.domain.member.repository.MemberRepository;
 import com.example.planservice.domain.memberofplan.MemberOfPlan;
 import com.example.planservice.domain.memberofplan.repository.MemberOfPlanRepository;
 import com.example.planservice.domain.plan.Plan;
 import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.domain.planchange.PlanChangeType;
 import com.example.planservice.domain.tab.Tab;
-import com.example.planservice.domain.tab.TabGroup;
 import com.example.planservice.domain.tab.repository.TabRepository;
-import com.example.planservice.domain.task.Task;
-import com.example.planservice.domain.task.repository.TaskRepository;
 import com.example.planservice.exception.ApiException;
 import com.example.planservice.exception.ErrorCode;
 import com.example.planservice.presentation.dto.request.PlanCreateRequest;
 import com.example.planservice.presentation.dto.request.PlanUpdateRequest;
-import com.example.planservice.presentation.dto.response.LabelOfPlanResponse;
-import com.example.planservice.presentation.dto.response.MemberOfPlanResponse;
 import com.example.planservice.presentation.dto.response.PlanMainResponse;
 import com.example.planservice.presentation.dto.response.PlanResponse;
 import com.example.planservice.presentation.dto.response.PlanTitleIdResponse;
-import com.example.planservice.presentation.dto.response.TabOfPlanResponse;
-import com.example.planservice.presentation.dto.response.TaskOfPlanResponse;
 import com.example.planservice.util.RedisUtils;
 import lombok.RequiredArgsConstructor;
 
@@ -39,13 +39,18 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class PlanService {
 
-    private final EmailService emailService;
+    private final InvitationMailService invitationMailService;
+    private final PlanBoardReader planBoardReader;
     private final RedisUtils redisUtils;
-    private final TaskRepository taskRepository;
     private final PlanRepository planRepository;
     private final MemberRepository memberRepository;
     private final TabRepository tabRepository;
     private final MemberOfPlanRepository memberOfPlanRepository;
+    private final PlanRevisionService planRevisionService;
+    private final PlanSnapshotCache planSnapshotCache;
+    private final PlanSnapshotFlights planSnapshotFlights;
+    private final BoardProperties boardProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -63,62 +68,51 @@ public class PlanService {
     }
 
     public List<PlanMainResponse> getMainResponse(Long userId) {
-        List<MemberOfPlan> memberOfPlans = memberOfPlanRepository.findAllByMemberId(userId)
-            .orElseThrow(() -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
-
-        return memberOfPlans.stream()
-            .map(memberOfPlan -> {
-                Plan plan = memberOfPlan.getPlan();
-                List<Tab> sortedTabs = getSortedTabs(plan);
-                List<Long> tabOrder = getTabOrder(sortedTabs);
-
-                List<PlanMainResponse.TabInfo> tabs = sortedTabs.stream()
-                    .map(tab -> {
-                        List<Task> sortedTasks = tab.getSortedTasks();
-                        List<Long> taskOrder = sortedTasks.stream()
-                            .map(Task::getId)
-                            .toList();
-                        List<PlanMainResponse.TaskInfo> taskList = sortedTasks.stream()
-                            .map(PlanMainResponse.TaskInfo::from)
-                            .toList();
-                        return PlanMainResponse.TabInfo.from(tab, taskOrder, taskList);
-                    })
-                    .toList();
-
-                return PlanMainResponse.from(plan, tabOrder, tabs);
-            })
-            .toList();
+        return planBoardReader.readMainBoards(userId);
     }
 
-    public PlanResponse getTotalPlanResponse(Long planId) {
-        Plan plan = planRepository.findById(planId)
+    /**
+     * 플랜의 현재 revision으로 캐시된 스냅샷이 있으면 그대로 돌려주고, 없으면 새로 만들어 캐시에 넣는다.
+     * 같은 스냅샷을 동시에 만들려는 요청은 하나로 합치며, 기다리는 동안 커넥션을 잡고 있지 않도록 트랜잭션을 열지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PlanResponse getTotalPlanResponse(Long planId, Integer limit) {
+        long revision = planRepository.findRevisionById(planId)
             .orElseThrow(() -> new ApiException(ErrorCode.PLAN_NOT_FOUND));
-
-        List<Tab> sortedTabs = getSortedTabs(plan);
-        List<Long> tabOrder = getTabOrder(sortedTabs);
-        List<MemberOfPlanResponse> members = getMemberResponses(plan.getMembers(), plan.getOwner()
-            .getId());
-
-        List<Task> allTask = sortedTabs.stream()
-            .map(Tab::getSortedTasks)
-            .flatMap(List::stream)
-            .toList();
-
-        List<LabelOfPlanResponse> labels = getLabelResponses(plan.getLabels());
-        List<TaskOfPlanResponse> tasks = getTaskResponses(allTask);
-        List<TabOfPlanResponse> tabs = getTabResponses(sortedTabs);
-
-        return PlanResponse.builder()
-            .id(plan.getId())
-            .title(plan.getTitle())
-            .description(plan.getIntro())
-            .members(members)
-            .tabOrder(tabOrder)
-            .tabs(tabs)
-            .tasks(tasks)
-            .labels(labels)
-            .isPublic(plan.isPublic())
-            .build();
+        int pageSize = boardProperties.resolveTaskPageSize(limit);
+        return planSnapshotCache.get(planId, revision, pageSize)
+            .orElseGet(() -> planSnapshotFlights.load(planId, revision, pageSize, () -> {
+                PlanResponse snapshot = planBoardReader.readPlanSnapshot(planId, pageSize);
+                planSnapshotCache.put(planId, revision, pageSize, snapshot);
+                return snapshot;
+            }));
+    }
+
+    /**
+     * 플랜 조회 응답의 ETag. 플랜의 revision과 탭마다 읽는 태스크 개수가 같으면 응답도 같다.
+     */
+    public String getPlanETag(Long planId, Integer limit) {
+        long revision = planRepository.findRevisionById(planId)
+            .orElseThrow(() -> new ApiException(ErrorCode.PLAN_NOT_FOUND));
+        return "\"" + planId + "-" + revision + "-" + boardProperties.resolveTaskPageSize(limit) + "\"";
+    }
+
+    /**
+     * 메인 보드 응답의 ETag. 사용자가 속한 플랜 목록과 각 플랜의 revision으로 만든다.
+     * 태스크의 D-day는 날짜에 따라 바뀌므로 오늘 날짜도 함께 넣는다.
+     */
+    public String getMainETag(Long userId) {
+        StringBuilder source = new StringBuilder()
+            .append(LocalDate.now())
+            .append(';')
+            .append(boardProperties.getTaskPageSize());
+        planRepository.findAllRevisionsByMemberId(userId)
+            .forEach(plan -> source.append(';')
+                .append(plan.id())
+                .append(':')
+                .append(plan.revision()));
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString()
+            .getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 
     @Transactional
@@ -146,6 +140,8 @@ public class PlanService {
             .plan(plan)
             .build();
         memberOfPlanRepository.save(memberOfPlan);
+        planRevisionService.increase(planId, PlanChangeType.MEMBER_JOINED, memberId);
+        eventPublisher.publishEvent(PlanMembershipChange.of(planId, memberId));
         return memberOfPlan.getId();
     }
 
@@ -156,6 +152,8 @@ public class PlanService {
     @Transactional
     public void exit(Long planId, Long memberId) {
         memberOfPlanRepository.deleteByPlanIdAndMemberId(planId, memberId);
+        planRevisionService.increase(planId, PlanChangeType.MEMBER_LEFT, memberId);
+        eventPublisher.publishEvent(PlanMembershipChange.of(planId, memberId));
     }
 
 
@@ -169,6 +167,8 @@ public class PlanService {
         memberOfPlanRepository.deleteAllByPlanId(planId);
         plan.softDelete();
         planRepository.save(plan);
+        planRevisionService.increase(planId, PlanChangeType.PLAN_DELETED, planId);
+        eventPublisher.publishEvent(PlanMembershipChange.ofPlan(planId));
     }
 
     @Transactional
@@ -192,11 +192,13 @@ public class PlanService {
         plan.update(request.getTitle(), request.getIntro(), nextOwner, request.isPublic());
 
         planRepository.save(plan);
+        planRevisionService.increase(planId, PlanChangeType.PLAN_UPDATED, planId);
 
     }
 
     public void kick(Long planId, List<Long> kinkingMemberIds) {
         memberOfPlanRepository.deleteAllByPlanIdAndMemberIds(planId, kinkingMemberIds);
+        eventPublisher.publishEvent(new PlanMembershipChange(planId, List.copyOf(kinkingMemberIds)));
     }
 
     public List<PlanTitleIdResponse> getAllPlanTitleIdByMemberId(Long userId) {
@@ -221,49 +223,12 @@ public class PlanService {
 
         String uuid = UUID.randomUUID().toString();
         savePlanIdToRedis(uuid, planId);
-        invitedEmails.forEach(email -> emailService.sendInviteEmail(email, title, uuid));
+        invitationMailService.enqueue(invitedEmails, title, uuid);
     }
 
     public void createDefaultTab(Plan plan) {
         List<Tab> tabs = plan.createDefaultTabs();
         tabRepository.saveAll(tabs);
-        List<Task> allDummyTasks = tabs.stream()
-            .map(Task::createFirstAndLastDummy)
-            .flatMap(List::stream)
-            .toList();
-        taskRepository.saveAll(allDummyTasks);
-    }
-
-    private List<MemberOfPlanResponse> getMemberResponses(List<MemberOfPlan> members, Long ownerId) {
-        return members.stream()
-            .map(member -> MemberOfPlanResponse.from(member.getMember(), ownerId))
-            .toList();
-    }
-
-    private List<TabOfPlanResponse> getTabResponses(List<Tab> tabList) {
-        return tabList.stream()
-            .map(tab -> {
-                List<Task> tasksOfTab = tab.getSortedTasks();
-                List<Long> taskOrder = tasksOfTab.stream()
-                    .filter(task -> !task.isDummy())
-                    .map(Task::getId)
-                    .toList();
-                return TabOfPlanResponse.from(tab, taskOrder);
-            })
-            .toList();
-    }
-
-    private List<LabelOfPlanResponse> getLabelResponses(List<Label> labels) {
-        return labels.stream()
-            .map(LabelOfPlanResponse::from)
-            .toList();
-    }
-
-    private List<TaskOfPlanResponse> getTaskResponses(List<Task> tasks) {
-        return tasks.stream()
-            .filter(task -> !task.isDummy())
-            .map(TaskOfPlanResponse::from)
-            .toList();
     }
 
     public boolean isDeletedPlan(Long planId) {
@@ -283,15 +248,4 @@ public class PlanService {
         redisUtils.setData(uuid, planId.toString(), 1000L * 60 * 60 * 24);
     }
 
-    private List<Tab> getSortedTabs(Plan plan) {
-        TabGroup tabGroup = new TabGroup(plan.getId(), plan.getTabs());
-        return tabGroup.getSortedTabs();
-    }
-
-    private List<Long> getTabOrder(List<Tab> sortedTabs) {
-        return sortedTabs.stream()
-            .map(Tab::getId)
-            .toList();
-    }
-
 }
@@ -0,0 +1,76 @@
+package com.example.planservice.application;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.planservice.presentation.dto.response.PlanResponse;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 플랜 스냅샷을 Redis에 저장한다.
+ * 키에 플랜의 revision이 들어가므로 플랜이 바뀌면 이전 스냅샷은 더 이상 조회되지 않고, TTL이 지나면 사라진다.
+ * Redis에 문제가 생기면 캐시가 없는 것처럼 동작해서 조회가 실패하지 않도록 한다.
+ * 응답 DTO는 setter가 없고 isXxx 형태의 boolean 필드를 가지므로, 캐시에는 getter가 아닌 필드 그대로 저장한다.
+ */
+@Slf4j
+@Component
+public class PlanSnapshotCache {
+    private static final String KEY_PREFIX = "plan:snapshot:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PlanSnapshotCache(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${planting.plan.snapshot-cache.ttl:PT10M}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper.copy()
+            .setVisibility(PropertyAccessor.ALL, Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, Visibility.ANY);
+        this.ttl = ttl;
+        this.hits = meterRegistry.counter("plan.snapshot.cache", "result", "hit");
+        this.misses = meterRegistry.counter("plan.snapshot.cache", "result", "miss");
+    }
+
+    public Optional<PlanResponse> get(Long planId, long revision, int pageSize) {
+        try {
+            Object cached = redisTemplate.opsForValue()
+                .get(key(planId, revision, pageSize));
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(objectMapper.readValue((String) cached, PlanResponse.class));
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("플랜 스냅샷 캐시를 읽지 못했습니다. planId={}", planId, e);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(Long planId, long revision, int pageSize, PlanResponse snapshot) {
+        try {
+            redisTemplate.opsForValue()
+                .set(key(planId, revision, pageSize), objectMapper.writeValueAsString(snapshot), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("플랜 스냅샷 캐시를 저장하지 못했습니다. planId={}", planId, e);
+        }
+    }
+
+    private String key(Long planId, long revision, int pageSize) {
+        return KEY_PREFIX + planId + ":" + revision + ":" + pageSize;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.planservice.application;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.planservice.presentation.dto.response.PlanResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 플랜의 같은 revision 스냅샷을 동시에 여러 요청이 만들려고 하면, 처음 온 요청만 만들고 나머지는 그 결과를 기다려 함께 쓴다.
+ * 기다리다 timeout이 지나면 직접 만든다. 만드는 요청이 실패하면 기다리던 요청도 같은 예외로 실패한다.
+ * plan.snapshot.flight의 follower 수를 전체 수로 나누면 몇 번의 스냅샷 생성이 합쳐졌는지 알 수 있다.
+ */
+@Component
+public class PlanSnapshotFlights {
+    private final ConcurrentMap<Key, CompletableFuture<PlanResponse>> flights = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    public PlanSnapshotFlights(MeterRegistry meterRegistry,
+                               @Value("${planting.plan.snapshot-flight.timeout:PT3S}") Duration timeout) {
+        this.timeout = timeout;
+        this.leaders = meterRegistry.counter("plan.snapshot.flight", "role", "leader");
+        this.followers = meterRegistry.counter("plan.snapshot.flight", "role", "follower");
+        this.timeouts = meterRegistry.counter("plan.snapshot.flight.timeout");
+    }
+
+    public PlanResponse load(Long planId, long revision, int pageSize, Supplier<PlanResponse> loader) {
+        Key key = new Key(planId, revision, pageSize);
+        CompletableFuture<PlanResponse> flight = new CompletableFuture<>();
+        CompletableFuture<PlanResponse> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight == null) {
+            leaders.increment();
+            try {
+                PlanResponse snapshot = loader.get();
+                flight.complete(snapshot);
+                return snapshot;
+            } catch (Throwable e) {
+                // Error로 끝나도 future를 끝내야 기다리던 요청이 timeout까지 붙잡혀 있지 않는다
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                flights.remove(key, flight);
+            }
+        }
+
+        followers.increment();
+        try {
+            return inFlight.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(Long planId, long revision, int pageSize) {
+    }
+}
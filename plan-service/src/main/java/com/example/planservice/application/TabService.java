@@ -2,6 +2,7 @@ package com.example.planservice.application;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,16 +11,17 @@ import com.example.planservice.application.dto.TabChangeTitleResponse;
 import com.example.planservice.application.dto.TabChangeTitleServiceRequest;
 import com.example.planservice.application.dto.TabDeleteServiceRequest;
 import com.example.planservice.domain.plan.Plan;
+import com.example.planservice.domain.planchange.PlanChangeType;
 import com.example.planservice.domain.tab.Tab;
 import com.example.planservice.domain.tab.TabGroup;
 import com.example.planservice.domain.tab.repository.TabRepository;
-import com.example.planservice.domain.task.Task;
 import com.example.planservice.domain.task.repository.TaskRepository;
 import com.example.planservice.exception.ApiException;
 import com.example.planservice.exception.ErrorCode;
 import com.example.planservice.presentation.dto.request.TabChangeOrderRequest;
 import com.example.planservice.presentation.dto.request.TabCreateRequest;
 import com.example.planservice.presentation.dto.response.TabFindResponse;
+import com.example.planservice.presentation.dto.response.TabTaskPageResponse;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -29,6 +31,11 @@ public class TabService {
     private final PlanMembershipService planMembershipService;
     private final TabRepository tabRepository;
     private final TaskRepository taskRepository;
+    private final PlanBoardReader planBoardReader;
+    private final PlanRevisionService planRevisionService;
+
+    @Value("${planting.tab.max-size:" + Tab.DEFAULT_TAB_MAX_SIZE + "}")
+    private int tabMaxSize;
 
     @Transactional
     public Long create(Long memberId, TabCreateRequest request) {
@@ -37,13 +44,13 @@ public class TabService {
             Tab createdTab = Tab.create(plan, request.getTitle());
 
             List<Tab> tabsOfPlan = tabRepository.findAllByPlanId(plan.getId());
-            TabGroup tabGroup = new TabGroup(plan.getId(), tabsOfPlan);
+            TabGroup tabGroup = new TabGroup(plan.getId(), tabsOfPlan, tabMaxSize);
             tabGroup.addLast(createdTab);
             plan.getTabs()
                 .add(createdTab);
 
             Tab savedTab = tabRepository.save(createdTab);
-            createDummyTask(createdTab);
+            planRevisionService.increase(plan.getId(), PlanChangeType.TAB_CREATED, savedTab.getId());
 
             return savedTab.getId();
         } catch (ObjectOptimisticLockingFailureException e) {
@@ -56,8 +63,9 @@ public class TabService {
         Plan plan = planMembershipService.getPlanAfterValidateAuthorization(request.getPlanId(), memberId);
 
         List<Tab> tabs = tabRepository.findAllByPlanId(request.getPlanId());
-        TabGroup tabGroup = new TabGroup(plan.getId(), tabs);
+        TabGroup tabGroup = new TabGroup(plan.getId(), tabs, tabMaxSize);
         List<Tab> result = tabGroup.changeOrder(request.getTargetId(), request.getNewPrevId());
+        planRevisionService.increase(plan.getId(), PlanChangeType.TAB_MOVED, request.getTargetId());
         return result.stream()
             .map(Tab::getId)
             .toList();
@@ -69,8 +77,9 @@ public class TabService {
     public TabChangeTitleResponse changeName(TabChangeTitleServiceRequest request) {
         Plan plan = planMembershipService.getPlanAfterValidateAuthorization(request.getPlanId(), request.getMemberId());
         List<Tab> tabs = tabRepository.findAllByPlanId(plan.getId());
-        TabGroup tabGroup = new TabGroup(plan.getId(), tabs);
+        TabGroup tabGroup = new TabGroup(plan.getId(), tabs, tabMaxSize);
         Tab tab = tabGroup.changeName(request.getTabId(), request.getTitle());
+        planRevisionService.increase(plan.getId(), PlanChangeType.TAB_RENAMED, tab.getId());
 
         return TabChangeTitleResponse.builder()
             .id(tab.getId())
@@ -90,30 +99,38 @@ public class TabService {
         }
 
         List<Tab> tabs = tabRepository.findAllByPlanId(planId);
-        TabGroup tabGroup = new TabGroup(planId, tabs);
-        tabGroup.deleteById(tabId);
-
-        Tab target = tabGroup.findById(tabId);
+        TabGroup tabGroup = new TabGroup(planId, tabs, tabMaxSize);
+        Tab target = tabGroup.deleteById(tabId);
         target.delete();
         taskRepository.deleteAllByTabId(tabId);
+        planRevisionService.increase(planId, PlanChangeType.TAB_DELETED, tabId);
         return tabId;
     }
 
-    public void createDummyTask(Tab createdTab) {
-        List<Task> dummies = Task.createFirstAndLastDummy(createdTab);
-        Task firstDummyTask = dummies.get(0);
-        Task lastDummyTask = dummies.get(1);
-        taskRepository.saveAll(List.of(firstDummyTask, lastDummyTask));
-    }
-
-    public TabFindResponse find(Long tabId, Long memberId) {
+    /**
+     * 탭과 탭에 속한 태스크 한 페이지를 조회한다. 다음 페이지는 응답의 nextCursor를 after로 넘겨 이어서 읽는다.
+     */
+    public TabFindResponse find(Long tabId, Long memberId, String after, Integer limit) {
         Tab tab = tabRepository.findById(tabId)
             .orElseThrow(() -> new ApiException(ErrorCode.TAB_NOT_FOUND));
         Plan plan = tab.getPlan();
         if (!plan.isPublic()) {
-            planMembershipService.validateMemberIsInThePlan(memberId, plan);
+            planMembershipService.validateMember(memberId, plan);
+        }
+        return TabFindResponse.from(tab, planBoardReader.readTaskPage(tabId, after, limit));
+    }
+
+    /**
+     * 탭의 태스크를 after 커서 뒤에서부터 limit개 조회한다.
+     * 커서는 태스크의 정렬 키를 가리키므로 그 사이에 다른 태스크가 옮겨져도 이어서 읽을 수 있다.
+     */
+    public TabTaskPageResponse findTasks(Long tabId, Long memberId, String after, Integer limit) {
+        Plan plan = tabRepository.findPlanByTabId(tabId)
+            .orElseThrow(() -> new ApiException(ErrorCode.TAB_NOT_FOUND));
+        if (!plan.isPublic()) {
+            planMembershipService.validateMember(memberId, plan);
         }
-        return TabFindResponse.from(tab);
+        return planBoardReader.readTabTasks(tabId, after, limit);
     }
 
 }
@@ -0,0 +1,57 @@
+package com.example.planservice.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션이 뜰 때 연결 리스트 순서를 rank로 옮기고, 주기적으로 키가 길어진 탭을 재정렬한다.
+ * 탭 하나를 하나의 트랜잭션으로 처리하며, 사용자의 변경과 충돌한 탭은 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskRankJob implements ApplicationRunner {
+    private final TaskRankService taskRankService;
+
+    @Value("${planting.task.rank.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    @Value("${planting.task.rank.max-length:24}")
+    private int maxLength;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migrateOnStartup) {
+            migrate();
+        }
+    }
+
+    public void migrate() {
+        for (Long tabId : taskRankService.findTabIdsToMigrate()) {
+            try {
+                taskRankService.migrate(tabId);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.warn("탭 {}의 rank 이전이 다른 변경과 충돌하여 다음에 다시 시도합니다", tabId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${planting.task.rank.rebalance-delay:PT10M}",
+        initialDelayString = "${planting.task.rank.rebalance-delay:PT10M}")
+    public void rebalance() {
+        for (Long tabId : taskRankService.findTabIdsToRebalance(maxLength)) {
+            try {
+                taskRankService.rebalance(tabId);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.warn("탭 {}의 rank 재정렬이 다른 변경과 충돌하여 다음에 다시 시도합니다", tabId);
+            }
+        }
+    }
+}
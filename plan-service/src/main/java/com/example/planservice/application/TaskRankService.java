@@ -0,0 +1,110 @@
+package com.example.planservice.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.domain.planchange.PlanChangeType;
+import com.example.planservice.domain.tab.Tab;
+import com.example.planservice.domain.tab.repository.TabRepository;
+import com.example.planservice.domain.task.Rank;
+import com.example.planservice.domain.task.Task;
+import com.example.planservice.domain.task.repository.TaskRepository;
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 태스크의 rank를 관리한다.
+ * 연결 리스트(next/prev)로만 순서를 가진 기존 탭을 rank로 옮기고, 키가 길어진 탭의 rank를 균등한 간격으로 다시 매긴다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TaskRankService {
+    private final TaskRepository taskRepository;
+    private final TabRepository tabRepository;
+    private final PlanRevisionService planRevisionService;
+
+    public List<Long> findTabIdsToMigrate() {
+        return taskRepository.findAllTabIdsWithoutRank();
+    }
+
+    public List<Long> findTabIdsToRebalance(int maxLength) {
+        return taskRepository.findAllTabIdsByRankLongerThan(maxLength);
+    }
+
+    /**
+     * 연결 리스트의 맨 앞, 즉 앞에 있는 태스크가 없는 태스크부터 next를 따라가며 만난 순서대로 rank를 매긴다.
+     * 맨 앞이 여럿이면 id가 가장 작은 것을 고른다.
+     * 연결이 끊겨 도달하지 못한 태스크는 id 순으로, 이미 rank를 가진 태스크는 기존 rank 순으로 그 뒤에 둔다.
+     */
+    @Transactional
+    public void migrate(Long tabId) {
+        Tab tab = tabRepository.findById(tabId)
+            .orElseThrow(() -> new ApiException(ErrorCode.TAB_NOT_FOUND));
+
+        Map<Long, Task> tasksById = taskRepository.findAllByTabId(tabId)
+            .stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Set<Long> visited = new HashSet<>();
+        List<Task> ordered = new ArrayList<>();
+
+        Task temp = tasksById.values()
+            .stream()
+            .filter(task -> task.getRank() == null && !tasksById.containsKey(getIdOrNull(task.getPrev())))
+            .min(Comparator.comparing(Task::getId))
+            .orElse(null);
+        while (temp != null && visited.add(temp.getId())) {
+            if (temp.getRank() == null) {
+                ordered.add(temp);
+            }
+            temp = tasksById.get(getIdOrNull(temp.getNext()));
+        }
+
+        List<Task> rest = tasksById.values()
+            .stream()
+            .filter(task -> task.getRank() != null || !visited.contains(task.getId()))
+            .sorted(Comparator.comparing(Task::getRank, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Task::getId))
+            .toList();
+        ordered.addAll(rest);
+        assignEvenly(ordered);
+        planRevisionService.increase(tab.getPlan()
+            .getId(), PlanChangeType.TASKS_RERANKED, tabId);
+    }
+
+    /**
+     * 현재 순서는 그대로 두고 rank만 균등한 간격으로 다시 매긴다.
+     * 순서는 같아도 이미 내려준 커서가 가리키는 rank가 바뀌므로 플랜의 revision을 올린다.
+     */
+    @Transactional
+    public void rebalance(Long tabId) {
+        assignEvenly(taskRepository.findAllSortedByTabId(tabId));
+        tabRepository.findPlanByTabId(tabId)
+            .ifPresent(plan -> planRevisionService.increase(plan.getId(), PlanChangeType.TASKS_RERANKED, tabId));
+    }
+
+    /**
+     * 이미 정렬된 채로 메모리에 올라와 있는 태스크들의 rank를 다시 매긴다. 호출한 쪽의 트랜잭션에서 반영된다.
+     */
+    public void assignEvenly(List<Task> ordered) {
+        List<String> ranks = Rank.evenlySpaced(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            ordered.get(i)
+                .changeRank(ranks.get(i));
+        }
+    }
+
+    private Long getIdOrNull(Task task) {
+        return task == null ? null : task.getId();
+    }
+}
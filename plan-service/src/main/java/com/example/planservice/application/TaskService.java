@@ -1,25 +1,40 @@
 package com.example.planservice.application;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.planservice.application.dto.TaskUpdateServiceRequest;
+import com.example.planservice.domain.label.Label;
 import com.example.planservice.domain.label.repository.LabelRepository;
 import com.example.planservice.domain.member.Member;
 import com.example.planservice.domain.plan.Plan;
+import com.example.planservice.domain.planchange.PlanChangeType;
 import com.example.planservice.domain.tab.Tab;
 import com.example.planservice.domain.tab.repository.TabRepository;
 import com.example.planservice.domain.task.LabelOfTask;
+import com.example.planservice.domain.task.Rank;
 import com.example.planservice.domain.task.Task;
 import com.example.planservice.domain.task.repository.LabelOfTaskRepository;
+import com.example.planservice.domain.task.repository.TaskPosition;
 import com.example.planservice.domain.task.repository.TaskRepository;
 import com.example.planservice.exception.ApiException;
 import com.example.planservice.exception.ErrorCode;
+import com.example.planservice.presentation.dto.request.TaskBatchChangeOrderRequest;
+import com.example.planservice.presentation.dto.request.TaskBulkCreateRequest;
 import com.example.planservice.presentation.dto.request.TaskChangeOrderRequest;
 import com.example.planservice.presentation.dto.request.TaskCreateRequest;
+import com.example.planservice.presentation.dto.response.TaskBatchChangeOrderResponse;
 import com.example.planservice.presentation.dto.response.TaskFindResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -27,17 +42,21 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TaskService {
+    private static final PageRequest NEIGHBORS = PageRequest.of(0, 2);
+
     private final TaskRepository taskRepository;
     private final TabRepository tabRepository;
     private final PlanMembershipService planMembershipService;
     private final LabelOfTaskRepository labelOfTaskRepository;
     private final LabelRepository labelRepository;
+    private final TaskRankService taskRankService;
+    private final PlanRevisionService planRevisionService;
 
     @Transactional
     public Long create(Long memberId, TaskCreateRequest request) {
         Tab tab = tabRepository.findById(request.getTabId())
             .orElseThrow(() -> new ApiException(ErrorCode.TAB_NOT_FOUND_IN_PLAN));
-        planMembershipService.validateMemberIsInThePlan(memberId, tab.getPlan());
+        planMembershipService.validateMember(memberId, tab.getPlan());
         Member assignee = getMember(request.getAssigneeId(), tab.getPlan());
 
         Task task = Task.builder()
@@ -47,14 +66,74 @@ public class TaskService {
             .description(request.getDescription())
             .startDate(request.getStartDate())
             .endDate(request.getEndDate())
+            .rank(Rank.between(taskRepository.findLastRankByTabId(tab.getId()), null))
             .build();
 
         Task savedTask = taskRepository.save(task);
         saveAllLabelOfTask(request.getLabels(), task, tab.getPlan());
-        addEndOfTab(savedTask, tab);
+        tab.addTask(savedTask);
+        planRevisionService.increase(tab.getPlan()
+            .getId(), PlanChangeType.TASK_CREATED, savedTask.getId());
         return savedTask.getId();
     }
 
+    /**
+     * 여러 태스크를 한 탭의 맨 뒤에 담긴 순서대로 붙인다.
+     * 멤버, 담당자, 라벨은 한 번씩만 확인하고, 태스크와 라벨 연결은 배치로 저장하며, 변경은 revision 하나로 기록한다.
+     */
+    @Transactional
+    public List<Long> createAll(Long memberId, TaskBulkCreateRequest request) {
+        Tab tab = tabRepository.findById(request.getTabId())
+            .filter(found -> Objects.equals(found.getPlan()
+                .getId(), request.getPlanId()))
+            .orElseThrow(() -> new ApiException(ErrorCode.TAB_NOT_FOUND_IN_PLAN));
+        Plan plan = tab.getPlan();
+        planMembershipService.validateMember(memberId, plan);
+
+        List<TaskBulkCreateRequest.Item> items = request.getTasks();
+        Map<Long, Member> assigneesById = planMembershipService.getMembersBelongingToPlan(items.stream()
+            .map(TaskBulkCreateRequest.Item::getAssigneeId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()), plan);
+        Map<Long, Label> labelsById = labelRepository.findAllById(items.stream()
+                .flatMap(item -> item.getLabels()
+                    .stream())
+                .collect(Collectors.toSet()))
+            .stream()
+            .filter(label -> Objects.equals(label.getPlan(), plan))
+            .collect(Collectors.toMap(Label::getId, Function.identity()));
+
+        String rank = taskRepository.findLastRankByTabId(tab.getId());
+        List<Task> tasks = new ArrayList<>(items.size());
+        List<LabelOfTask> labelsOfTask = new ArrayList<>();
+        for (TaskBulkCreateRequest.Item item : items) {
+            rank = Rank.between(rank, null);
+            Task task = Task.builder()
+                .tab(tab)
+                .assignee(item.getAssigneeId() == null ? null : assigneesById.get(item.getAssigneeId()))
+                .title(item.getTitle())
+                .description(item.getDescription())
+                .startDate(item.getStartDate())
+                .endDate(item.getEndDate())
+                .rank(rank)
+                .build();
+            tasks.add(task);
+            item.getLabels()
+                .stream()
+                .distinct()
+                .filter(labelsById::containsKey)
+                .forEach(labelId -> labelsOfTask.add(LabelOfTask.create(labelsById.get(labelId), task)));
+        }
+
+        taskRepository.saveAll(tasks);
+        labelOfTaskRepository.saveAll(labelsOfTask);
+        tasks.forEach(tab::addTask);
+        planRevisionService.increase(plan.getId(), PlanChangeType.TASKS_CREATED, tab.getId());
+        return tasks.stream()
+            .map(Task::getId)
+            .toList();
+    }
+
     @Transactional
     public Long updateContents(TaskUpdateServiceRequest request) {
         Plan plan = planMembershipService.getPlanAfterValidateAuthorization(request.getPlanId(), request.getMemberId());
@@ -66,6 +145,7 @@ public class TaskService {
         List<LabelOfTask> labelOfTaskList = labelOfTaskRepository.findAllByTaskId(task.getId());
         labelOfTaskRepository.deleteAllInBatch(labelOfTaskList);
         saveAllLabelOfTask(request.getLabels(), task, plan);
+        planRevisionService.increase(plan.getId(), PlanChangeType.TASK_UPDATED, task.getId());
 
         return task.getId();
     }
@@ -74,29 +154,100 @@ public class TaskService {
     public List<Long> changeOrder(Long memberId, TaskChangeOrderRequest request) {
         Tab tab = tabRepository.findById(request.getTargetTabId())
             .orElseThrow(() -> new ApiException(ErrorCode.TAB_NOT_FOUND_IN_PLAN));
-        planMembershipService.validateMemberIsInThePlan(memberId, tab.getPlan());
+        planMembershipService.validateMember(memberId, tab.getPlan());
 
         Task target = getTargetTask(request.getTargetId(), tab);
-        target.disconnect();
-        Task newPrev = getPrevTask(request.getNewPrevId(), tab);
-        newPrev.putInBack(target);
+        String rank = getRankAfter(request.getNewPrevId(), target, tab);
+        target.moveTo(tab, rank);
+        planRevisionService.increase(tab.getPlan()
+            .getId(), PlanChangeType.TASK_MOVED, target.getId());
 
-        return tab.getSortedTasks()
+        return taskRepository.findAllSortedByTabId(tab.getId())
             .stream()
             .map(Task::getId)
             .toList();
     }
 
+    /**
+     * 여러 번의 이동을 한 트랜잭션에서 순서대로 적용한다.
+     * 멤버 확인, 탭 조회, 관련 탭의 태스크 조회를 한 번씩만 하고, 이후의 이동은 메모리에 올린 순서 위에서 계산한다.
+     */
+    @Transactional
+    public TaskBatchChangeOrderResponse changeOrders(Long memberId, TaskBatchChangeOrderRequest request) {
+        Plan plan = planMembershipService.getPlanAfterValidateAuthorization(request.getPlanId(), memberId);
+        List<TaskBatchChangeOrderRequest.Move> moves = request.getMoves();
+
+        Map<Long, Task> targetsById = taskRepository.findAllById(moves.stream()
+                .map(TaskBatchChangeOrderRequest.Move::getTargetId)
+                .toList())
+            .stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Set<Long> tabIds = new LinkedHashSet<>();
+        for (Task target : targetsById.values()) {
+            Tab tabLocatedInTarget = target.getTab();
+            if (!Objects.equals(tabLocatedInTarget.getPlan()
+                .getId(), plan.getId())) {
+                throw new ApiException(ErrorCode.AUTHORIZATION_FAIL);
+            }
+            tabIds.add(tabLocatedInTarget.getId());
+        }
+        moves.forEach(move -> tabIds.add(move.getTargetTabId()));
+
+        Map<Long, Tab> tabsById = tabRepository.findAllById(tabIds)
+            .stream()
+            .filter(tab -> Objects.equals(tab.getPlan()
+                .getId(), plan.getId()))
+            .collect(Collectors.toMap(Tab::getId, Function.identity()));
+        if (!tabsById.keySet()
+            .containsAll(tabIds)) {
+            throw new ApiException(ErrorCode.TAB_NOT_FOUND_IN_PLAN);
+        }
+        Map<Long, List<Task>> ordersByTabId = new LinkedHashMap<>();
+        tabIds.forEach(tabId -> ordersByTabId.put(tabId, new ArrayList<>()));
+        taskRepository.findAllSortedByTabIdIn(tabIds)
+            .forEach(task -> ordersByTabId.get(task.getTab()
+                    .getId())
+                .add(task));
+
+        for (TaskBatchChangeOrderRequest.Move move : moves) {
+            Tab tab = tabsById.get(move.getTargetTabId());
+            Task target = targetsById.get(move.getTargetId());
+            if (target == null) {
+                throw new ApiException(ErrorCode.TASK_NOT_FOUND);
+            }
+            ordersByTabId.get(target.getTab()
+                    .getId())
+                .remove(target);
+
+            List<Task> order = ordersByTabId.get(tab.getId());
+            int index = getIndexAfter(move.getNewPrevId(), order);
+            target.moveTo(tab, getRankAt(index, order, tab));
+            order.add(index, target);
+        }
+        targetsById.keySet()
+            .forEach(targetId -> planRevisionService.increase(plan.getId(), PlanChangeType.TASK_MOVED, targetId));
+
+        List<TaskBatchChangeOrderResponse.TabOrder> tabOrders = ordersByTabId.entrySet()
+            .stream()
+            .map(entry -> new TaskBatchChangeOrderResponse.TabOrder(entry.getKey(), entry.getValue()
+                .stream()
+                .map(Task::getId)
+                .toList()))
+            .toList();
+        return new TaskBatchChangeOrderResponse(tabOrders);
+    }
+
     @Transactional
     public void delete(Long memberId, Long taskId) {
         Task target = taskRepository.findById(taskId)
             .orElseThrow(() -> new ApiException(ErrorCode.TASK_NOT_FOUND));
         Tab tab = target.getTab();
         Plan plan = tab.getPlan();
-        planMembershipService.validateMemberIsInThePlan(memberId, plan);
+        planMembershipService.validateMember(memberId, plan);
         target.delete();
         List<LabelOfTask> labelOfTaskList = labelOfTaskRepository.findAllByTaskId(target.getId());
         labelOfTaskRepository.deleteAllInBatch(labelOfTaskList);
+        planRevisionService.increase(plan.getId(), PlanChangeType.TASK_DELETED, target.getId());
     }
 
     private Task getTargetTask(Long targetId, Tab tab) {
@@ -109,23 +260,85 @@ public class TaskService {
         return target;
     }
 
-    private Task getPrevTask(Long prevId, Tab tab) {
+    /**
+     * newPrev 바로 뒤에 들어갈 rank를 만든다. newPrev가 null이면 탭의 맨 앞을 의미한다.
+     * 동시에 생성된 태스크처럼 이웃한 두 태스크의 rank가 같아 사이에 키를 만들 수 없다면 탭을 재정렬한 뒤 다시 계산한다.
+     */
+    private String getRankAfter(Long prevId, Task target, Tab tab) {
+        TaskPosition prev = getPrevPosition(prevId, tab);
+        TaskPosition next = getNextPosition(prev, target, tab);
+        if (prev != null && next != null && prev.rank()
+            .compareTo(next.rank()) >= 0) {
+            taskRankService.rebalance(tab.getId());
+            prev = getPrevPosition(prevId, tab);
+            next = getNextPosition(prev, target, tab);
+        }
+        return Rank.between(prev == null ? null : prev.rank(), next == null ? null : next.rank());
+    }
+
+    private int getIndexAfter(Long prevId, List<Task> order) {
+        if (prevId == null) {
+            return 0;
+        }
+        for (int i = 0; i < order.size(); i++) {
+            if (order.get(i)
+                .getId()
+                .equals(prevId)) {
+                return i + 1;
+            }
+        }
+        throw new ApiException(ErrorCode.TASK_NOT_FOUND);
+    }
+
+    /**
+     * 정렬된 order의 index 위치에 들어갈 rank를 만든다. 이웃한 rank가 같다면 order 전체를 재정렬한 뒤 다시 계산한다.
+     * 재정렬하면 옮기지 않은 태스크의 rank도 바뀌므로, {@link TaskRankService#rebalance}처럼 플랜의 revision을 올린다.
+     */
+    private String getRankAt(int index, List<Task> order, Tab tab) {
+        Task prev = index == 0 ? null : order.get(index - 1);
+        Task next = index == order.size() ? null : order.get(index);
+        if (prev != null && next != null && prev.getRank()
+            .compareTo(next.getRank()) >= 0) {
+            taskRankService.assignEvenly(order);
+            planRevisionService.increase(tab.getPlan()
+                .getId(), PlanChangeType.TASKS_RERANKED, tab.getId());
+        }
+        return Rank.between(prev == null ? null : prev.getRank(), next == null ? null : next.getRank());
+    }
+
+    private TaskPosition getPrevPosition(Long prevId, Tab tab) {
         if (prevId == null) {
-            return tab.getFirstDummyTask();
+            return null;
         }
-        return taskRepository.findById(prevId)
+        Task prev = taskRepository.findById(prevId)
             .orElseThrow(() -> new ApiException(ErrorCode.TASK_NOT_FOUND));
+        if (!Objects.equals(prev.getTab()
+            .getId(), tab.getId()) || prev.getRank() == null) {
+            throw new ApiException(ErrorCode.TASK_NOT_FOUND);
+        }
+        return new TaskPosition(prev.getId(), prev.getRank());
+    }
+
+    private TaskPosition getNextPosition(TaskPosition prev, Task target, Tab tab) {
+        List<TaskPosition> candidates = prev == null
+            ? taskRepository.findFirstPositions(tab.getId(), NEIGHBORS)
+            : taskRepository.findPositionsAfter(tab.getId(), prev.rank(), prev.id(), NEIGHBORS);
+        return candidates.stream()
+            .filter(position -> !position.id()
+                .equals(target.getId()))
+            .findFirst()
+            .orElse(null);
     }
 
     public TaskFindResponse find(Long taskId, Long memberId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findDetailById(taskId)
             .orElseThrow(() -> new ApiException(ErrorCode.TASK_NOT_FOUND));
         Tab tab = task.getTab();
         Plan plan = tab.getPlan();
         if (!plan.isPublic()) {
-            planMembershipService.validateMemberIsInThePlan(memberId, plan);
+            planMembershipService.validateMember(memberId, plan);
         }
-        return TaskFindResponse.from(task);
+        return TaskFindResponse.from(task, getNeighborId(task, true), getNeighborId(task, false));
     }
 
     private void saveAllLabelOfTask(List<Long> labelIds, Task task, Plan plan) {
@@ -137,9 +350,17 @@ public class TaskService {
         labelOfTaskRepository.saveAll(labelsOfTask);
     }
 
-    private void addEndOfTab(Task savedTask, Tab tab) {
-        Task last = tab.getLastDummyTask();
-        last.putInFront(savedTask);
+    private Long getNeighborId(Task task, boolean before) {
+        if (task.getRank() == null) {
+            return null;
+        }
+        Long tabId = task.getTab()
+            .getId();
+        List<TaskPosition> neighbors = before
+            ? taskRepository.findPositionsBefore(tabId, task.getRank(), task.getId(), NEIGHBORS)
+            : taskRepository.findPositionsAfter(tabId, task.getRank(), task.getId(), NEIGHBORS);
+        return neighbors.isEmpty() ? null : neighbors.get(0)
+            .id();
     }
 
     private Member getMember(Long memberId, Plan plan) {
@@ -0,0 +1,10 @@
+package com.example.planservice.application.dto;
+
+import com.example.planservice.domain.planchange.PlanChangeType;
+
+/**
+ * 커밋된 플랜 변경을 다른 인스턴스와 구독 중인 클라이언트에게 알리는 메시지.
+ * 내용은 담지 않으므로, 클라이언트는 revision을 보고 변경분 조회로 바뀐 내용을 가져온다.
+ */
+public record PlanChangeMessage(Long planId, long revision, PlanChangeType type, Long targetId) {
+}
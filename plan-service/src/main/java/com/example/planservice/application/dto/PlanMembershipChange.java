@@ -0,0 +1,16 @@
+package com.example.planservice.application.dto;
+
+import java.util.List;
+
+/**
+ * 플랜의 멤버 구성이 바뀌었음을 알린다. memberIds가 비어 있으면 플랜의 모든 멤버가 대상이다.
+ */
+public record PlanMembershipChange(Long planId, List<Long> memberIds) {
+    public static PlanMembershipChange of(Long planId, Long memberId) {
+        return new PlanMembershipChange(planId, List.of(memberId));
+    }
+
+    public static PlanMembershipChange ofPlan(Long planId) {
+        return new PlanMembershipChange(planId, List.of());
+    }
+}
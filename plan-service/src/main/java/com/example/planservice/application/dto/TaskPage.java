@@ -0,0 +1,31 @@
+package com.example.planservice.application.dto;
+
+import java.util.List;
+
+import com.example.planservice.domain.task.repository.TaskSummary;
+
+/**
+ * 탭 안의 태스크 한 페이지. 다음 페이지가 없으면 nextCursor는 null이다.
+ */
+public record TaskPage(List<TaskSummary> tasks, String nextCursor) {
+    public static final TaskPage EMPTY = new TaskPage(List.of(), null);
+
+    /**
+     * 다음 페이지가 있는지 알기 위해 limit보다 하나 더 읽어온 목록에서 페이지를 만든다
+     */
+    public static TaskPage of(List<TaskSummary> fetched, int limit) {
+        if (fetched.size() <= limit) {
+            return new TaskPage(fetched, null);
+        }
+        List<TaskSummary> tasks = fetched.subList(0, limit);
+        return new TaskPage(tasks, tasks.get(limit - 1)
+            .toCursor()
+            .encode());
+    }
+
+    public List<Long> taskIds() {
+        return tasks.stream()
+            .map(TaskSummary::id)
+            .toList();
+    }
+}
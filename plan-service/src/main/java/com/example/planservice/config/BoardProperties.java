@@ -0,0 +1,31 @@
+package com.example.planservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 보드를 조회할 때 탭마다 한 번에 내려주는 태스크의 개수
+ */
+@Configuration
+@ConfigurationProperties("planting.board")
+@Getter
+@Setter
+public class BoardProperties {
+    private int taskPageSize = 100;
+    private int maxTaskPageSize = 500;
+
+    public int resolveTaskPageSize(Integer requested) {
+        if (requested == null) {
+            return taskPageSize;
+        }
+        if (requested < 1) {
+            throw new ApiException(ErrorCode.TASK_PAGE_SIZE_INVALID);
+        }
+        return Math.min(requested, maxTaskPageSize);
+    }
+}
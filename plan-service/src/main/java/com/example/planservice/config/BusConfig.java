@@ -0,0 +1,11 @@
+package com.example.planservice.config;
+
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.planservice.application.PlanMembershipChangedEvent;
+
+@Configuration
+@RemoteApplicationEventScan(basePackageClasses = PlanMembershipChangedEvent.class)
+public class BusConfig {
+}
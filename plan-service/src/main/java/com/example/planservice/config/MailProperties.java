@@ -1,5 +1,6 @@
 package com.example.planservice.config;
 
+import java.time.Duration;
 import java.util.Properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -21,6 +22,12 @@ public class MailProperties {
     private String auth;
     private Starttls starttls;
     private Ssl ssl;
+    /**
+     * 응답하지 않는 SMTP 서버가 메일을 보내는 스레드를 계속 붙잡고 있지 않도록, 연결과 읽기, 쓰기를 각각 이 시간까지만 기다린다
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(5);
+    private Duration timeout = Duration.ofSeconds(10);
+    private Duration writeTimeout = Duration.ofSeconds(10);
 
     public Properties toProperties() {
         Properties props = new Properties();
@@ -30,6 +37,9 @@ public class MailProperties {
         props.setProperty("mail.smtp.starttls.enable", starttls.getEnable());
         props.setProperty("mail.smtp.ssl.trust", ssl.getTrust());
         props.setProperty("mail.smtp.ssl.enable", ssl.getEnable());
+        props.setProperty("mail.smtp.connectiontimeout", String.valueOf(connectionTimeout.toMillis()));
+        props.setProperty("mail.smtp.timeout", String.valueOf(timeout.toMillis()));
+        props.setProperty("mail.smtp.writetimeout", String.valueOf(writeTimeout.toMillis()));
         return props;
     }
 
@@ -0,0 +1,19 @@
+package com.example.planservice.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 플랜 변경을 받을 exchange. 브로커에 처음 연결될 때 선언되며, 받는 쪽은 routing key plan.change.*로 큐를 묶는다.
+ */
+@Configuration
+public class PlanChangeOutboxConfig {
+
+    @Bean
+    public TopicExchange planChangeExchange(
+        @Value("${planting.plan.outbox.exchange:planting.plan-changes}") String exchange) {
+        return new TopicExchange(exchange, true, false);
+    }
+}
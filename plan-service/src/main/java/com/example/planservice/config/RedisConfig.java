@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -27,6 +28,22 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * Redis에 연결할 수 없어도 애플리케이션은 떠야 하므로 컨텍스트와 함께 시작하지 않는다. 구독은 PlanChangeBroadcaster가 시작한다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        LettuceConnectionFactory lettuceConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return false;
+            }
+        };
+        container.setConnectionFactory(lettuceConnectionFactory);
+        return container;
+    }
+
     @Bean
     public LettuceConnectionFactory lettuceConnectionFactory() {
         return new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisHost, redisPort));
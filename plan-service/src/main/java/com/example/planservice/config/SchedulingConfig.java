@@ -0,0 +1,24 @@
+package com.example.planservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    /**
+     * 주기 작업들이 스레드 하나를 함께 쓰면 오래 걸리는 작업 하나가 플랜 변경 전송 같은 다른 작업을 모두 멈추므로,
+     * 작업 수만큼 스레드를 둔다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${planting.scheduling.pool-size:6}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("plan-scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.planservice.domain;
+
+/**
+ * 플랜을 만들 때 함께 저장되는 엔티티들이 쓰는 id 생성 설정.
+ * IDENTITY 전략은 insert를 실행해야 id를 알 수 있어 insert를 묶어 보낼 수 없으므로, id_generators 테이블에서 id를
+ * ALLOCATION_SIZE개씩 미리 받아 쓰고(pooled optimizer) insert는 flush할 때 JDBC 배치로 보낸다.
+ */
+public final class IdGenerators {
+    public static final String TABLE = "id_generators";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.planservice.domain.invitation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.example.planservice.domain.BaseEntity;
+import com.example.planservice.domain.IdGenerators;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보내야 할 초대 메일 하나. 플랜을 저장하는 트랜잭션에서 함께 쌓이고, 커밋된 뒤에 메일 작업이 가져가서 보낸다.
+ * 작업이 가져갈 때마다 시도 횟수가 오르고, 보내지 못하면 점점 긴 간격을 두고 다시 보낸다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "invitation_mails",
+    indexes = {
+        @Index(name = "idx_invitation_mail_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_invitation_mail_claim_token", columnList = "claim_token")
+    })
+public class InvitationMail extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "invitation_mail_id_generator")
+    @TableGenerator(name = "invitation_mail_id_generator", table = IdGenerators.TABLE,
+        pkColumnValue = "invitation_mails", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "invitation_mail_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private String planTitle;
+
+    @Column(nullable = false, length = 36)
+    private String uuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private InvitationMailStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    private LocalDateTime claimedAt;
+
+    @Builder
+    private InvitationMail(String email, String planTitle, String uuid, LocalDateTime nextAttemptAt) {
+        this.email = email;
+        this.planTitle = planTitle;
+        this.uuid = uuid;
+        this.nextAttemptAt = nextAttemptAt;
+        this.status = InvitationMailStatus.PENDING;
+    }
+
+    public boolean isClaimedBy(String token) {
+        return status == InvitationMailStatus.SENDING && token.equals(claimToken);
+    }
+
+    public void markSent() {
+        status = InvitationMailStatus.SENT;
+        claimToken = null;
+    }
+
+    /**
+     * 시도 횟수를 다 썼다면 실패로 끝내고, 아니면 backoff를 시도할 때마다 두 배로 늘려 다시 보낼 시각을 정한다
+     */
+    public void markFailed(LocalDateTime now, int maxAttempts, Duration backoff) {
+        claimToken = null;
+        if (attempts >= maxAttempts) {
+            status = InvitationMailStatus.FAILED;
+            return;
+        }
+        status = InvitationMailStatus.PENDING;
+        nextAttemptAt = now.plus(backoff.multipliedBy(1L << Math.max(attempts - 1, 0)));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.planservice.domain.invitation;
+
+public enum InvitationMailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,41 @@
+package com.example.planservice.domain.invitation.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.planservice.domain.invitation.InvitationMail;
+import com.example.planservice.domain.invitation.InvitationMailStatus;
+
+@Repository
+public interface InvitationMailRepository extends JpaRepository<InvitationMail, Long> {
+    @Query("select m.id from InvitationMail m "
+        + "where (m.status = :pending and m.nextAttemptAt <= :now) "
+        + "or (m.status = :sending and m.claimedAt < :staleBefore) "
+        + "order by m.id")
+    List<Long> findIdsToSend(@Param("pending") InvitationMailStatus pending,
+                             @Param("sending") InvitationMailStatus sending, @Param("now") LocalDateTime now,
+                             @Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    /**
+     * 조회한 뒤에 다른 작업이 먼저 가져간 메일은 조건에서 걸러지므로, 같은 메일을 두 작업이 함께 보내지 않는다
+     */
+    @Modifying
+    @Query("update InvitationMail m set m.status = :sending, m.claimToken = :token, m.claimedAt = :now, "
+        + "m.attempts = m.attempts + 1 "
+        + "where m.id in :ids "
+        + "and ((m.status = :pending and m.nextAttemptAt <= :now) "
+        + "or (m.status = :sending and m.claimedAt < :staleBefore))")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("pending") InvitationMailStatus pending, @Param("sending") InvitationMailStatus sending,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    List<InvitationMail> findAllByClaimToken(String claimToken);
+}
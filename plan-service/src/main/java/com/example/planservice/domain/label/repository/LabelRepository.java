@@ -1,5 +1,7 @@
 package com.example.planservice.domain.label.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -7,4 +9,5 @@ import com.example.planservice.domain.label.Label;
 
 @Repository
 public interface LabelRepository extends JpaRepository<Label, Long> {
+    List<Label> findAllByPlanIdOrderById(Long planId);
 }
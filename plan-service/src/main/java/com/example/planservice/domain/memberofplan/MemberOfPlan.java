@@ -1,6 +1,7 @@
 package com.example.planservice.domain.memberofplan;
 
 import com.example.planservice.domain.BaseEntity;
+import com.example.planservice.domain.IdGenerators;
 import com.example.planservice.domain.member.Member;
 import com.example.planservice.domain.plan.Plan;
 import jakarta.persistence.Column;
@@ -12,6 +13,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,10 +23,15 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "members_of_plan")
+@Table(name = "members_of_plan",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "UniquePlanAndMember", columnNames = {"plan_id", "member_id"})
+    })
 public class MemberOfPlan extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "member_of_plan_id_generator")
+    @TableGenerator(name = "member_of_plan_id_generator", table = IdGenerators.TABLE, pkColumnValue = "members_of_plan",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "member_of_plan_id")
     private Long id;
 
@@ -25,6 +25,9 @@ public interface MemberOfPlanRepository extends JpaRepository<MemberOfPlan, Long
 
     Optional<List<MemberOfPlan>> findAllByPlanId(Long id);
 
+    @Query("select m from MemberOfPlan m join fetch m.member where m.plan.id = :planId order by m.id")
+    List<MemberOfPlan> findAllWithMemberByPlanId(@Param("planId") Long planId);
+
     boolean existsByPlanIdAndMemberId(Long planId, Long memberId);
 
     void deleteAllByPlanId(Long planId);
@@ -10,6 +10,7 @@ import java.util.Objects;
 import org.hibernate.annotations.Where;
 
 import com.example.planservice.domain.BaseEntity;
+import com.example.planservice.domain.IdGenerators;
 import com.example.planservice.domain.label.Label;
 import com.example.planservice.domain.member.Member;
 import com.example.planservice.domain.memberofplan.MemberOfPlan;
@@ -24,6 +25,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -36,7 +38,9 @@ import lombok.NoArgsConstructor;
 @Where(clause = "is_deleted = false")
 public class Plan extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "plan_id_generator")
+    @TableGenerator(name = "plan_id_generator", table = IdGenerators.TABLE, pkColumnValue = "plans",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "plan_id")
     private Long id;
 
@@ -65,6 +69,13 @@ public class Plan extends BaseEntity {
 
     private boolean isDeleted;
 
+    /**
+     * 플랜과 플랜에 속한 탭, 태스크, 라벨, 멤버가 바뀔 때마다 1씩 증가하는 값. 스냅샷 캐시의 키로 쓰인다.
+     * 동시에 일어난 변경이 서로 덮어쓰지 않도록 엔티티로는 갱신하지 않고 PlanRepository.increaseRevision으로만 올린다.
+     */
+    @Column(nullable = false, updatable = false)
+    private long revision;
+
     @Builder
     private Plan(Member owner, String title, String intro, boolean isPublic, int starCnt, int viewCnt,
                  boolean isDeleted) {
@@ -1,10 +1,41 @@
 package com.example.planservice.domain.plan.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.planservice.domain.plan.Plan;
 
 @Repository
 public interface PlanRepository extends JpaRepository<Plan, Long> {
+    @Query("select new com.example.planservice.domain.plan.repository.PlanSummary(p.id, p.title) "
+        + "from MemberOfPlan m join m.plan p "
+        + "where m.member.id = :memberId and p.isDeleted = false "
+        + "order by m.id")
+    List<PlanSummary> findAllSummariesByMemberId(@Param("memberId") Long memberId);
+
+    @Query("select new com.example.planservice.domain.plan.repository.PlanRevision(p.id, p.revision) "
+        + "from MemberOfPlan m join m.plan p "
+        + "where m.member.id = :memberId and p.isDeleted = false "
+        + "order by m.id")
+    List<PlanRevision> findAllRevisionsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 삭제된 플랜도 revision을 돌려준다. 삭제할 때 revision이 올라가므로 캐시에는 걸리지 않고,
+     * 플랜이 있는지는 스냅샷을 만들 때 확인한다.
+     */
+    @Query(value = "select revision from plans where plan_id = :planId", nativeQuery = true)
+    Optional<Long> findRevisionById(@Param("planId") Long planId);
+
+    /**
+     * 삭제하는 변경도 revision을 올려야 하므로, 삭제된 플랜을 걸러내는 조건이 붙지 않도록 네이티브 쿼리로 올린다.
+     */
+    @Modifying
+    @Query(value = "update plans set revision = revision + 1 where plan_id = :planId", nativeQuery = true)
+    int increaseRevision(@Param("planId") Long planId);
 }
@@ -0,0 +1,7 @@
+package com.example.planservice.domain.plan.repository;
+
+/**
+ * 조건부 조회에서 응답이 바뀌었는지 판단하기 위해 플랜의 식별자와 revision만 담는다
+ */
+public record PlanRevision(Long id, long revision) {
+}
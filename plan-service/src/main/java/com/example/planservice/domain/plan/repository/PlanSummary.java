@@ -0,0 +1,7 @@
+package com.example.planservice.domain.plan.repository;
+
+/**
+ * 보드 조회용으로 플랜의 식별자와 제목만 담는다
+ */
+public record PlanSummary(Long id, String title) {
+}
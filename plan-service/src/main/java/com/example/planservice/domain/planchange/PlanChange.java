@@ -0,0 +1,64 @@
+package com.example.planservice.domain.planchange;
+
+import java.time.LocalDateTime;
+
+import com.example.planservice.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 플랜의 revision을 올린 변경 하나. revision마다 정확히 하나씩 쌓이므로,
+ * 어떤 revision 이후의 기록이 빠짐없이 남아있는지는 기록의 개수로 알 수 있다.
+ * 변경과 같은 트랜잭션에서 쌓이므로 outbox로도 쓰이며, 메시지 브로커로 보낸 뒤에 publishedAt이 채워진다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "plan_changes",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "UniquePlanAndRevision", columnNames = {"plan_id", "revision"})
+    },
+    indexes = {
+        @Index(name = "idx_plan_change_published", columnList = "published_at")
+    })
+public class PlanChange extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "plan_change_id")
+    private Long id;
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private PlanChangeType type;
+
+    private Long targetId;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Builder
+    private PlanChange(Long planId, long revision, PlanChangeType type, Long targetId) {
+        this.planId = planId;
+        this.revision = revision;
+        this.type = type;
+        this.targetId = targetId;
+    }
+}
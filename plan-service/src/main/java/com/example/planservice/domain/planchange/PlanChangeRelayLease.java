@@ -0,0 +1,33 @@
+package com.example.planservice.domain.planchange;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 플랜 변경을 메시지 브로커로 보낼 relay를 정하는 임대. 행은 마이그레이션이 하나만 만들어 두고, relay는 갱신만 한다.
+ * 한 relay만 보내야 같은 플랜의 변경이 revision 순서대로 한 번씩 나간다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "plan_change_relay_leases")
+public class PlanChangeRelayLease {
+    public static final String NAME = "plan-change-relay";
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(length = 36)
+    private String owner;
+
+    @Column(name = "leased_until")
+    private LocalDateTime leasedUntil;
+}
@@ -0,0 +1,35 @@
+package com.example.planservice.domain.planchange;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 플랜 변경 기록의 종류. 변경 대상과, 변경분만으로는 클라이언트가 보드를 맞출 수 없어 전체 스냅샷이 필요한지를 함께 가진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PlanChangeType {
+    TASK_CREATED(Target.TASK, false),
+    TASK_UPDATED(Target.TASK, false),
+    TASK_MOVED(Target.TASK, false),
+    TASK_DELETED(Target.TASK, false),
+    TASKS_CREATED(Target.TAB, true),
+    TASKS_RERANKED(Target.TAB, true),
+    TAB_CREATED(Target.TAB, false),
+    TAB_RENAMED(Target.TAB, false),
+    TAB_MOVED(Target.TAB, false),
+    TAB_DELETED(Target.TAB, false),
+    LABEL_CREATED(Target.LABEL, false),
+    LABEL_DELETED(Target.LABEL, false),
+    PLAN_UPDATED(Target.PLAN, true),
+    PLAN_DELETED(Target.PLAN, true),
+    MEMBER_JOINED(Target.MEMBER, true),
+    MEMBER_LEFT(Target.MEMBER, true);
+
+    private final Target target;
+    private final boolean snapshotRequired;
+
+    public enum Target {
+        TASK, TAB, LABEL, PLAN, MEMBER
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.planservice.domain.planchange.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 메시지 브로커로 보내지 않은 플랜 변경 기록의 개수와, 그중 가장 오래된 기록이 만들어진 시각
+ */
+public record PlanChangeBacklog(long count, LocalDateTime oldestCreatedAt) {
+}
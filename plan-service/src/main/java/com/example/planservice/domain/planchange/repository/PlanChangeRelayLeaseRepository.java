@@ -0,0 +1,29 @@
+package com.example.planservice.domain.planchange.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.planservice.domain.planchange.PlanChangeRelayLease;
+
+@Repository
+public interface PlanChangeRelayLeaseRepository extends JpaRepository<PlanChangeRelayLease, String> {
+    /**
+     * 이미 가진 임대는 연장하고, 비어 있거나 기한이 지난 임대는 가져온다. 다른 relay가 가진 임대는 바뀌지 않는다.
+     */
+    @Modifying
+    @Query("update PlanChangeRelayLease l set l.owner = :owner, l.leasedUntil = :until "
+        + "where l.name = :name "
+        + "and (l.owner = :owner or l.leasedUntil is null or l.leasedUntil < :now)")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("update PlanChangeRelayLease l set l.owner = null, l.leasedUntil = null "
+        + "where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,39 @@
+package com.example.planservice.domain.planchange.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.planservice.domain.planchange.PlanChange;
+
+@Repository
+public interface PlanChangeRepository extends JpaRepository<PlanChange, Long> {
+    @Query("select c from PlanChange c where c.planId = :planId and c.revision > :since order by c.revision")
+    List<PlanChange> findAllAfter(@Param("planId") Long planId, @Param("since") long since, Pageable pageable);
+
+    @Query("select c from PlanChange c where c.publishedAt is null order by c.id")
+    List<PlanChange> findAllUnpublished(Pageable pageable);
+
+    @Query("select new com.example.planservice.domain.planchange.repository.PlanChangeBacklog("
+        + "count(c), min(c.createdAt)) "
+        + "from PlanChange c where c.publishedAt is null")
+    PlanChangeBacklog findBacklog();
+
+    @Modifying
+    @Query("update PlanChange c set c.publishedAt = :now where c.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 아직 메시지 브로커로 보내지 않은 기록은 보관 기간이 지나도 남겨둔다
+     */
+    @Modifying
+    @Query("delete from PlanChange c where c.createdAt < :before and c.publishedAt is not null")
+    int deleteAllPublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,12 +2,14 @@ package com.example.planservice.domain.tab;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.Where;
 import org.jetbrains.annotations.NotNull;
 
 import com.example.planservice.domain.BaseEntity;
+import com.example.planservice.domain.IdGenerators;
 import com.example.planservice.domain.plan.Plan;
 import com.example.planservice.domain.task.Task;
 import jakarta.persistence.Column;
@@ -16,11 +18,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
@@ -34,16 +37,21 @@ import lombok.NoArgsConstructor;
 @Table(name = "tabs",
     uniqueConstraints = {
         @UniqueConstraint(name = "UniquePlanAndTabName", columnNames = {"plan_id", "title"})
+    },
+    indexes = {
+        @Index(name = "idx_tab_plan_deleted", columnList = "plan_id, is_deleted")
     })
 @Where(clause = "is_deleted = false")
 public class Tab extends BaseEntity {
-    public static final int TAB_MAX_SIZE = 5;
+    public static final int DEFAULT_TAB_MAX_SIZE = 5;
     public static final String TODO = "To Do";
     public static final String IN_PROGRESS = "In Progress";
     public static final String DONE = "Done";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tab_id_generator")
+    @TableGenerator(name = "tab_id_generator", table = IdGenerators.TABLE, pkColumnValue = "tabs",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "tab_id")
     private Long id;
 
@@ -53,7 +61,11 @@ public class Tab extends BaseEntity {
 
     private String title;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "tab")
+    /**
+     * 태스크의 소속은 Task.tab이 관리한다. 태스크가 드나들어도 탭의 version은 올리지 않아 탭 간 이동이 서로 충돌하지 않는다.
+     */
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "tab")
+    @OptimisticLock(excluded = true)
     private List<Task> tasks = new ArrayList<>();
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -62,28 +74,18 @@ public class Tab extends BaseEntity {
 
     private boolean first;
 
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "first_task_id")
-    private Task firstDummyTask;
-
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "last_task_id")
-    private Task lastDummyTask;
-
     @Version
     private int version;
 
+    @Column(name = "is_deleted")
     private boolean isDeleted;
 
     @Builder
-    private Tab(Plan plan, String title, Tab next, boolean first, Task firstDummyTask, Task lastDummyTask,
-                boolean isDeleted) {
+    private Tab(Plan plan, String title, Tab next, boolean first, boolean isDeleted) {
         this.plan = plan;
         this.title = title;
         this.next = next;
         this.first = first;
-        this.firstDummyTask = firstDummyTask;
-        this.lastDummyTask = lastDummyTask;
         this.tasks = new ArrayList<>();
         this.isDeleted = isDeleted;
     }
@@ -116,34 +118,23 @@ public class Tab extends BaseEntity {
         this.title = name;
     }
 
-    public void setFirstDummyTask(Task firstDummyTask) {
-        if (this.firstDummyTask != null) {
-            throw new IllegalArgumentException("한 번 초기화된 firstDummyTask는 변경할 수 없습니다");
-        }
-        tasks.add(firstDummyTask);
-        this.firstDummyTask = firstDummyTask;
+    public void delete() {
+        this.isDeleted = true;
     }
 
-    public void setLastDummyTask(Task lastDummyTask) {
-        if (this.lastDummyTask != null) {
-            throw new IllegalArgumentException("한 번 초기화된 LastDummyTask는 변경할 수 없습니다");
+    /**
+     * 이미 읽어온 tasks에만 반영한다. 태스크 하나를 옮기려고 탭의 태스크 전체를 읽어오지 않기 위함이다.
+     */
+    public void addTask(@NotNull Task task) {
+        if (Hibernate.isInitialized(tasks) && !tasks.contains(task)) {
+            tasks.add(task);
         }
-        tasks.add(lastDummyTask);
-        this.lastDummyTask = lastDummyTask;
-    }
-
-    public void delete() {
-        this.isDeleted = true;
     }
 
-    public List<Task> getSortedTasks() {
-        List<Task> result = new ArrayList<>();
-        Task temp = firstDummyTask;
-        while (!Objects.equals(lastDummyTask.getId(), temp.getNext().getId())) {
-            temp = temp.getNext();
-            result.add(temp);
+    public void removeTask(@NotNull Task task) {
+        if (Hibernate.isInitialized(tasks)) {
+            tasks.remove(task);
         }
-        return result;
     }
 
 }
@@ -1,12 +1,14 @@
 package com.example.planservice.domain.tab;
 
-import static com.example.planservice.domain.tab.Tab.TAB_MAX_SIZE;
+import static com.example.planservice.domain.tab.Tab.DEFAULT_TAB_MAX_SIZE;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -14,43 +16,80 @@ import com.example.planservice.exception.ApiException;
 import com.example.planservice.exception.ErrorCode;
 import lombok.Getter;
 
+/**
+ * 한 플랜의 탭들을 연결 리스트로 다룬다.
+ * 생성할 때 id, 이전 탭, 이름에 대한 색인을 한 번 만들어 두므로 추가, 이동, 이름 변경, 삭제는 탭의 개수와 관계없이 상수 시간에 끝난다.
+ */
 public class TabGroup {
-    private Map<Long, Tab> hash;
+    private final Map<Long, Tab> hash;
+    private final Map<Tab, Tab> prevs;
+    private final Set<String> titles;
+    private final int maxSize;
+    private int size;
 
     @Getter
     private final Tab first;
+    private Tab last;
 
     public TabGroup(Long planId, List<Tab> tabs) {
+        this(planId, tabs, DEFAULT_TAB_MAX_SIZE);
+    }
+
+    public TabGroup(Long planId, List<Tab> tabs, int maxSize) {
+        this.maxSize = maxSize;
         validate(planId, tabs);
 
         this.hash = new HashMap<>();
         for (Tab tab : tabs) {
             hash.put(tab.getId(), tab);
         }
+        this.size = tabs.size();
 
         this.first = tabs.stream()
             .filter(Tab::isFirst)
             .findFirst()
             .orElseThrow(() -> new ApiException(ErrorCode.SERVER_ERROR));
+
+        this.prevs = new HashMap<>();
+        this.titles = new HashSet<>();
+        for (Tab tab : tabs) {
+            titles.add(tab.getTitle());
+            Tab next = nextOf(tab);
+            if (next == null) {
+                last = tab;
+            } else {
+                prevs.put(next, tab);
+            }
+        }
     }
 
     public void add(Tab newPrev, Tab target) {
-        if (hash.size() >= TAB_MAX_SIZE) {
+        if (size >= maxSize) {
             throw new ApiException(ErrorCode.TAB_SIZE_INVALID);
         }
         checkDuplicatedName(target.getTitle());
 
-        Tab temp = newPrev.getNext();
-        newPrev.connect(target);
-        target.connect(temp);
+        link(newPrev, target);
+        titles.add(target.getTitle());
+        size++;
+        if (target.getId() != null) {
+            hash.put(target.getId(), target);
+        }
     }
 
     public void addLast(Tab target) {
-        Tab last = findPrev(null);
         add(last, target);
     }
 
     public List<Tab> changeOrder(long targetId, long newPrevId) {
+        move(targetId, newPrevId);
+        return getSortedTabs();
+    }
+
+    /**
+     * target을 newPrev 바로 뒤로 옮긴다. 정렬된 목록을 만들지 않으므로 상수 시간에 끝난다.
+     */
+    public void move(long targetId, long newPrevId) {
         if (targetId == newPrevId) {
             throw new ApiException(ErrorCode.TARGET_TAB_SAME_AS_NEW_PREV);
         }
@@ -58,14 +97,10 @@ public class TabGroup {
         if (target == first) {
             throw new ApiException(ErrorCode.TAB_ORDER_FIXED);
         }
-
-        Tab oldPrev = findPrev(target);
-        oldPrev.connect(target.getNext());
-        hash.remove(target.getId());
         Tab newPrev = findById(newPrevId);
-        add(newPrev, target);
 
-        return getSortedTabs();
+        unlink(target);
+        link(newPrev, target);
     }
 
     public Tab findById(long id) {
@@ -76,17 +111,15 @@ public class TabGroup {
     }
 
     private Tab findPrev(Tab target) {
-        return hash.values().stream()
-            .filter(tab -> Objects.equals(tab.getNext(), target))
-            .findAny()
-            .orElseThrow(() -> new ApiException(ErrorCode.SERVER_ERROR));
+        Tab prev = prevs.get(target);
+        if (prev == null) {
+            throw new ApiException(ErrorCode.SERVER_ERROR);
+        }
+        return prev;
     }
 
     private void checkDuplicatedName(@NotNull String name) {
-        List<Tab> sortedTabs = getSortedTabs();
-        boolean duplicated = sortedTabs.stream()
-            .anyMatch(tab -> Objects.equals(name, tab.getTitle()));
-        if (duplicated) {
+        if (titles.contains(name)) {
             throw new ApiException(ErrorCode.TAB_NAME_DUPLICATE);
         }
     }
@@ -97,13 +130,13 @@ public class TabGroup {
         Tab temp = first;
         while (temp != null) {
             result.add(temp);
-            temp = temp.getNext();
+            temp = nextOf(temp);
         }
         return result;
     }
 
     private void validate(Long planId, List<Tab> tabs) {
-        if (tabs.isEmpty() || TAB_MAX_SIZE < tabs.size()) {
+        if (tabs.isEmpty() || maxSize < tabs.size()) {
             throw new ApiException(ErrorCode.TAB_SIZE_INVALID);
         }
         if (!Objects.equals(planId, tabs.get(0).getPlan().getId())) {
@@ -111,26 +144,65 @@ public class TabGroup {
         }
     }
 
-    public void deleteById(Long tabId) {
-        List<Tab> sortedTabs = getSortedTabs();
-        Tab prev = sortedTabs.get(0);
-        if (Objects.equals(prev.getId(), tabId)) {
+    /**
+     * 탭을 연결에서 떼어내고 떼어낸 탭을 반환한다
+     */
+    public Tab deleteById(Long tabId) {
+        if (Objects.equals(first.getId(), tabId)) {
             throw new ApiException(ErrorCode.TAB_CANNOT_DELETE);
         }
+        Tab target = findById(tabId);
 
-        for (Tab tab : sortedTabs) {
-            if (Objects.equals(tabId, tab.getId())) {
-                prev.connect(tab.getNext());
-                return;
-            }
-            prev = tab;
-        }
+        unlink(target);
+        hash.remove(tabId);
+        titles.remove(target.getTitle());
+        size--;
+        return target;
     }
 
     public Tab changeName(Long tabId, String name) {
         checkDuplicatedName(name);
         Tab target = findById(tabId);
+        titles.remove(target.getTitle());
         target.changeName(name);
+        titles.add(name);
         return target;
     }
+
+    private void link(Tab newPrev, Tab target) {
+        Tab next = nextOf(newPrev);
+        newPrev.connect(target);
+        target.connect(next);
+
+        prevs.put(target, newPrev);
+        if (next == null) {
+            last = target;
+        } else {
+            prevs.put(next, target);
+        }
+    }
+
+    private void unlink(Tab target) {
+        Tab prev = findPrev(target);
+        Tab next = nextOf(target);
+        prev.connect(next);
+
+        prevs.remove(target);
+        if (next == null) {
+            last = prev;
+        } else {
+            prevs.put(next, prev);
+        }
+    }
+
+    /**
+     * 지연 로딩된 next는 프록시일 수 있으므로, 색인과 같은 인스턴스를 쓰도록 그룹이 가진 탭으로 바꿔서 돌려준다
+     */
+    private Tab nextOf(Tab tab) {
+        Tab next = tab.getNext();
+        if (next == null || next.getId() == null) {
+            return next;
+        }
+        return hash.getOrDefault(next.getId(), next);
+    }
 }
@@ -1,13 +1,29 @@
 package com.example.planservice.domain.tab.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.planservice.domain.plan.Plan;
 import com.example.planservice.domain.tab.Tab;
 
-import java.util.List;
-
 @Repository
 public interface TabRepository extends JpaRepository<Tab, Long> {
     List<Tab> findAllByPlanId(Long planId);
+
+    @Query("select new com.example.planservice.domain.tab.repository.TabSummary("
+        + "t.id, t.plan.id, t.title, t.next.id, t.first) "
+        + "from Tab t where t.plan.id in :planIds")
+    List<TabSummary> findAllSummariesByPlanIdIn(@Param("planIds") Collection<Long> planIds);
+
+    /**
+     * 탭 엔티티를 읽지 않고 탭이 속한 플랜만 가져온다. 권한 확인만 필요할 때 탭의 태스크까지 읽지 않기 위해 사용한다.
+     */
+    @Query("select t.plan from Tab t where t.id = :tabId")
+    Optional<Plan> findPlanByTabId(@Param("tabId") Long tabId);
 }
@@ -0,0 +1,7 @@
+package com.example.planservice.domain.tab.repository;
+
+/**
+ * 보드 조회용으로 탭의 순서 정보를 엔티티 로딩 없이 담는다
+ */
+public record TabSummary(Long id, Long planId, String title, Long nextId, boolean first) {
+}
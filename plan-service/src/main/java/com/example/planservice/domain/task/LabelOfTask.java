@@ -1,6 +1,7 @@
 package com.example.planservice.domain.task;
 
 import com.example.planservice.domain.BaseEntity;
+import com.example.planservice.domain.IdGenerators;
 import com.example.planservice.domain.label.Label;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,9 +9,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,11 +21,16 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "labels_of_task")
+@Table(name = "labels_of_task",
+    indexes = {
+        @Index(name = "idx_label_of_task_task", columnList = "task_id")
+    })
 @Getter
 public class LabelOfTask extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "label_of_task_id_generator")
+    @TableGenerator(name = "label_of_task_id_generator", table = IdGenerators.TABLE, pkColumnValue = "labels_of_task",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "label_of_task_id")
     private Long id;
 
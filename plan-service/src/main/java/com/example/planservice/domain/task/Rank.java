@@ -0,0 +1,121 @@
+package com.example.planservice.domain.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 태스크의 정렬 순서를 나타내는 사전식 분수 키(fractional rank)를 만든다.
+ * 키는 0-9a-z 로 이루어진 36진수 소수로 해석되며, 문자열 비교 순서와 값의 크기 순서가 같다.
+ * 두 키 사이에는 항상 새로운 키를 만들 수 있으므로 태스크 하나를 옮길 때 해당 태스크의 키만 바꾸면 된다.
+ * 대소문자를 구분하지 않는 DB collation 에서도 순서가 깨지지 않도록 소문자만 사용한다.
+ */
+public final class Rank {
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    /**
+     * 맨 뒤에 추가할 때 사용하는 고정 길이. 이 길이 안에서 STEP 간격으로 키를 늘려가므로 끝에 추가해도 키가 길어지지 않는다.
+     */
+    private static final int WIDTH = 6;
+    private static final long STEP = pow(BASE, 3);
+    private static final long CAPACITY = pow(BASE, WIDTH);
+
+    private Rank() {
+    }
+
+    /**
+     * prev와 next 사이에 위치하는 키를 만든다. prev가 null이면 맨 앞, next가 null이면 맨 뒤를 의미한다.
+     */
+    public static String between(String prev, String next) {
+        String lower = prev == null ? "" : prev;
+        if (next != null && lower.compareTo(next) >= 0) {
+            throw new IllegalArgumentException("prev는 next보다 앞선 키여야 합니다");
+        }
+        if (next == null) {
+            return after(lower);
+        }
+        return midpoint(lower, next);
+    }
+
+    /**
+     * count개의 키를 균등한 간격으로 만든다. 키가 너무 길어진 탭을 재정렬할 때 사용한다.
+     */
+    public static List<String> evenlySpaced(int count) {
+        long gap = Math.max(1, Math.min(STEP, CAPACITY / (count + 1L)));
+        if (gap * count >= CAPACITY) {
+            throw new IllegalArgumentException("한 탭에 정렬할 수 있는 태스크의 개수를 초과했습니다");
+        }
+        List<String> result = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            result.add(encode(gap * i));
+        }
+        return result;
+    }
+
+    private static String after(String lower) {
+        long next = decode(lower) + STEP;
+        if (next >= CAPACITY) {
+            return midpoint(lower, null);
+        }
+        return encode(next);
+    }
+
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            int n = 0;
+            while (n < upper.length() && digitAt(lower, n) == upper.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return upper.substring(0, n) + midpoint(lower.substring(Math.min(n, lower.length())),
+                    upper.substring(n));
+            }
+        }
+        int digitLower = lower.isEmpty() ? 0 : DIGITS.indexOf(lower.charAt(0));
+        int digitUpper = upper == null ? BASE : DIGITS.indexOf(upper.charAt(0));
+        if (digitUpper - digitLower > 1) {
+            return String.valueOf(DIGITS.charAt((digitLower + digitUpper + 1) / 2));
+        }
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(digitLower) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+    }
+
+    private static char digitAt(String key, int index) {
+        return index < key.length() ? key.charAt(index) : '0';
+    }
+
+    /**
+     * 키의 앞 WIDTH 자리를 정수로 바꾼다. 뒤에 남는 자리는 버리므로 결과는 항상 키보다 작거나 같다.
+     */
+    private static long decode(String key) {
+        long value = 0;
+        for (int i = 0; i < WIDTH; i++) {
+            value = value * BASE + DIGITS.indexOf(digitAt(key, i));
+        }
+        return value;
+    }
+
+    private static String encode(long value) {
+        char[] chars = new char[WIDTH];
+        long rest = value;
+        for (int i = WIDTH - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (rest % BASE));
+            rest /= BASE;
+        }
+        int length = WIDTH;
+        while (length > 0 && chars[length - 1] == '0') {
+            length--;
+        }
+        return new String(chars, 0, length);
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
@@ -5,9 +5,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.annotations.Where;
-import org.jetbrains.annotations.NotNull;
 
 import com.example.planservice.domain.BaseEntity;
+import com.example.planservice.domain.IdGenerators;
 import com.example.planservice.domain.member.Member;
 import com.example.planservice.domain.tab.Tab;
 import com.example.planservice.exception.ApiException;
@@ -18,10 +18,15 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -29,16 +34,30 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks",
+    indexes = {
+        @Index(name = "idx_task_tab_rank", columnList = "tab_id, task_rank"),
+        @Index(name = "idx_task_tab_deleted", columnList = "tab_id, is_deleted")
+    })
+@NamedEntityGraph(name = Task.DETAIL_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("labelOfTasks"),
+        @NamedAttributeNode(value = "tab", subgraph = "tab")
+    },
+    subgraphs = @NamedSubgraph(name = "tab", attributeNodes = @NamedAttributeNode("plan")))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Where(clause = "is_deleted = false")
 @Getter
 public class Task extends BaseEntity {
-    public static final String FIRST_DUMMY_NAME = "first";
-    public static final String LAST_DUMMY_NAME = "last";
+    /**
+     * 태스크 상세 조회에 필요한 라벨, 탭, 플랜을 한 번에 읽어오는 fetch plan
+     */
+    public static final String DETAIL_GRAPH = "Task.detail";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_generator")
+    @TableGenerator(name = "task_id_generator", table = IdGenerators.TABLE, pkColumnValue = "tasks",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "task_id")
     private Long id;
 
@@ -50,7 +69,7 @@ public class Task extends BaseEntity {
     @JoinColumn(name = "assignee_id")
     private Member assignee;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "task")
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "task")
     private List<LabelOfTask> labelOfTasks = new ArrayList<>();
 
     private String title;
@@ -61,8 +80,18 @@ public class Task extends BaseEntity {
 
     private LocalDate endDate;
 
+    @Column(name = "is_deleted")
     private boolean isDeleted;
 
+    /**
+     * 탭 안에서의 정렬 키. {@link Rank}가 만든 문자열의 사전순이 곧 태스크의 순서이다. rank 도입 이전에 만들어져 아직 옮겨지지 않은 태스크는 null을 가진다.
+     */
+    @Column(name = "task_rank")
+    private String rank;
+
+    /**
+     * rank 도입 이전의 연결 리스트 순서. 기존 데이터를 rank로 옮기는 데에만 읽고, 더 이상 갱신하지 않는다.
+     */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "next_id")
     private Task next;
@@ -77,7 +106,7 @@ public class Task extends BaseEntity {
     @Builder
     @SuppressWarnings("java:S107")
     private Task(Tab tab, Member assignee, String title, String description, LocalDate startDate,
-                 LocalDate endDate, boolean isDeleted, Task next, Task prev, int version) {
+                 LocalDate endDate, boolean isDeleted, String rank, int version) {
         validateDates(startDate, endDate);
         this.tab = tab;
         this.assignee = assignee;
@@ -86,87 +115,11 @@ public class Task extends BaseEntity {
         this.startDate = startDate;
         this.endDate = endDate;
         this.isDeleted = isDeleted;
-        this.next = next;
-        this.prev = prev;
+        this.rank = rank;
         this.version = version;
     }
 
-    public static List<Task> createFirstAndLastDummy(Tab tab) {
-        Task firstDummy = createDummy(tab, FIRST_DUMMY_NAME);
-        Task lastDummy = createDummy(tab, LAST_DUMMY_NAME);
-
-        firstDummy.putInBack(lastDummy);
-
-        tab.setFirstDummyTask(firstDummy);
-        tab.setLastDummyTask(lastDummy);
-        return List.of(firstDummy, lastDummy);
-    }
-
-    public void putInBack(@NotNull Task target) {
-        Task originalNext = this.next;
-        if (originalNext == null) {
-            this.next = target;
-            target.setPrev(this);
-            return;
-        }
-        originalNext.setPrev(target);
-        target.setNext(originalNext);
-
-        target.setPrev(this);
-        this.next = target;
-        tab.getTasks()
-            .add(target);
-    }
-
-    public void putInFront(@NotNull Task target) {
-        if (target.isConnected()) {
-            throw new IllegalArgumentException("target은 연결이 되어 있어서는 안됩니다.");
-        }
-        Task originalPrev = this.prev;
-        if (originalPrev == null) {
-            this.prev = target;
-            target.setNext(this);
-            return;
-        }
-        originalPrev.setNext(target);
-        target.setPrev(originalPrev);
-
-        target.setNext(this);
-        this.prev = target;
-        tab.getTasks()
-            .add(target);
-    }
-
-    public void disconnect() {
-        validateCanModify();
-
-        Task originalPrev = this.prev;
-        Task originalNext = this.next;
-        originalNext.setPrev(originalPrev);
-        originalPrev.setNext(originalNext);
-
-        this.prev = null;
-        this.next = null;
-        tab.getTasks()
-            .remove(this);
-    }
-
-    public void validateCanModify() {
-        Task firstDummyTask = tab.getFirstDummyTask();
-        if (this.getId()
-            .equals(firstDummyTask.getId())) {
-            throw new ApiException(ErrorCode.TASK_NOT_FOUND);
-        }
-        Task lastDummyTask = tab.getLastDummyTask();
-        if (this.getId()
-            .equals(lastDummyTask.getId())) {
-            throw new ApiException(ErrorCode.TASK_NOT_FOUND);
-        }
-    }
-
     public void change(Task entity) {
-        validateCanModify();
-
         this.assignee = entity.getAssignee();
         this.title = entity.getTitle();
         this.description = entity.getDescription();
@@ -174,31 +127,29 @@ public class Task extends BaseEntity {
         this.endDate = entity.getEndDate();
     }
 
-    public void setNext(Task next) {
-        this.next = next;
+    /**
+     * 태스크를 tab의 rank 위치로 옮긴다. 같은 탭 안에서의 이동과 다른 탭으로의 이동을 구분하지 않으며,
+     * 다른 태스크나 탭은 건드리지 않으므로 이 태스크 한 행만 갱신된다.
+     */
+    public void moveTo(Tab tab, String rank) {
+        this.tab.removeTask(this);
+        this.tab = tab;
+        this.rank = rank;
+        tab.addTask(this);
     }
 
-    public void setPrev(Task prev) {
-        this.prev = prev;
+    /**
+     * 순서는 그대로 둔 채 키만 바꾼다. 키가 길어진 탭을 재정렬할 때 사용한다.
+     */
+    public void changeRank(String rank) {
+        this.rank = rank;
     }
 
     public void delete() {
-        validateCanModify();
-        disconnect();
+        tab.removeTask(this);
         this.isDeleted = true;
     }
 
-    private static Task createDummy(Tab tab, String name) {
-        return Task.builder()
-            .tab(tab)
-            .title(name)
-            .build();
-    }
-
-    private boolean isConnected() {
-        return next != null || prev != null;
-    }
-
     private void validateDates(LocalDate startDate, LocalDate endDate) {
         if (startDate == null || endDate == null) {
             return;
@@ -209,20 +160,24 @@ public class Task extends BaseEntity {
         }
     }
 
-    public boolean isDummy() {
-        return this.title.equals(FIRST_DUMMY_NAME) || this.title.equals(LAST_DUMMY_NAME);
+    public int getDday() {
+        return calculateDday(this.endDate);
     }
 
-    public int getDday() {
-        if (isDateOver()) {
+    public boolean isDateOver() {
+        return isDateOver(this.endDate);
+    }
+
+    public static int calculateDday(LocalDate endDate) {
+        if (isDateOver(endDate)) {
             return -1;
         }
         return LocalDate.now()
-            .compareTo(this.endDate);
+            .compareTo(endDate);
     }
 
-    public boolean isDateOver() {
-        return this.endDate == null || LocalDate.now()
-            .isAfter(this.endDate);
+    private static boolean isDateOver(LocalDate endDate) {
+        return endDate == null || LocalDate.now()
+            .isAfter(endDate);
     }
 }
@@ -0,0 +1,36 @@
+package com.example.planservice.domain.task;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+
+/**
+ * 탭 안에서 태스크의 위치(rank, id)를 가리키는 커서.
+ * 순번이 아니라 정렬 키를 가리키므로 앞쪽 태스크가 옮겨지거나 삭제되어도 이미 읽은 태스크를 다시 읽거나 건너뛰지 않는다.
+ */
+public record TaskCursor(String rank, Long id) {
+    private static final String DELIMITER = ":";
+
+    public String encode() {
+        String raw = rank + DELIMITER + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder()
+                .decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index <= 0) {
+                throw new ApiException(ErrorCode.TASK_CURSOR_INVALID);
+            }
+            return new TaskCursor(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.TASK_CURSOR_INVALID);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.planservice.domain.task.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.planservice.domain.task.LabelOfTask;
@@ -10,4 +13,8 @@ import com.example.planservice.domain.task.LabelOfTask;
 @Repository
 public interface LabelOfTaskRepository extends JpaRepository<LabelOfTask, Long> {
     List<LabelOfTask> findAllByTaskId(Long id);
+
+    @Query("select new com.example.planservice.domain.task.repository.LabelOfTaskSummary(l.task.id, l.label.id) "
+        + "from LabelOfTask l where l.task.id in :taskIds order by l.id")
+    List<LabelOfTaskSummary> findAllSummariesByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
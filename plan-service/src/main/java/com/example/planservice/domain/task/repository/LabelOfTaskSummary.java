@@ -0,0 +1,7 @@
+package com.example.planservice.domain.task.repository;
+
+/**
+ * 보드 조회용으로 태스크와 라벨의 연결 정보만 담는다
+ */
+public record LabelOfTaskSummary(Long taskId, Long labelId) {
+}
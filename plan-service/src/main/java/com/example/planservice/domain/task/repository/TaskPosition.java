@@ -0,0 +1,7 @@
+package com.example.planservice.domain.task.repository;
+
+/**
+ * 탭 안에서 태스크의 위치를 계산하기 위해 id와 rank만 담는다
+ */
+public record TaskPosition(Long id, String rank) {
+}
@@ -1,10 +1,15 @@
 package com.example.planservice.domain.task.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.planservice.domain.task.Task;
@@ -13,7 +18,89 @@ import com.example.planservice.domain.task.Task;
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findAllByTabId(Long tabId);
 
+    @EntityGraph(Task.DETAIL_GRAPH)
+    @Query("select t from Task t where t.id = :id")
+    Optional<Task> findDetailById(@Param("id") Long id);
+
     @Modifying
     @Query("update Task t set t.isDeleted = true where t.tab.id = :tabId")
     void deleteAllByTabId(Long tabId);
+
+    /**
+     * 플랜들의 탭마다 앞에서부터 limit개의 태스크를 탭, rank 순서로 가져온다. 탭의 개수와 관계없이 한 번의 쿼리로 끝난다.
+     */
+    @Query("select new com.example.planservice.domain.task.repository.TaskSummary("
+        + "r.id, r.tabId, r.title, r.assigneeId, r.startDate, r.endDate, r.rank) "
+        + "from (select t.id id, t.tab.id tabId, t.title title, t.assignee.id assigneeId, t.startDate startDate, "
+        + "t.endDate endDate, t.rank rank, row_number() over (partition by t.tab.id order by t.rank, t.id) position "
+        + "from Task t where t.tab.plan.id in :planIds and t.rank is not null) r "
+        + "where r.position <= :limit order by r.tabId, r.rank, r.id")
+    List<TaskSummary> findFirstSummariesOfEachTab(@Param("planIds") Collection<Long> planIds,
+                                                  @Param("limit") int limit);
+
+    @Query("select new com.example.planservice.domain.task.repository.TaskSummary("
+        + "t.id, t.tab.id, t.title, t.assignee.id, t.startDate, t.endDate, t.rank) "
+        + "from Task t where t.tab.id = :tabId and t.rank is not null order by t.rank, t.id")
+    List<TaskSummary> findSummariesByTabId(@Param("tabId") Long tabId, Pageable pageable);
+
+    /**
+     * 삭제되지 않은 태스크 중 주어진 id의 태스크를 가져온다. 변경분을 내려줄 때 바뀐 태스크의 현재 상태를 읽기 위해 사용한다.
+     */
+    @Query("select new com.example.planservice.domain.task.repository.TaskSummary("
+        + "t.id, t.tab.id, t.title, t.assignee.id, t.startDate, t.endDate, t.rank) "
+        + "from Task t where t.id in :ids and t.rank is not null order by t.tab.id, t.rank, t.id")
+    List<TaskSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * (rank, id) 순서에서 커서 뒤에 있는 태스크들을 가져온다. (tab_id, task_rank) 인덱스를 그대로 탄다.
+     */
+    @Query("select new com.example.planservice.domain.task.repository.TaskSummary("
+        + "t.id, t.tab.id, t.title, t.assignee.id, t.startDate, t.endDate, t.rank) "
+        + "from Task t where t.tab.id = :tabId and t.rank is not null "
+        + "and (t.rank > :rank or (t.rank = :rank and t.id > :id)) order by t.rank, t.id")
+    List<TaskSummary> findSummariesByTabIdAfter(@Param("tabId") Long tabId, @Param("rank") String rank,
+                                                @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 탭의 태스크를 rank 순서대로 가져온다. rank가 아직 없는 태스크는 포함되지 않는다.
+     */
+    @Query("select t from Task t where t.tab.id = :tabId and t.rank is not null order by t.rank, t.id")
+    List<Task> findAllSortedByTabId(@Param("tabId") Long tabId);
+
+    @Query("select t from Task t where t.tab.id in :tabIds and t.rank is not null order by t.tab.id, t.rank, t.id")
+    List<Task> findAllSortedByTabIdIn(@Param("tabIds") Collection<Long> tabIds);
+
+    @Query("select max(t.rank) from Task t where t.tab.id = :tabId")
+    String findLastRankByTabId(@Param("tabId") Long tabId);
+
+    @Query("select new com.example.planservice.domain.task.repository.TaskPosition(t.id, t.rank) "
+        + "from Task t where t.tab.id = :tabId and t.rank is not null order by t.rank, t.id")
+    List<TaskPosition> findFirstPositions(@Param("tabId") Long tabId, Pageable pageable);
+
+    /**
+     * (rank, id) 순서에서 주어진 위치 바로 뒤에 있는 태스크들을 가져온다
+     */
+    @Query("select new com.example.planservice.domain.task.repository.TaskPosition(t.id, t.rank) "
+        + "from Task t where t.tab.id = :tabId and t.rank is not null "
+        + "and (t.rank > :rank or (t.rank = :rank and t.id > :id)) order by t.rank, t.id")
+    List<TaskPosition> findPositionsAfter(@Param("tabId") Long tabId, @Param("rank") String rank,
+                                          @Param("id") Long id, Pageable pageable);
+
+    /**
+     * (rank, id) 순서에서 주어진 위치 바로 앞에 있는 태스크들을 가까운 것부터 가져온다
+     */
+    @Query("select new com.example.planservice.domain.task.repository.TaskPosition(t.id, t.rank) "
+        + "from Task t where t.tab.id = :tabId and t.rank is not null "
+        + "and (t.rank < :rank or (t.rank = :rank and t.id < :id)) order by t.rank desc, t.id desc")
+    List<TaskPosition> findPositionsBefore(@Param("tabId") Long tabId, @Param("rank") String rank,
+                                           @Param("id") Long id, Pageable pageable);
+
+    /**
+     * rank가 아직 없는 태스크를 가진 탭, 즉 연결 리스트 순서만 가지고 있는 탭을 찾는다
+     */
+    @Query("select distinct t.tab.id from Task t where t.rank is null")
+    List<Long> findAllTabIdsWithoutRank();
+
+    @Query("select distinct t.tab.id from Task t where length(t.rank) > :maxLength")
+    List<Long> findAllTabIdsByRankLongerThan(@Param("maxLength") int maxLength);
 }
@@ -0,0 +1,20 @@
+package com.example.planservice.domain.task.repository;
+
+import java.time.LocalDate;
+
+import com.example.planservice.domain.task.Task;
+import com.example.planservice.domain.task.TaskCursor;
+
+/**
+ * 보드 조회용으로 태스크를 화면에 그리는 데 필요한 값만 담는다
+ */
+public record TaskSummary(Long id, Long tabId, String title, Long assigneeId, LocalDate startDate,
+                          LocalDate endDate, String rank) {
+    public int getDday() {
+        return Task.calculateDday(endDate);
+    }
+
+    public TaskCursor toCursor() {
+        return new TaskCursor(rank, id);
+    }
+}
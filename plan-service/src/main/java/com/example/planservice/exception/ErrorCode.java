@@ -20,6 +20,7 @@ public enum ErrorCode {
     PLAN_TAB_MISMATCH(HttpStatus.BAD_REQUEST, "플랜과 탭 사이 관계가 없습니다"),
     MEMBER_NOT_FOUND_IN_PLAN(HttpStatus.FORBIDDEN, "플랜에 소속되지 않은 멤버입니다"),
     MEMBER_ALREADY_IN_PLAN(HttpStatus.BAD_REQUEST, "이미 플랜에 소속된 멤버입니다"),
+    PLAN_STREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "플랜 변경 알림 연결이 가득 찼습니다. 잠시 후 다시 시도해 주세요"),
 
     // 탭
     TAB_NOT_FOUND(HttpStatus.NOT_FOUND, "탭을 찾을 수 없습니다"),
@@ -33,6 +34,8 @@ public enum ErrorCode {
     // 태스크
     TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "태스크가 존재하지 않습니다"),
     TASK_DATE_INVALID(HttpStatus.BAD_REQUEST, "태스크의 시작은 끝보다 빨라야 합니다"),
+    TASK_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "태스크 커서가 올바르지 않습니다"),
+    TASK_PAGE_SIZE_INVALID(HttpStatus.BAD_REQUEST, "한 번에 조회할 태스크의 개수가 잘못되었습니다"),
 
     // 라벨
     LABEL_NAME_DUPLICATE(HttpStatus.BAD_REQUEST, "라벨 이름이 중복되었습니다"),
@@ -3,6 +3,7 @@ package com.example.planservice.exception;
 import java.util.List;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindException;
@@ -13,9 +14,13 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    /**
+     * SSE 구독처럼 JSON이 아닌 응답을 요청한 경우에도 에러는 JSON으로 내려주도록 Content-Type을 정해둔다
+     */
     @ExceptionHandler(ApiException.class)
     public ResponseEntity<ErrorResponse> handleApiException(ApiException exception) {
         return ResponseEntity.status(exception.getErrorCode().getStatus())
+            .contentType(MediaType.APPLICATION_JSON)
             .body(new ErrorResponse(exception.getMessage()));
     }
 
@@ -63,7 +63,9 @@ public class LabelController {
             schema = @Schema(implementation = LabelFindResponse.class)))
     public ResponseEntity<LabelFindResponse> find(@PathVariable(name = "id") Long labelId,
                                                   @RequestAttribute Long userId) {
-        return ResponseEntity.ok().body(labelService.find(labelId, userId));
+        LabelFindResponse response = labelService.find(labelId, userId);
+        return PlanCacheHeaders.ok(response.getPlanVersion())
+            .body(response);
     }
 
 }
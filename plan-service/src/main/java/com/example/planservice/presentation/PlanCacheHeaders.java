@@ -0,0 +1,41 @@
+package com.example.planservice.presentation;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import com.example.planservice.presentation.dto.response.PlanVersion;
+
+/**
+ * 공개 플랜의 리소스는 보는 사람과 관계없이 응답이 같으므로 Cache-Control: public과 플랜 id를 담아 게이트웨이가 캐시할 수 있게 한다.
+ * 게이트웨이는 플랜 id로 캐시를 묶어 두었다가 플랜이 바뀌면 버린다.
+ * 비공개 플랜의 리소스는 Cache-Control: private으로 내려 공유 캐시에 남지 않게 한다.
+ */
+final class PlanCacheHeaders {
+    static final String PLAN_ID = "X-Plan-Id";
+
+    private PlanCacheHeaders() {
+    }
+
+    static ResponseEntity.BodyBuilder ok(Long planId, boolean isPublic) {
+        if (!isPublic) {
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.empty()
+                    .cachePrivate());
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.empty()
+                .cachePublic())
+            .header(PLAN_ID, String.valueOf(planId));
+    }
+
+    /**
+     * 플랜 안의 무엇이 바뀌어도 플랜의 revision이 올라가므로, 플랜 id와 revision을 ETag로 쓴다.
+     */
+    static ResponseEntity.BodyBuilder ok(PlanVersion version) {
+        if (version == null) {
+            return ResponseEntity.ok();
+        }
+        return ok(version.planId(), version.isPublic())
+            .eTag("\"" + version.planId() + "-" + version.revision() + "\"");
+    }
+}
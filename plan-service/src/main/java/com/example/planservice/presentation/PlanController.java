@@ -3,6 +3,7 @@ package com.example.planservice.presentation;
 import java.net.URI;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,12 +13,18 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.example.planservice.application.PlanChangeService;
+import com.example.planservice.application.PlanChangeStreams;
 import com.example.planservice.application.PlanService;
 import com.example.planservice.presentation.dto.request.PlanCreateRequest;
 import com.example.planservice.presentation.dto.request.PlanUpdateRequest;
 import com.example.planservice.presentation.dto.response.CreateResponse;
+import com.example.planservice.presentation.dto.response.PlanChangesResponse;
 import com.example.planservice.presentation.dto.response.PlanMainResponse;
 import com.example.planservice.presentation.dto.response.PlanResponse;
 import com.example.planservice.presentation.dto.response.PlanTitleIdResponse;
@@ -34,6 +41,8 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/plans")
 public class PlanController {
     private final PlanService planService;
+    private final PlanChangeService planChangeService;
+    private final PlanChangeStreams planChangeStreams;
 
     @PostMapping
     @ApiResponse(responseCode = "201", description = "플랜 생성 성공",
@@ -50,13 +59,40 @@ public class PlanController {
     @ApiResponse(responseCode = "200", description = "플랜 조회 성공",
         content = @Content(mediaType = "application/json",
             schema = @Schema(implementation = PlanResponse.class)))
-    public ResponseEntity<PlanResponse> read(@PathVariable Long planId, @RequestAttribute Long userId) {
-        return ResponseEntity.ok(planService.getTotalPlanResponse(planId));
+    @ApiResponse(responseCode = "304", description = "If-None-Match로 보낸 ETag 이후 플랜이 바뀌지 않음")
+    public ResponseEntity<PlanResponse> read(@PathVariable Long planId, @RequestAttribute Long userId,
+                                             @RequestParam(required = false) Integer limit,
+                                             WebRequest webRequest) {
+        if (webRequest.checkNotModified(planService.getPlanETag(planId, limit))) {
+            return null;
+        }
+        PlanResponse response = planService.getTotalPlanResponse(planId, limit);
+        return PlanCacheHeaders.ok(planId, response.isPublic())
+            .body(response);
+    }
+
+    @GetMapping("/{planId}/changes")
+    @ApiResponse(responseCode = "200", description = "since 이후 플랜의 변경분 조회 성공. 변경분을 만들 수 없으면 전체 스냅샷을 담는다",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = PlanChangesResponse.class)))
+    public ResponseEntity<PlanChangesResponse> readChanges(@PathVariable Long planId, @RequestAttribute Long userId,
+                                                           @RequestParam long since) {
+        return ResponseEntity.ok(planChangeService.findChanges(planId, userId, since));
+    }
+
+    @GetMapping(value = "/{planId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiResponse(responseCode = "200", description = "플랜 변경 구독 성공. 처음에 revision 이벤트를, 이후 변경마다 change 이벤트를 보낸다")
+    @ApiResponse(responseCode = "503", description = "서버가 받을 수 있는 구독 연결이 가득 참")
+    public SseEmitter subscribe(@PathVariable Long planId, @RequestAttribute Long userId) {
+        return planChangeStreams.subscribe(planId, userId);
     }
 
     // TODO 해당 API Swagger 작업하기
     @GetMapping("/main")
-    public ResponseEntity<List<PlanMainResponse>> readAll(@RequestAttribute Long userId) {
+    public ResponseEntity<List<PlanMainResponse>> readAll(@RequestAttribute Long userId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(planService.getMainETag(userId))) {
+            return null;
+        }
         return ResponseEntity.ok(planService.getMainResponse(userId));
     }
 
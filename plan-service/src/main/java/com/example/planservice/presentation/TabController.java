@@ -24,6 +24,7 @@ import com.example.planservice.presentation.dto.request.TabCreateRequest;
 import com.example.planservice.presentation.dto.response.CreateResponse;
 import com.example.planservice.presentation.dto.response.TabChangeOrderResponse;
 import com.example.planservice.presentation.dto.response.TabFindResponse;
+import com.example.planservice.presentation.dto.response.TabTaskPageResponse;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -74,8 +75,23 @@ public class TabController {
         content = @Content(mediaType = "application/json",
             schema = @Schema(implementation = TabFindResponse.class)))
     public ResponseEntity<TabFindResponse> find(@PathVariable(name = "id") Long tabId,
-                                                @RequestAttribute Long userId) {
-        return ResponseEntity.ok().body(tabService.find(tabId, userId));
+                                                @RequestAttribute Long userId,
+                                                @RequestParam(required = false) String after,
+                                                @RequestParam(required = false) Integer limit) {
+        TabFindResponse response = tabService.find(tabId, userId, after, limit);
+        return PlanCacheHeaders.ok(response.getPlanVersion())
+            .body(response);
+    }
+
+    @GetMapping("/{tabId}/tasks")
+    @ApiResponse(responseCode = "200", description = "탭의 태스크 조회 성공",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = TabTaskPageResponse.class)))
+    public ResponseEntity<TabTaskPageResponse> findTasks(@PathVariable Long tabId,
+                                                         @RequestAttribute Long userId,
+                                                         @RequestParam(required = false) String after,
+                                                         @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok().body(tabService.findTasks(tabId, userId, after, limit));
     }
 
     @DeleteMapping("/{id}")
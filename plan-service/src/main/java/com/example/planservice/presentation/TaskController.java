@@ -1,7 +1,9 @@
 package com.example.planservice.presentation;
 
 import java.net.URI;
+import java.util.List;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,10 +17,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.planservice.application.TaskService;
+import com.example.planservice.presentation.dto.request.TaskBatchChangeOrderRequest;
+import com.example.planservice.presentation.dto.request.TaskBulkCreateRequest;
 import com.example.planservice.presentation.dto.request.TaskChangeOrderRequest;
 import com.example.planservice.presentation.dto.request.TaskCreateRequest;
 import com.example.planservice.presentation.dto.request.TaskUpdateRequest;
 import com.example.planservice.presentation.dto.response.CreateResponse;
+import com.example.planservice.presentation.dto.response.TaskBatchChangeOrderResponse;
+import com.example.planservice.presentation.dto.response.TaskBulkCreateResponse;
 import com.example.planservice.presentation.dto.response.TaskFindResponse;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -44,6 +50,17 @@ public class TaskController {
             .body(CreateResponse.of(createdId));
     }
 
+    @PostMapping("/bulk")
+    @ApiResponse(responseCode = "201", description = "태스크 일괄 생성 성공",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = TaskBulkCreateResponse.class)))
+    public ResponseEntity<TaskBulkCreateResponse> createAll(@RequestBody @Valid TaskBulkCreateRequest request,
+                                                            @RequestAttribute Long userId) {
+        List<Long> createdIds = taskService.createAll(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(new TaskBulkCreateResponse(createdIds));
+    }
+
     @PutMapping("/{taskId}")
     @ApiResponse(responseCode = "204", description = "태스크 수정 성공")
     public ResponseEntity<Void> updateContents(@RequestBody @Valid TaskUpdateRequest request,
@@ -61,6 +78,16 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    @PutMapping("/change-order/batch")
+    @ApiResponse(responseCode = "200", description = "태스크 순서 일괄 변경 성공",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = TaskBatchChangeOrderResponse.class)))
+    public ResponseEntity<TaskBatchChangeOrderResponse> changeOrders(
+        @RequestBody @Valid TaskBatchChangeOrderRequest request,
+        @RequestAttribute Long userId) {
+        return ResponseEntity.ok(taskService.changeOrders(userId, request));
+    }
+
     @DeleteMapping("/{taskId}")
     @ApiResponse(responseCode = "204", description = "태스크 삭제 성공")
     public ResponseEntity<Void> delete(@PathVariable Long taskId, @RequestAttribute Long userId) {
@@ -75,6 +102,8 @@ public class TaskController {
             schema = @Schema(implementation = TaskFindResponse.class)))
     public ResponseEntity<TaskFindResponse> find(@PathVariable Long taskId,
                                                  @RequestAttribute Long userId) {
-        return ResponseEntity.ok(taskService.find(taskId, userId));
+        TaskFindResponse response = taskService.find(taskId, userId);
+        return PlanCacheHeaders.ok(response.getPlanVersion())
+            .body(response);
     }
 }
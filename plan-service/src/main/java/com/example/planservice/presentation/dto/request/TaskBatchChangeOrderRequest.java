@@ -0,0 +1,56 @@
+package com.example.planservice.presentation.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 드래그 한 번에 일어난 여러 번의 태스크 이동을 순서대로 담는다. 각 이동은 앞선 이동이 반영된 순서를 기준으로 적용된다
+ */
+@NoArgsConstructor
+@Getter
+public class TaskBatchChangeOrderRequest {
+    public static final int MAX_MOVES = 100;
+
+    @NotNull
+    private Long planId;
+
+    @NotEmpty
+    @Size(max = MAX_MOVES)
+    @Valid
+    private List<Move> moves;
+
+    @Builder
+    private TaskBatchChangeOrderRequest(Long planId, List<Move> moves) {
+        this.planId = planId;
+        this.moves = moves;
+    }
+
+    /**
+     * newPrevId가 Null이 입력되면 해당 태스크를 target 탭의 첫 번째 위치로 이동시킨다
+     */
+    @NoArgsConstructor
+    @Getter
+    public static class Move {
+        @NotNull
+        private Long targetTabId;
+
+        @NotNull
+        private Long targetId;
+
+        private Long newPrevId;
+
+        @Builder
+        private Move(Long targetTabId, Long targetId, Long newPrevId) {
+            this.targetTabId = targetTabId;
+            this.targetId = targetId;
+            this.newPrevId = newPrevId;
+        }
+    }
+}
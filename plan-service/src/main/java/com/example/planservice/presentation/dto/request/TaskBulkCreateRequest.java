@@ -0,0 +1,83 @@
+package com.example.planservice.presentation.dto.request;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 탭에 여러 태스크를 한 번에 만든다. 태스크는 담긴 순서대로 탭의 맨 뒤에 붙는다
+ */
+@NoArgsConstructor
+@Getter
+public class TaskBulkCreateRequest {
+    public static final int MAX_TASKS = 500;
+
+    @NotNull
+    private Long planId;
+
+    @NotNull
+    private Long tabId;
+
+    @NotEmpty
+    @Size(max = MAX_TASKS)
+    @Valid
+    private List<Item> tasks;
+
+    @Builder
+    private TaskBulkCreateRequest(Long planId, Long tabId, List<Item> tasks) {
+        this.planId = planId;
+        this.tabId = tabId;
+        this.tasks = tasks;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    public static class Item {
+        @Schema(nullable = true, example = "1")
+        private Long assigneeId;
+
+        @NotBlank
+        @Schema(nullable = false, example = "코테보기")
+        private String title;
+
+        @Schema(nullable = true, example = "태스크 설명")
+        private String description;
+
+        @Schema(nullable = true, example = "2023-11-08")
+        private LocalDate startDate;
+
+        @Schema(nullable = true, example = "2023-11-09")
+        private LocalDate endDate;
+
+        /**
+         * JSON은 기본 생성자로 바인딩되므로 빌더와 달리 기본값을 필드에 둔다. labels가 없거나 null이면 []로 받는다.
+         */
+        @Schema(description = "만약 Null이 입력된다면 [] 가 대신 들어감", nullable = true, example = "[1,2,3]")
+        @JsonSetter(nulls = Nulls.AS_EMPTY)
+        private List<Long> labels = new ArrayList<>();
+
+        @Builder
+        private Item(Long assigneeId, String title, String description, LocalDate startDate, LocalDate endDate,
+                     List<Long> labels) {
+            this.assigneeId = assigneeId;
+            this.title = title;
+            this.description = description;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.labels = (labels != null) ? labels : Collections.emptyList();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.planservice.presentation.dto.response;
 
 import com.example.planservice.domain.label.Label;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,11 +17,15 @@ public class LabelFindResponse {
     @Schema(nullable = false, example = "라벨명")
     private String name;
 
+    @JsonIgnore
+    private PlanVersion planVersion;
+
     @Builder
-    private LabelFindResponse(Long id, Long planId, String name) {
+    private LabelFindResponse(Long id, Long planId, String name, PlanVersion planVersion) {
         this.id = id;
         this.planId = planId;
         this.name = name;
+        this.planVersion = planVersion;
     }
 
 
@@ -29,6 +34,7 @@ public class LabelFindResponse {
             .id(label.getId())
             .planId(label.getPlan().getId())
             .name(label.getName())
+            .planVersion(PlanVersion.from(label.getPlan()))
             .build();
     }
 }
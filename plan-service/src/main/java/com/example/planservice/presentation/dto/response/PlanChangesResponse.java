@@ -0,0 +1,121 @@
+package com.example.planservice.presentation.dto.response;
+
+import java.util.List;
+
+import com.example.planservice.domain.planchange.PlanChange;
+import com.example.planservice.domain.planchange.PlanChangeType;
+import com.example.planservice.domain.tab.repository.TabSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class PlanChangesResponse {
+    @Schema(description = "응답이 반영하고 있는 플랜의 revision. 다음 요청의 since로 넘긴다", nullable = false)
+    private long revision;
+
+    @Schema(description = "변경분 대신 전체 스냅샷을 내려주었는지 여부", nullable = false)
+    private boolean snapshot;
+
+    @Schema(description = "snapshot이 true일 때만 담기는 플랜 전체", nullable = true)
+    private PlanResponse plan;
+
+    @Schema(description = "since 이후의 변경 기록을 revision 순서대로 담는다", nullable = false, example = "[]")
+    private List<ChangeInfo> changes;
+
+    @Schema(description = "바뀐 태스크의 현재 상태와 탭 안에서 바로 앞에 있는 태스크", nullable = false, example = "[]")
+    private List<TaskChange> tasks;
+
+    @Schema(nullable = false, example = "[3]")
+    private List<Long> deletedTaskIds;
+
+    @Schema(description = "탭이 바뀌었을 때만 담기는 탭의 순서", nullable = true, example = "[1,2]")
+    private List<Long> tabOrder;
+
+    @Schema(description = "바뀐 탭의 현재 상태", nullable = false, example = "[]")
+    private List<TabChange> tabs;
+
+    @Schema(nullable = false, example = "[2]")
+    private List<Long> deletedTabIds;
+
+    @Schema(description = "새로 생긴 라벨", nullable = false, example = "[]")
+    private List<LabelOfPlanResponse> labels;
+
+    @Schema(nullable = false, example = "[4]")
+    private List<Long> deletedLabelIds;
+
+    @Getter
+    @Builder
+    public static class ChangeInfo {
+        private long revision;
+        private PlanChangeType type;
+        private Long targetId;
+
+        public static ChangeInfo from(PlanChange change) {
+            return builder()
+                .revision(change.getRevision())
+                .type(change.getType())
+                .targetId(change.getTargetId())
+                .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class TaskChange {
+        private TaskOfPlanResponse task;
+
+        @Schema(description = "탭 안에서 바로 앞에 있는 태스크. 탭의 맨 앞이라면 null", nullable = true)
+        private Long prevId;
+    }
+
+    @Getter
+    @Builder
+    public static class TabChange {
+        private Long id;
+        private String title;
+
+        public static TabChange from(TabSummary tab) {
+            return builder()
+                .id(tab.id())
+                .title(tab.title())
+                .build();
+        }
+    }
+
+    @Builder
+    @SuppressWarnings("java:S107")
+    private PlanChangesResponse(long revision, boolean snapshot, PlanResponse plan, List<ChangeInfo> changes,
+                                List<TaskChange> tasks, List<Long> deletedTaskIds, List<Long> tabOrder,
+                                List<TabChange> tabs, List<Long> deletedTabIds, List<LabelOfPlanResponse> labels,
+                                List<Long> deletedLabelIds) {
+        this.revision = revision;
+        this.snapshot = snapshot;
+        this.plan = plan;
+        this.changes = changes;
+        this.tasks = tasks;
+        this.deletedTaskIds = deletedTaskIds;
+        this.tabOrder = tabOrder;
+        this.tabs = tabs;
+        this.deletedTabIds = deletedTabIds;
+        this.labels = labels;
+        this.deletedLabelIds = deletedLabelIds;
+    }
+
+    public static PlanChangesResponse ofSnapshot(long revision, PlanResponse plan) {
+        return builder()
+            .revision(revision)
+            .snapshot(true)
+            .plan(plan)
+            .changes(List.of())
+            .tasks(List.of())
+            .deletedTaskIds(List.of())
+            .tabs(List.of())
+            .deletedTabIds(List.of())
+            .labels(List.of())
+            .deletedLabelIds(List.of())
+            .build();
+    }
+}
@@ -3,8 +3,11 @@ package com.example.planservice.presentation.dto.response;
 import java.util.List;
 
 import com.example.planservice.domain.plan.Plan;
+import com.example.planservice.domain.plan.repository.PlanSummary;
 import com.example.planservice.domain.tab.Tab;
+import com.example.planservice.domain.tab.repository.TabSummary;
 import com.example.planservice.domain.task.Task;
+import com.example.planservice.domain.task.repository.TaskSummary;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,13 +27,16 @@ public class PlanMainResponse {
         private String title;
         private List<Long> taskOrder;
         private List<TaskInfo> taskList;
+        private String nextCursor;
 
         @Builder
-        private TabInfo(Long tabId, List<Long> taskOrder, String title, List<TaskInfo> taskList) {
+        private TabInfo(Long tabId, List<Long> taskOrder, String title, List<TaskInfo> taskList,
+                        String nextCursor) {
             this.tabId = tabId;
             this.taskOrder = taskOrder;
             this.title = title;
             this.taskList = taskList;
+            this.nextCursor = nextCursor;
         }
 
         public static TabInfo from(Tab tab, List<Long> taskOrder, List<TaskInfo> taskList) {
@@ -41,6 +47,17 @@ public class PlanMainResponse {
                 .taskList(taskList)
                 .build();
         }
+
+        public static TabInfo from(TabSummary tab, List<Long> taskOrder, List<TaskInfo> taskList,
+                                   String nextCursor) {
+            return builder()
+                .tabId(tab.id())
+                .taskOrder(taskOrder)
+                .title(tab.title())
+                .taskList(taskList)
+                .nextCursor(nextCursor)
+                .build();
+        }
     }
 
     @Getter
@@ -57,6 +74,14 @@ public class PlanMainResponse {
                 .dDay(task.getDday())
                 .build();
         }
+
+        public static TaskInfo from(TaskSummary task) {
+            return builder()
+                .taskId(task.id())
+                .title(task.title())
+                .dDay(task.getDday())
+                .build();
+        }
     }
 
     @Builder
@@ -76,4 +101,13 @@ public class PlanMainResponse {
             .build();
     }
 
+    public static PlanMainResponse from(PlanSummary plan, List<Long> tabOrder, List<TabInfo> tabs) {
+        return builder()
+            .title(plan.title())
+            .planId(plan.id())
+            .tabOrder(tabOrder)
+            .tabs(tabs)
+            .build();
+    }
+
 }
@@ -0,0 +1,12 @@
+package com.example.planservice.presentation.dto.response;
+
+import com.example.planservice.domain.plan.Plan;
+
+/**
+ * 응답이 어느 플랜의 어느 revision에서 만들어졌는지와 공개 여부. 응답 본문에는 담지 않고 캐시 헤더를 정할 때만 쓴다.
+ */
+public record PlanVersion(Long planId, long revision, boolean isPublic) {
+    public static PlanVersion from(Plan plan) {
+        return new PlanVersion(plan.getId(), plan.getRevision(), plan.isPublic());
+    }
+}
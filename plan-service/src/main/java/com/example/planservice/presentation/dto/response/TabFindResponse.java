@@ -1,6 +1,10 @@
 package com.example.planservice.presentation.dto.response;
 
+import java.util.List;
+
+import com.example.planservice.application.dto.TaskPage;
 import com.example.planservice.domain.tab.Tab;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,19 +18,31 @@ public class TabFindResponse {
     @Schema(nullable = false, example = "조회된 탭의 제목")
     private String title;
     private Long nextId;
+    private List<Long> taskOrder;
+    @Schema(nullable = true, description = "다음 태스크 페이지의 커서. 마지막 페이지라면 null")
+    private String nextCursor;
+    @JsonIgnore
+    private PlanVersion planVersion;
 
     @Builder
-    private TabFindResponse(Long id, String title, Long nextId) {
+    private TabFindResponse(Long id, String title, Long nextId, List<Long> taskOrder, String nextCursor,
+                            PlanVersion planVersion) {
         this.id = id;
         this.title = title;
         this.nextId = nextId;
+        this.taskOrder = taskOrder;
+        this.nextCursor = nextCursor;
+        this.planVersion = planVersion;
     }
 
-    public static TabFindResponse from(Tab tab) {
+    public static TabFindResponse from(Tab tab, TaskPage page) {
         return TabFindResponse.builder()
             .id(tab.getId())
             .title(tab.getTitle())
             .nextId(tab.getNext() == null ? null : tab.getNext().getId())
+            .taskOrder(page.taskIds())
+            .nextCursor(page.nextCursor())
+            .planVersion(PlanVersion.from(tab.getPlan()))
             .build();
     }
 }
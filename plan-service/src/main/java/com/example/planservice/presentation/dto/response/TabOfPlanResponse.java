@@ -3,6 +3,7 @@ package com.example.planservice.presentation.dto.response;
 import java.util.List;
 
 import com.example.planservice.domain.tab.Tab;
+import com.example.planservice.domain.tab.repository.TabSummary;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,12 +14,14 @@ public class TabOfPlanResponse {
     private Long id;
     private String title;
     private List<Long> taskOrder;
+    private String nextCursor;
 
     @Builder
-    private TabOfPlanResponse(Long id, String title, List<Long> taskOrder) {
+    private TabOfPlanResponse(Long id, String title, List<Long> taskOrder, String nextCursor) {
         this.id = id;
         this.title = title;
         this.taskOrder = taskOrder;
+        this.nextCursor = nextCursor;
     }
 
     public static TabOfPlanResponse from(Tab tab, List<Long> taskOrder) {
@@ -28,4 +31,13 @@ public class TabOfPlanResponse {
             .taskOrder(taskOrder)
             .build();
     }
+
+    public static TabOfPlanResponse from(TabSummary tab, List<Long> taskOrder, String nextCursor) {
+        return builder()
+            .id(tab.id())
+            .title(tab.title())
+            .taskOrder(taskOrder)
+            .nextCursor(nextCursor)
+            .build();
+    }
 }
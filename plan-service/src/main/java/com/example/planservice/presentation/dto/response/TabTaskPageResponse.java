@@ -0,0 +1,19 @@
+package com.example.planservice.presentation.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class TabTaskPageResponse {
+    @Schema(description = "탭에서 정렬된 순서대로 담긴 태스크", nullable = false)
+    private List<TaskOfPlanResponse> tasks;
+
+    @Schema(description = "다음 페이지를 조회할 때 after로 넘기는 커서. 마지막 페이지라면 null", nullable = true)
+    private String nextCursor;
+}
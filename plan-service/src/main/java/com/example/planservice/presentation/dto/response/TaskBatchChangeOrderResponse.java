@@ -0,0 +1,26 @@
+package com.example.planservice.presentation.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class TaskBatchChangeOrderResponse {
+    @Schema(description = "이동으로 영향을 받은 탭마다 정렬된 태스크 ID가 넘어온다", nullable = false)
+    private List<TabOrder> tabs;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    public static class TabOrder {
+        private Long tabId;
+
+        @Schema(description = "탭의 정렬된 태스크 ID", nullable = false, example = "[3,2,5]")
+        private List<Long> sortedTasks;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.planservice.presentation.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class TaskBulkCreateResponse {
+    @Schema(description = "요청에 담긴 순서대로 만들어진 태스크 ID", nullable = false, example = "[3,4,5]")
+    private List<Long> ids;
+}
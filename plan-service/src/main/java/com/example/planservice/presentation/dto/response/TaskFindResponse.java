@@ -2,10 +2,10 @@ package com.example.planservice.presentation.dto.response;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Objects;
 
 import com.example.planservice.domain.tab.Tab;
 import com.example.planservice.domain.task.Task;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -41,11 +41,14 @@ public class TaskFindResponse {
 
     private Long prevId;
 
+    @JsonIgnore
+    private PlanVersion planVersion;
+
     @Builder
     @SuppressWarnings("java:S107")
     public TaskFindResponse(Long id, Long tabId, Long planId, Long assigneeId, List<Long> labels, String title,
                             String description, LocalDate startDate, LocalDate endDate, Long nextId,
-                            Long prevId) {
+                            Long prevId, PlanVersion planVersion) {
         this.id = id;
         this.tabId = tabId;
         this.planId = planId;
@@ -57,25 +60,16 @@ public class TaskFindResponse {
         this.endDate = endDate;
         this.nextId = nextId;
         this.prevId = prevId;
+        this.planVersion = planVersion;
     }
 
-    public static TaskFindResponse from(Task task) {
+    public static TaskFindResponse from(Task task, Long prevId, Long nextId) {
         Tab tab = task.getTab();
         List<Long> labels = task.getLabelOfTasks()
             .stream()
             .map(labelOfTask -> labelOfTask.getLabel()
                 .getId())
             .toList();
-        Long nextId = null;
-        Long prevId = null;
-        if (!Objects.equals(task.getNext(), tab.getLastDummyTask())) {
-            nextId = task.getNext()
-                .getId();
-        }
-        if (!Objects.equals(task.getPrev(), tab.getFirstDummyTask())) {
-            prevId = task.getPrev()
-                .getId();
-        }
         return TaskFindResponse.builder()
             .id(task.getId())
             .tabId(tab.getId())
@@ -90,6 +84,7 @@ public class TaskFindResponse {
             .endDate(task.getEndDate())
             .nextId(nextId)
             .prevId(prevId)
+            .planVersion(PlanVersion.from(tab.getPlan()))
             .build();
     }
 }
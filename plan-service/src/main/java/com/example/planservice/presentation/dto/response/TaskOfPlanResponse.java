@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import com.example.planservice.domain.task.Task;
+import com.example.planservice.domain.task.repository.TaskSummary;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -51,4 +52,16 @@ public class TaskOfPlanResponse {
             .endDate(task.getEndDate() != null ? task.getEndDate() : null)
             .build();
     }
+
+    public static TaskOfPlanResponse from(TaskSummary task, List<Long> labels) {
+        return builder()
+            .id(task.id())
+            .title(task.title())
+            .labels(labels)
+            .tabId(task.tabId())
+            .assigneeId(task.assigneeId())
+            .startDate(task.startDate())
+            .endDate(task.endDate())
+            .build();
+    }
 }
@@ -2,8 +2,8 @@
 insert into members(member_id, is_deleted, receive_emails, email, name, role) values (1, false, false, "aa@naver.com", "김태훈", "USER"),
                                                                                      (2, false, false, "bb@gmail.com", "신우성", "USER");
 
-insert into plans(plan_id, title, is_deleted, is_public, star_cnt, view_cnt, owner_id) values (1, "제목",false, true, 0, 0, 1),
-                                                                                              (2, "또다른 플랜",false, true, 0, 0, 1);
+insert into plans(plan_id, title, is_deleted, is_public, star_cnt, view_cnt, owner_id, revision) values (1, "제목",false, true, 0, 0, 1, 0),
+                                                                                                        (2, "또다른 플랜",false, true, 0, 0, 1, 0);
 
 -- 1번 플랜에는 1번 2번 멤버가 있고, 2번 플랜에는 1번 멤버가 있다.
 insert into members_of_plan(plan_id, member_id) values (1,1), (1,2), (2,1);
@@ -23,32 +23,16 @@ update tabs set next_id = 3 where tab_id = 2;
 -- 2번 플랜에는 투두 탭만 존재한다
 insert into tabs(tab_id, first, version, plan_id, title, is_deleted) values (4, true, 1, 2, "투두", false);
 
--- 1번탭(1번플랜 투두)에는 투두 첫번째 - 투두의 두번째- 투두의 세번째 순서로 태스크가 존재한다.
-insert into tasks(task_id, tab_id, title, is_deleted, version, prev_id) values (1, 1, "first", false, 1, null);
-update tabs set first_task_id = 1 where tab_id = 1;
+-- 1번탭(1번플랜 투두)에는 투두 첫번째 - 투두의 두번째 - 투두의 세번째 순서로 태스크가 존재한다.
+insert into tasks(task_id, tab_id, title, is_deleted, version, task_rank) values (1, 1, "투두 첫번째", false, 1, "001000"),
+                                                                                (2, 1, "투두의 두번째", false, 1, "002000"),
+                                                                                (3, 1, "투두의 세번째", false, 1, "003000");
 
-insert into tasks(task_id, tab_id, title, is_deleted, version, prev_id) values (2, 1, "투두 첫번째", false, 1, 1);
-update tasks set next_id = 2 where task_id = 1;
+-- 2번탭(1번플랜 In Progress)에는 태스크가 하나 존재한다.
+insert into tasks(task_id, tab_id, title, is_deleted, version, task_rank) values (4, 2, "In Progress의 첫번째", false, 1, "001000");
 
-insert into tasks(task_id, tab_id, title, is_deleted, version, prev_id) values (3, 1, "투두의 두번째", false, 1, 2);
-update tasks set next_id = 3 where task_id = 2;
-
-insert into tasks(task_id, tab_id, title, is_deleted, version, prev_id) values (4, 1, "투두의 세번째", false, 1, 3);
-update tasks set next_id = 4 where task_id = 3;
-
-insert into tasks(task_id, tab_id, title, is_deleted, version, prev_id) values (5, 1, "last", false, 1, 4);
-update tasks set next_id = 5 where task_id = 4;
-update tabs set last_task_id = 5 where tab_id = 1;
-
-update tabs set first_task_id = 1 where tab_id = 1;
-update tabs set last_task_id = 5 where tab_id = 1;
-
-insert into tasks(task_id, tab_id, title, is_deleted, version, prev_id) values (6, 2, "first", false, 1, null);
-update tabs set first_task_id = 6 where tab_id = 2;
-insert into tasks(task_id, tab_id, title, is_deleted, version, prev_id) values (7, 2, "In Progress의 첫번째", false, 1, 6);
-update tasks set next_id = 7 where task_id = 6;
-update tabs set last_task_id = 4 where tab_id = 2;
-
-insert into tasks(task_id, tab_id, title, is_deleted, version, prev_id) values (8, 2, "last", false, 1, 7);
-update tasks set next_id = 8 where task_id = 7;
-update tabs set last_task_id = 8 where tab_id = 2;
\ No newline at end of file
+-- 위에서 직접 넣은 id 다음부터 id를 발급한다. next_val은 첫 블록의 마지막 id이므로 가장 큰 id에 50(ALLOCATION_SIZE)을 더한다.
+update id_generators set next_val = 52 where sequence_name = "plans";
+update id_generators set next_val = 53 where sequence_name = "members_of_plan";
+update id_generators set next_val = 54 where sequence_name = "tabs";
+update id_generators set next_val = 54 where sequence_name = "tasks";
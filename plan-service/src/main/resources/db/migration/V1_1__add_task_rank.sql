@@ -0,0 +1,8 @@
+-- 탭 안의 태스크 순서를 next/prev 연결 대신 정렬 가능한 rank로 가진다.
+-- 이미 있는 태스크의 rank는 비워 두고, 애플리케이션이 시작할 때 TaskRankJob이 연결 리스트를 따라가며 채운다.
+
+alter table tasks
+    add column task_rank varchar(255);
+
+create index idx_task_tab_rank
+    on tasks (tab_id, task_rank);
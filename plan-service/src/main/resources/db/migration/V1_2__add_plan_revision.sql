@@ -0,0 +1,4 @@
+-- 플랜이 바뀔 때마다 올라가는 revision. 이미 있는 플랜의 revision은 V8에서 0으로 채운다.
+
+alter table plans
+    add column revision bigint;
@@ -0,0 +1,15 @@
+-- 플랜의 revision을 올린 변경을 하나씩 기록한다. 이미 있는 플랜에는 기록할 지난 변경이 없으므로 빈 테이블로 시작한다.
+
+create table plan_changes (
+    created_at datetime(6),
+    modified_at datetime(6),
+    plan_change_id bigint not null auto_increment,
+    plan_id bigint not null,
+    revision bigint not null,
+    target_id bigint,
+    type enum ('LABEL_CREATED','LABEL_DELETED','MEMBER_JOINED','MEMBER_LEFT','PLAN_DELETED','PLAN_UPDATED','TAB_CREATED','TAB_DELETED','TAB_MOVED','TAB_RENAMED','TASKS_RERANKED','TASK_CREATED','TASK_DELETED','TASK_MOVED','TASK_UPDATED') not null,
+    primary key (plan_change_id)
+) engine=InnoDB;
+
+alter table plan_changes
+    add constraint UniquePlanAndRevision unique (plan_id, revision);
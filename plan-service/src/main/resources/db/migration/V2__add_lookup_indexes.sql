@@ -0,0 +1,23 @@
+-- 매 요청마다 실행되는 멤버십, 탭, 태스크, 태스크 라벨 조회가 인덱스를 타도록 한다.
+
+-- 같은 멤버가 한 플랜에 두 번 들어가 있는 행이 있다면 먼저 들어온 행만 남긴다
+delete from members_of_plan
+where member_of_plan_id not in (
+    select member_of_plan_id from (
+        select min(member_of_plan_id) member_of_plan_id
+        from members_of_plan
+        group by plan_id, member_id
+    ) first_memberships
+);
+
+alter table members_of_plan
+    add constraint UniquePlanAndMember unique (plan_id, member_id);
+
+create index idx_tab_plan_deleted
+    on tabs (plan_id, is_deleted);
+
+create index idx_task_tab_deleted
+    on tasks (tab_id, is_deleted);
+
+create index idx_label_of_task_task
+    on labels_of_task (task_id);
@@ -0,0 +1,24 @@
+-- 플랜을 만들 때 함께 저장되는 엔티티의 id를 IDENTITY 대신 이 테이블에서 받아 insert를 배치로 보낼 수 있게 한다.
+-- pooled optimizer는 next_val을 받아 간 블록의 마지막 id로 쓰고 그 앞 ALLOCATION_SIZE(50)개를 발급하므로,
+-- 각 행은 이미 쓰인 가장 큰 id에 50을 더한 값으로 시작해야 첫 블록이 기존 id 다음부터 시작한다.
+
+create table id_generators (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+insert into id_generators (sequence_name, next_val)
+select 'plans', coalesce(max(plan_id), 0) + 50 from plans;
+
+insert into id_generators (sequence_name, next_val)
+select 'members_of_plan', coalesce(max(member_of_plan_id), 0) + 50 from members_of_plan;
+
+insert into id_generators (sequence_name, next_val)
+select 'tabs', coalesce(max(tab_id), 0) + 50 from tabs;
+
+insert into id_generators (sequence_name, next_val)
+select 'tasks', coalesce(max(task_id), 0) + 50 from tasks;
+
+insert into id_generators (sequence_name, next_val)
+select 'labels_of_task', coalesce(max(label_of_task_id), 0) + 50 from labels_of_task;
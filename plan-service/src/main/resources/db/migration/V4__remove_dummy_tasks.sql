@@ -0,0 +1,23 @@
+-- 탭마다 맨 앞과 맨 뒤를 표시하던 더미 태스크를 지운다. 태스크의 순서는 task_rank가 가진다.
+-- rank로 아직 옮겨지지 않은 탭은 더미를 가리키던 prev_id를 비워 두면, 앞에 태스크가 없는 태스크가 연결 리스트의 맨 앞이 된다.
+
+create table dummy_tasks as
+select first_task_id task_id from tabs where first_task_id is not null
+union
+select last_task_id task_id from tabs where last_task_id is not null;
+
+update tasks set prev_id = null where prev_id in (select task_id from dummy_tasks);
+update tasks set next_id = null where next_id in (select task_id from dummy_tasks);
+
+alter table tabs drop foreign key FK9cv1a351i5n38jlhcbon9d7ub;
+alter table tabs drop foreign key FKkmnj7oxnfbwrlotfd7st1xjr;
+alter table tabs drop index UK_3xbbpee80ffcimdu20aqg77ft;
+alter table tabs drop index UK_ru1mu872o4vkhpgrhs9vlpibr;
+alter table tabs drop column first_task_id;
+alter table tabs drop column last_task_id;
+
+delete from labels_of_task where task_id in (select task_id from dummy_tasks);
+delete from comments where task_id in (select task_id from dummy_tasks);
+delete from tasks where task_id in (select task_id from dummy_tasks);
+
+drop table dummy_tasks;
@@ -0,0 +1,26 @@
+-- 초대 메일을 플랜을 저장하는 트랜잭션 안에서 바로 보내지 않고 이 테이블에 쌓아둔 뒤, 커밋된 것만 메일 작업이 보낸다.
+
+create table invitation_mails (
+    attempts integer not null,
+    claimed_at datetime(6),
+    created_at datetime(6),
+    invitation_mail_id bigint not null,
+    modified_at datetime(6),
+    next_attempt_at datetime(6) not null,
+    claim_token varchar(36),
+    uuid varchar(36) not null,
+    status varchar(16) not null,
+    email varchar(255) not null,
+    plan_title varchar(255) not null,
+    primary key (invitation_mail_id)
+) engine=InnoDB;
+
+create index idx_invitation_mail_status_next_attempt
+    on invitation_mails (status, next_attempt_at);
+
+create index idx_invitation_mail_claim_token
+    on invitation_mails (claim_token);
+
+-- next_val은 첫 블록의 마지막 id이므로 ALLOCATION_SIZE(50)로 시작해야 1부터 발급된다.
+insert into id_generators (sequence_name, next_val)
+values ('invitation_mails', 50);
@@ -0,0 +1,11 @@
+-- 플랜 변경 기록을 outbox로 써서 메시지 브로커로 보낸다. 보낸 기록은 published_at이 채워진다.
+-- 이미 쌓여 있는 기록은 보낸 것으로 쳐서, 처음 배포할 때 지난 변경이 한꺼번에 나가지 않게 한다.
+
+alter table plan_changes
+    add column published_at datetime(6);
+
+update plan_changes
+set published_at = coalesce(created_at, now(6));
+
+create index idx_plan_change_published
+    on plan_changes (published_at);
@@ -0,0 +1,4 @@
+-- 여러 태스크를 한 번에 만든 변경을 revision 하나로 기록한다.
+
+alter table plan_changes
+    modify column type enum ('LABEL_CREATED','LABEL_DELETED','MEMBER_JOINED','MEMBER_LEFT','PLAN_DELETED','PLAN_UPDATED','TAB_CREATED','TAB_DELETED','TAB_MOVED','TAB_RENAMED','TASKS_CREATED','TASKS_RERANKED','TASK_CREATED','TASK_DELETED','TASK_MOVED','TASK_UPDATED') not null;
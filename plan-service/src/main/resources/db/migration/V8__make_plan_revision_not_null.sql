@@ -0,0 +1,9 @@
+-- revision이 생기기 전에 만들어진 플랜은 revision이 비어 있어 revision을 읽는 조회가 모두 플랜을 찾지 못한다.
+-- 0부터 시작하게 채우고, 이후에 들어오는 플랜도 비어 있지 않게 한다.
+
+update plans
+set revision = 0
+where revision is null;
+
+alter table plans
+    modify column revision bigint not null default 0;
@@ -0,0 +1,12 @@
+-- 여러 인스턴스의 relay가 같은 변경을 함께 보내지 않도록, 임대를 가진 relay 하나만 변경을 보낸다.
+-- 임대를 가진 인스턴스가 leased_until까지 갱신하지 못하면 다른 인스턴스가 가져간다.
+
+create table plan_change_relay_leases (
+    leased_until datetime(6),
+    name varchar(64) not null,
+    owner varchar(36),
+    primary key (name)
+) engine=InnoDB;
+
+insert into plan_change_relay_leases (name, owner, leased_until)
+values ('plan-change-relay', null, null);
@@ -1,44 +1,62 @@
 package com.example.planservice.application;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
 
 import javax.mail.Message;
 import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import com.example.planservice.support.FakeSmtpServer;
+
 @SpringBootTest
 class EmailServiceTest {
+    private static final int SMTP_PORT = 3025;
 
     @Autowired
     EmailService emailService;
 
-    @Test
-    void sendEmail() throws MessagingException {
+    private FakeSmtpServer smtpServer;
+
+    @BeforeEach
+    void setUp() {
+        smtpServer = FakeSmtpServer.start(SMTP_PORT);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtpServer.close();
+    }
 
+    @Test
+    @DisplayName("한 번 맺은 SMTP 연결로 여러 초대 메일을 보낸다")
+    void sendEmail() throws MessagingException, IOException {
         // given
-        String recipient = "test@example.com";
         String text = "Hello, this is a test email.";
-        EmailService emailServiceMock = Mockito.spy(emailService);
-        Mockito.doNothing()
-            .when(emailServiceMock)
-            .send(any(Message.class));
 
         // when
-        emailServiceMock.sendInviteEmail(recipient, text, "uuid");
+        try (EmailService.Connection connection = emailService.connect()) {
+            connection.sendInviteEmail("test1@example.com", text, "uuid1");
+            connection.sendInviteEmail("test2@example.com", text, "uuid2");
+        }
 
         // then
-        ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
-        Mockito.verify(emailServiceMock, times(1))
-            .send(messageCaptor.capture());
-        Message sentMessage = messageCaptor.getValue();
-        assertEquals(sentMessage.getRecipients(Message.RecipientType.TO)[0].toString(), recipient);
-        assertEquals(sentMessage.getSubject(), "Planting의 플랜에 초대되었습니다");
+        List<MimeMessage> messages = smtpServer.getMessages();
+        assertThat(smtpServer.getConnections()).isEqualTo(1);
+        assertThat(messages).hasSize(2);
+        MimeMessage sentMessage = messages.get(0);
+        assertThat(sentMessage.getRecipients(Message.RecipientType.TO)[0]).hasToString("test1@example.com");
+        assertThat(sentMessage.getSubject()).isEqualTo("Planting의 플랜에 초대되었습니다");
+        assertThat(sentMessage.getContent()
+            .toString()).contains(text, "/invite/uuid1");
     }
 }
@@ -0,0 +1,239 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.application.dto.TabChangeTitleServiceRequest;
+import com.example.planservice.domain.member.Member;
+import com.example.planservice.domain.member.repository.MemberRepository;
+import com.example.planservice.presentation.dto.request.LabelCreateRequest;
+import com.example.planservice.presentation.dto.request.PlanCreateRequest;
+import com.example.planservice.presentation.dto.request.TabCreateRequest;
+import com.example.planservice.presentation.dto.request.TaskBulkCreateRequest;
+import com.example.planservice.presentation.dto.request.TaskCreateRequest;
+import com.example.planservice.support.QueryCounter;
+
+/**
+ * 각 유스케이스가 실행하는 SQL을 기록해서, 필요 없는 태스크와 라벨을 읽지 않는지 확인한다.
+ * 실패하면 실행된 SQL 전체가 메시지에 담긴다.
+ */
+@SpringBootTest
+@Transactional
+class FetchPlanRegressionTest {
+    @Autowired
+    PlanService planService;
+
+    @Autowired
+    TabService tabService;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    LabelService labelService;
+
+    @Autowired
+    PlanMembershipService planMembershipService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    @MockBean
+    EmailService emailService;
+
+    private Long memberId;
+    private Long planId;
+    private Long tabId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+            .name("tester")
+            .email("fetch@example.com")
+            .build());
+        memberId = member.getId();
+        planId = planService.create(PlanCreateRequest.builder()
+            .title("plan")
+            .isPublic(false)
+            .invitedEmails(List.of())
+            .build(), memberId);
+        tabId = tabService.create(memberId, TabCreateRequest.builder()
+            .planId(planId)
+            .title("tab")
+            .build());
+    }
+
+    @Test
+    @DisplayName("탭 이름을 바꿀 때 태스크와 라벨을 읽지 않는다")
+    void changeTabName() {
+        // given
+        createTasks(10, List.of());
+        TabChangeTitleServiceRequest request = TabChangeTitleServiceRequest.builder()
+            .planId(planId)
+            .tabId(tabId)
+            .memberId(memberId)
+            .title("renamed")
+            .build();
+
+        // when
+        List<String> sqls = queryCounter.record(() -> tabService.changeName(request));
+
+        // then
+        assertThat(sqls).as(String.join("\n", sqls))
+            .noneMatch(sql -> reads(sql, "tasks"))
+            .noneMatch(sql -> reads(sql, "labels_of_task"));
+    }
+
+    @Test
+    @DisplayName("플랜 권한을 확인할 때 탭과 태스크를 읽지 않고, 이미 확인한 멤버십은 다시 읽지 않는다")
+    void validateAuthorization() {
+        // given
+        createTasks(10, List.of());
+
+        // when
+        List<String> sqls = queryCounter.record(
+            () -> planMembershipService.getPlanAfterValidateAuthorization(planId, memberId));
+
+        // then
+        assertThat(sqls).as(String.join("\n", sqls))
+            .hasSize(1)
+            .noneMatch(sql -> reads(sql, "members_of_plan"))
+            .noneMatch(sql -> reads(sql, "tabs"))
+            .noneMatch(sql -> reads(sql, "tasks"));
+    }
+
+    @Test
+    @DisplayName("태스크 상세 조회는 라벨, 탭, 플랜을 한 번에 읽고 라벨의 개수와 관계없이 쿼리 수가 일정하다")
+    void findTask() {
+        // given
+        Long fewLabels = createTasks(1, createLabels("few", 1)).get(0);
+        Long manyLabels = createTasks(1, createLabels("many", 5)).get(0);
+
+        // when
+        List<String> few = queryCounter.record(() -> taskService.find(fewLabels, memberId));
+        List<String> many = queryCounter.record(() -> taskService.find(manyLabels, memberId));
+
+        // then
+        assertThat(many).as(String.join("\n", many))
+            .hasSameSizeAs(few)
+            .filteredOn(sql -> reads(sql, "labels_of_task"))
+            .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("탭 조회는 탭의 태스크 전체를 읽지 않고 한 페이지만 읽는다")
+    void findTab() {
+        // given
+        createTasks(3, List.of());
+        long small = queryCounter.count(() -> tabService.find(tabId, memberId, null, 2));
+
+        createTasks(20, List.of());
+
+        // when
+        List<String> sqls = queryCounter.record(() -> tabService.find(tabId, memberId, null, 2));
+
+        // then
+        assertThat(sqls).as(String.join("\n", sqls))
+            .hasSize((int) small)
+            .filteredOn(sql -> reads(sql, "tasks"))
+            .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("조건부 조회를 위한 ETag 계산은 탭과 태스크를 읽지 않는다")
+    void eTag() {
+        // given
+        createTasks(10, List.of());
+
+        // when
+        List<String> sqls = new ArrayList<>(queryCounter.record(() -> planService.getPlanETag(planId, null)));
+        sqls.addAll(queryCounter.record(() -> planService.getMainETag(memberId)));
+
+        // then
+        assertThat(sqls).as(String.join("\n", sqls))
+            .hasSize(2)
+            .noneMatch(sql -> reads(sql, "tabs"))
+            .noneMatch(sql -> reads(sql, "tasks"));
+    }
+
+    @Test
+    @DisplayName("여러 태스크를 한 번에 만들 때 쿼리 수가 태스크의 개수와 관계없이 일정하다")
+    void createAll() {
+        // given
+        List<Long> labels = createLabels("bulk", 3);
+        long few = queryCounter.count(() -> taskService.createAll(memberId, createBulkRequest(2, labels)));
+
+        // when
+        List<String> sqls = queryCounter.record(() -> taskService.createAll(memberId, createBulkRequest(40, labels)));
+
+        // then
+        assertThat(sqls).as(String.join("\n", sqls))
+            .hasSize((int) few);
+    }
+
+    private static boolean reads(String sql, String table) {
+        return Pattern.compile("\\b(from|join)\\s+" + table + "\\b", Pattern.CASE_INSENSITIVE)
+            .matcher(sql)
+            .find();
+    }
+
+    private List<Long> createTasks(int count, List<Long> labels) {
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TaskCreateRequest request = TaskCreateRequest.builder()
+                .planId(planId)
+                .tabId(tabId)
+                .assigneeId(memberId)
+                .title("task" + i)
+                .endDate(LocalDate.now()
+                    .plusDays(1))
+                .labels(labels)
+                .build();
+            result.add(taskService.create(memberId, request));
+        }
+        return result;
+    }
+
+    private TaskBulkCreateRequest createBulkRequest(int count, List<Long> labels) {
+        List<TaskBulkCreateRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(TaskBulkCreateRequest.Item.builder()
+                .assigneeId(memberId)
+                .title("bulk" + i)
+                .labels(labels)
+                .build());
+        }
+        return TaskBulkCreateRequest.builder()
+            .planId(planId)
+            .tabId(tabId)
+            .tasks(items)
+            .build();
+    }
+
+    private List<Long> createLabels(String prefix, int count) {
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LabelCreateRequest request = LabelCreateRequest.builder()
+                .planId(planId)
+                .name(prefix + i)
+                .build();
+            result.add(labelService.create(memberId, request));
+        }
+        return result;
+    }
+}
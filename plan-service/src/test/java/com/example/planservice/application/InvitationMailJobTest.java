@@ -0,0 +1,143 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.mail.Message;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.planservice.domain.invitation.InvitationMail;
+import com.example.planservice.domain.invitation.InvitationMailStatus;
+import com.example.planservice.domain.invitation.repository.InvitationMailRepository;
+import com.example.planservice.support.FakeSmtpServer;
+
+/**
+ * 메일 작업은 다른 스레드에서 메일을 읽으므로, 쌓아둔 메일을 커밋하고 테스트가 끝나면 지운다
+ */
+@SpringBootTest
+class InvitationMailJobTest {
+    private static final int SMTP_PORT = 3025;
+
+    @Autowired
+    InvitationMailJob invitationMailJob;
+
+    @Autowired
+    InvitationMailService invitationMailService;
+
+    @Autowired
+    InvitationMailRepository invitationMailRepository;
+
+    private FakeSmtpServer smtpServer;
+
+    @BeforeEach
+    void setUp() {
+        smtpServer = FakeSmtpServer.start(SMTP_PORT);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtpServer.close();
+        invitationMailRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("쌓인 초대 메일을 작업 스레드마다 하나의 SMTP 연결로 나눠 보낸다")
+    void send() {
+        // given
+        List<String> emails = IntStream.range(0, 6)
+            .mapToObj(i -> "test" + i + "@example.com")
+            .toList();
+        invitationMailService.enqueue(emails, "플랜 제목", "uuid");
+
+        // when
+        invitationMailJob.dispatch()
+            .join();
+
+        // then
+        assertThat(smtpServer.getConnections()).isEqualTo(2);
+        assertThat(smtpServer.getMessages()).extracting(message -> message.getRecipients(Message.RecipientType.TO)[0]
+                .toString())
+            .containsExactlyInAnyOrderElementsOf(emails);
+        assertThat(invitationMailRepository.findAll()).extracting(InvitationMail::getStatus)
+            .containsOnly(InvitationMailStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("보내지 못한 초대 메일은 다시 보낼 시각을 미뤄두고, 그 전까지는 다시 보내지 않는다")
+    void sendFailRetryLater() {
+        // given
+        smtpServer.rejectNext(1);
+        invitationMailService.enqueue(List.of("test@example.com"), "플랜 제목", "uuid");
+
+        // when
+        invitationMailJob.dispatch()
+            .join();
+        invitationMailJob.dispatch()
+            .join();
+
+        // then
+        assertThat(smtpServer.getMessages()).isEmpty();
+        InvitationMail mail = invitationMailRepository.findAll()
+            .get(0);
+        assertThat(mail.getStatus()).isEqualTo(InvitationMailStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("SMTP 서버에 연결하지 못하면 가져간 초대 메일을 모두 다시 보낼 대상으로 돌려놓는다")
+    void sendFailConnection() throws IOException {
+        // given
+        smtpServer.close();
+        invitationMailService.enqueue(List.of("test1@example.com", "test2@example.com"), "플랜 제목", "uuid");
+
+        // when
+        invitationMailJob.dispatch()
+            .join();
+
+        // then
+        assertThat(invitationMailRepository.findAll()).extracting(InvitationMail::getStatus, InvitationMail::getAttempts)
+            .containsOnly(tuple(InvitationMailStatus.PENDING, 1));
+    }
+
+    @Test
+    @DisplayName("SMTP 서버가 응답하지 않아도 바로 돌아오고, 제한 시간이 지나면 메일을 다시 보낼 대상으로 돌려놓는다")
+    void sendHungServer() throws Exception {
+        // given
+        smtpServer.close();
+        invitationMailService.enqueue(List.of("test1@example.com"), "플랜 제목", "uuid");
+
+        try (ServerSocket hung = new ServerSocket()) {
+            // 연결은 받지만 인사말을 보내지 않는 서버
+            hung.setReuseAddress(true);
+            hung.bind(new InetSocketAddress(SMTP_PORT));
+
+            // when
+            long startedAt = System.nanoTime();
+            CompletableFuture<Void> sending = invitationMailJob.dispatch();
+            long dispatchMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            sending.get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(dispatchMillis).isLessThan(1000);
+            assertThat(invitationMailRepository.findAll()).extracting(InvitationMail::getStatus,
+                    InvitationMail::getAttempts)
+                .containsOnly(tuple(InvitationMailStatus.PENDING, 1));
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.application.dto.TaskPage;
+import com.example.planservice.domain.member.Member;
+import com.example.planservice.domain.member.repository.MemberRepository;
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import com.example.planservice.presentation.dto.request.LabelCreateRequest;
+import com.example.planservice.presentation.dto.request.PlanCreateRequest;
+import com.example.planservice.presentation.dto.request.TabCreateRequest;
+import com.example.planservice.presentation.dto.request.TaskCreateRequest;
+import com.example.planservice.presentation.dto.response.PlanMainResponse;
+import com.example.planservice.presentation.dto.response.PlanResponse;
+import com.example.planservice.presentation.dto.response.TabOfPlanResponse;
+import com.example.planservice.presentation.dto.response.TaskOfPlanResponse;
+import com.example.planservice.support.QueryCounter;
+
+@SpringBootTest
+@Transactional
+class PlanBoardReaderTest {
+    @Autowired
+    PlanBoardReader planBoardReader;
+
+    @Autowired
+    PlanService planService;
+
+    @Autowired
+    TabService tabService;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    LabelService labelService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    @MockBean
+    EmailService emailService;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+            .name("tester")
+            .email("board@example.com")
+            .build());
+        memberId = member.getId();
+    }
+
+    @Test
+    @DisplayName("메인 보드는 탭과 태스크를 순서대로 담아서 반환한다")
+    void readMainBoards() {
+        // given
+        Long planId = createPlan("plan");
+        Long tabId = createTab(planId, "tab");
+        Long task1 = createTask(planId, tabId, "task1");
+        Long task2 = createTask(planId, tabId, "task2");
+
+        // when
+        List<PlanMainResponse> result = planBoardReader.readMainBoards(memberId);
+
+        // then
+        assertThat(result).hasSize(1);
+        PlanMainResponse plan = result.get(0);
+        assertThat(plan.getPlanId()).isEqualTo(planId);
+        assertThat(plan.getTabOrder()).hasSize(4)
+            .endsWith(tabId);
+        PlanMainResponse.TabInfo tab = plan.getTabs()
+            .get(3);
+        assertThat(tab.getTaskOrder()).containsExactly(task1, task2);
+        assertThat(tab.getTaskList()).extracting(PlanMainResponse.TaskInfo::getTitle)
+            .containsExactly("task1", "task2");
+    }
+
+    @Test
+    @DisplayName("플랜이 없는 멤버는 빈 목록을 받는다")
+    void readMainBoardsEmpty() {
+        // when
+        List<PlanMainResponse> result = planBoardReader.readMainBoards(memberId);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("플랜, 탭, 태스크가 늘어나도 메인 보드 조회 쿼리 수는 일정하다")
+    void readMainBoardsWithConstantQueries() {
+        // given
+        createBoard(1, 1);
+        long small = queryCounter.count(() -> planBoardReader.readMainBoards(memberId));
+
+        createBoard(10, 5);
+        long large = queryCounter.count(() -> planBoardReader.readMainBoards(memberId));
+
+        // then
+        assertThat(small).isEqualTo(3);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("플랜 스냅샷은 탭 순서, 태스크 순서, 태스크의 라벨과 담당자를 담는다")
+    void readPlanSnapshot() {
+        // given
+        Long planId = createPlan("plan");
+        Long tabId = createTab(planId, "tab");
+        Long labelId = createLabel(planId, "label");
+        Long task1 = createTask(planId, tabId, "task1", List.of(labelId));
+        Long task2 = createTask(planId, tabId, "task2", List.of());
+
+        // when
+        PlanResponse result = planBoardReader.readPlanSnapshot(planId, null);
+
+        // then
+        assertThat(result.getId()).isEqualTo(planId);
+        assertThat(result.getMembers()).hasSize(1)
+            .allMatch(member -> member.isAdmin() && member.getId()
+                .equals(memberId));
+        assertThat(result.getTabOrder()).hasSize(4)
+            .endsWith(tabId);
+        TabOfPlanResponse tab = result.getTabs()
+            .get(3);
+        assertThat(tab.getTaskOrder()).containsExactly(task1, task2);
+        assertThat(result.getTasks()).extracting(TaskOfPlanResponse::getId)
+            .containsExactly(task1, task2);
+        assertThat(result.getTasks()
+            .get(0)
+            .getLabels()).containsExactly(labelId);
+        assertThat(result.getTasks()
+            .get(0)
+            .getAssigneeId()).isEqualTo(memberId);
+        assertThat(result.getLabels()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("태스크가 늘어나도 플랜 스냅샷 조회 쿼리 수는 일정하다")
+    void readPlanSnapshotWithConstantQueries() {
+        // given
+        Long planId = createPlan("plan");
+        Long tabId = createTab(planId, "tab");
+        Long labelId = createLabel(planId, "label");
+        createTask(planId, tabId, "task", List.of(labelId));
+        long small = queryCounter.count(() -> planBoardReader.readPlanSnapshot(planId, null));
+
+        for (int i = 0; i < 30; i++) {
+            createTask(planId, tabId, "task" + i, List.of(labelId));
+        }
+        long large = queryCounter.count(() -> planBoardReader.readPlanSnapshot(planId, null));
+
+        // then
+        assertThat(small).isLessThanOrEqualTo(6);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("플랜 스냅샷은 탭마다 limit개의 태스크만 담고, 남은 태스크는 커서로 이어서 읽는다")
+    void readPlanSnapshotWithTaskPage() {
+        // given
+        Long planId = createPlan("plan");
+        Long tabId = createTab(planId, "tab");
+        Long task1 = createTask(planId, tabId, "task1");
+        Long task2 = createTask(planId, tabId, "task2");
+        Long task3 = createTask(planId, tabId, "task3");
+
+        // when
+        PlanResponse result = planBoardReader.readPlanSnapshot(planId, 2);
+        TabOfPlanResponse tab = result.getTabs()
+            .get(3);
+        TaskPage next = planBoardReader.readTaskPage(tabId, tab.getNextCursor(), 2);
+
+        // then
+        assertThat(tab.getTaskOrder()).containsExactly(task1, task2);
+        assertThat(result.getTasks()).extracting(TaskOfPlanResponse::getId)
+            .containsExactly(task1, task2);
+        assertThat(result.getTabs()
+            .get(0)
+            .getNextCursor()).isNull();
+        assertThat(next.taskIds()).containsExactly(task3);
+        assertThat(next.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("탭이 늘어나도 탭마다 limit개씩 읽는 플랜 스냅샷 조회 쿼리 수는 일정하다")
+    void readPlanSnapshotPageWithConstantQueries() {
+        // given
+        Long planId = createPlan("plan");
+        Long tabId = createTab(planId, "tab");
+        createTask(planId, tabId, "task");
+        long small = queryCounter.count(() -> planBoardReader.readPlanSnapshot(planId, 3));
+
+        for (int i = 0; i < 5; i++) {
+            createTask(planId, tabId, "task" + i);
+        }
+        PlanResponse result = planBoardReader.readPlanSnapshot(planId, 3);
+        long large = queryCounter.count(() -> planBoardReader.readPlanSnapshot(planId, 3));
+
+        // then
+        assertThat(result.getTasks()).hasSize(3);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("태스크를 한 번에 조회할 개수는 1 이상이어야 한다")
+    void readTaskPageFailInvalidLimit() {
+        // given
+        Long planId = createPlan("plan");
+        Long tabId = createTab(planId, "tab");
+
+        // when & then
+        assertThatThrownBy(() -> planBoardReader.readTaskPage(tabId, null, 0))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.TASK_PAGE_SIZE_INVALID.getMessage());
+    }
+
+    private void createBoard(int planCount, int taskCount) {
+        for (int i = 0; i < planCount; i++) {
+            Long planId = createPlan("plan" + i);
+            Long tabId = createTab(planId, "tab" + i);
+            for (int j = 0; j < taskCount; j++) {
+                createTask(planId, tabId, "task" + j);
+            }
+        }
+    }
+
+    private Long createPlan(String title) {
+        PlanCreateRequest request = PlanCreateRequest.builder()
+            .title(title)
+            .isPublic(true)
+            .invitedEmails(List.of())
+            .build();
+        return planService.create(request, memberId);
+    }
+
+    private Long createTab(Long planId, String title) {
+        TabCreateRequest request = TabCreateRequest.builder()
+            .planId(planId)
+            .title(title)
+            .build();
+        return tabService.create(memberId, request);
+    }
+
+    private Long createTask(Long planId, Long tabId, String title) {
+        return createTask(planId, tabId, title, List.of());
+    }
+
+    private Long createTask(Long planId, Long tabId, String title, List<Long> labels) {
+        TaskCreateRequest request = TaskCreateRequest.builder()
+            .planId(planId)
+            .tabId(tabId)
+            .assigneeId(memberId)
+            .title(title)
+            .endDate(LocalDate.now()
+                .plusDays(1))
+            .labels(labels)
+            .build();
+        return taskService.create(memberId, request);
+    }
+
+    private Long createLabel(Long planId, String name) {
+        LabelCreateRequest request = LabelCreateRequest.builder()
+            .planId(planId)
+            .name(name)
+            .build();
+        return labelService.create(memberId, request);
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.planservice.application.dto.PlanChangeMessage;
+import com.example.planservice.domain.planchange.PlanChange;
+import com.example.planservice.domain.planchange.PlanChangeType;
+import com.example.planservice.domain.planchange.repository.PlanChangeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 전송은 다른 스레드에서 변경 기록을 읽으므로, 변경 기록을 커밋하고 테스트가 끝나면 지운다.
+ * 다른 테스트가 남긴 기록도 함께 보내질 수 있으므로, 이 테스트에서 만든 플랜의 변경만 확인한다.
+ */
+@SpringBootTest
+class PlanChangeRelayTest {
+    private static final Long PLAN = 1_000_001L;
+    private static final Long OTHER_PLAN = 1_000_002L;
+
+    @Autowired
+    PlanChangeRelay planChangeRelay;
+
+    @Autowired
+    PlanChangeOutboxService planChangeOutboxService;
+
+    @Autowired
+    PlanChangeRepository planChangeRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    PlanChangePublisher planChangePublisher;
+
+    private final List<List<PlanChangeMessage>> published = new CopyOnWriteArrayList<>();
+    private final Set<Long> unreachablePlanIds = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            List<PlanChangeMessage> messages = invocation.getArgument(0);
+            if (unreachablePlanIds.contains(messages.get(0)
+                .planId())) {
+                throw new AmqpIOException(new IOException("connection reset"));
+            }
+            return published.add(new ArrayList<>(messages));
+        }).when(planChangePublisher)
+            .publish(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        planChangeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("보내지 않은 변경을 플랜별로 revision 순서대로 보내고, 보낸 변경을 표시한다")
+    void relay() {
+        // given
+        saveChange(PLAN, 1);
+        saveChange(OTHER_PLAN, 1);
+        saveChange(PLAN, 2);
+        saveChange(OTHER_PLAN, 2);
+        saveChange(PLAN, 3);
+
+        // when
+        planChangeRelay.relay();
+
+        // then
+        assertThat(revisionsOf(PLAN)).containsExactly(1L, 2L, 3L);
+        assertThat(revisionsOf(OTHER_PLAN)).containsExactly(1L, 2L);
+        assertThat(published).allSatisfy(messages -> assertThat(messages).extracting(PlanChangeMessage::planId)
+            .containsOnly(messages.get(0)
+                .planId()));
+        assertThat(planChangeRepository.findAll()).extracting(PlanChange::getPublishedAt)
+            .doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("변경을 보내지 못한 플랜은 표시하지 않고 다음 주기에 다시 보낸다")
+    void relayFailRetry() {
+        // given
+        saveChange(PLAN, 1);
+        saveChange(OTHER_PLAN, 1);
+        unreachablePlanIds.add(PLAN);
+        planChangeRelay.relay();
+        assertThat(revisionsOf(PLAN)).isEmpty();
+        assertThat(revisionsOf(OTHER_PLAN)).containsExactly(1L);
+        unreachablePlanIds.clear();
+
+        // when
+        planChangeRelay.relay();
+
+        // then
+        assertThat(revisionsOf(PLAN)).containsExactly(1L);
+        assertThat(revisionsOf(OTHER_PLAN)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("보내지 못하고 밀린 변경의 개수와 가장 오래 기다린 시간을 지표로 남긴다")
+    void backlogMetrics() {
+        // given
+        saveChange(PLAN, 1);
+        saveChange(PLAN, 2);
+        unreachablePlanIds.add(PLAN);
+
+        // when
+        planChangeRelay.relay();
+
+        // then
+        assertThat(meterRegistry.get("plan.outbox.pending")
+            .gauge()
+            .value()).isGreaterThanOrEqualTo(2);
+        assertThat(meterRegistry.get("plan.outbox.lag")
+            .timeGauge()
+            .value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스의 relay가 동시에 돌아도 변경은 한 번씩 revision 순서대로 나간다")
+    void relayConcurrently() throws Exception {
+        // given
+        LongStream.rangeClosed(1, 20)
+            .forEach(revision -> {
+                saveChange(PLAN, revision);
+                saveChange(OTHER_PLAN, revision);
+            });
+        PlanChangeRelay otherInstance = new PlanChangeRelay(planChangeOutboxService, planChangePublisher,
+            new SimpleMeterRegistry(), 4, 5, 10);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            List<Future<Object>> runs = Stream.of(planChangeRelay, otherInstance)
+                .map(relay -> executor.submit(() -> {
+                    start.await();
+                    relay.relay();
+                    return null;
+                }))
+                .toList();
+            start.countDown();
+            for (Future<Object> run : runs) {
+                run.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            otherInstance.close();
+            executor.shutdownNow();
+        }
+
+        // then
+        List<Long> expected = LongStream.rangeClosed(1, 20)
+            .boxed()
+            .toList();
+        assertThat(revisionsOf(PLAN)).containsExactlyElementsOf(expected);
+        assertThat(revisionsOf(OTHER_PLAN)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("밀린 변경이 많아도 한 주기에는 max-batches 묶음까지만 보내고 나머지는 다음 주기에 보낸다")
+    void relayMaxBatches() {
+        // given
+        // 다른 테스트가 남긴 변경이 묶음을 차지하지 않도록 비우고 시작한다
+        planChangeRepository.deleteAll();
+        LongStream.rangeClosed(1, 6)
+            .forEach(revision -> saveChange(PLAN, revision));
+        // 앞선 테스트에서 다른 relay가 가져간 임대가 끝난 상황
+        jdbcTemplate.update("update plan_change_relay_leases set owner = null, leased_until = null");
+        PlanChangeRelay relay = new PlanChangeRelay(planChangeOutboxService, planChangePublisher,
+            new SimpleMeterRegistry(), 1, 2, 2);
+
+        try {
+            // when
+            relay.relay();
+            List<Long> firstPoll = revisionsOf(PLAN);
+            relay.relay();
+
+            // then
+            assertThat(firstPoll).containsExactly(1L, 2L, 3L, 4L);
+            assertThat(revisionsOf(PLAN)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        } finally {
+            relay.close();
+        }
+    }
+
+    private void saveChange(Long planId, long revision) {
+        planChangeRepository.save(PlanChange.builder()
+            .planId(planId)
+            .revision(revision)
+            .type(PlanChangeType.TASK_CREATED)
+            .targetId(revision)
+            .build());
+    }
+
+    private List<Long> revisionsOf(Long planId) {
+        return published.stream()
+            .flatMap(List::stream)
+            .filter(message -> message.planId()
+                .equals(planId))
+            .map(PlanChangeMessage::revision)
+            .toList();
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.application.dto.TabChangeTitleServiceRequest;
+import com.example.planservice.domain.member.Member;
+import com.example.planservice.domain.member.repository.MemberRepository;
+import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.domain.planchange.PlanChange;
+import com.example.planservice.domain.planchange.PlanChangeType;
+import com.example.planservice.domain.planchange.repository.PlanChangeRepository;
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import com.example.planservice.presentation.dto.request.LabelCreateRequest;
+import com.example.planservice.presentation.dto.request.PlanCreateRequest;
+import com.example.planservice.presentation.dto.request.PlanUpdateRequest;
+import com.example.planservice.presentation.dto.request.TaskCreateRequest;
+import com.example.planservice.presentation.dto.response.LabelOfPlanResponse;
+import com.example.planservice.presentation.dto.response.PlanChangesResponse;
+import com.example.planservice.presentation.dto.response.PlanChangesResponse.ChangeInfo;
+import com.example.planservice.presentation.dto.response.PlanChangesResponse.TabChange;
+
+@SpringBootTest
+@Transactional
+class PlanChangeServiceTest {
+    @Autowired
+    PlanChangeService planChangeService;
+
+    @Autowired
+    PlanService planService;
+
+    @Autowired
+    TabService tabService;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    LabelService labelService;
+
+    @Autowired
+    PlanRepository planRepository;
+
+    @Autowired
+    PlanChangeRepository planChangeRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @MockBean
+    EmailService emailService;
+
+    private Long memberId;
+    private Long planId;
+    private Long tabId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+            .name("tester")
+            .email("changes@example.com")
+            .build());
+        memberId = member.getId();
+        planId = planService.create(PlanCreateRequest.builder()
+            .title("plan")
+            .isPublic(false)
+            .invitedEmails(List.of())
+            .build(), memberId);
+        tabId = planService.getTotalPlanResponse(planId, null)
+            .getTabOrder()
+            .get(0);
+    }
+
+    @Test
+    @DisplayName("since 이후에 바뀐 태스크, 탭, 라벨의 현재 상태만 내려준다")
+    void findChanges() {
+        // given
+        Long first = createTask("first");
+        long since = getRevision();
+        Long second = createTask("second");
+        tabService.changeName(TabChangeTitleServiceRequest.builder()
+            .planId(planId)
+            .tabId(tabId)
+            .memberId(memberId)
+            .title("renamed")
+            .build());
+        Long labelId = labelService.create(memberId, LabelCreateRequest.builder()
+            .planId(planId)
+            .name("label")
+            .build());
+
+        // when
+        PlanChangesResponse result = planChangeService.findChanges(planId, memberId, since);
+
+        // then
+        assertThat(result.isSnapshot()).isFalse();
+        assertThat(result.getRevision()).isEqualTo(since + 3);
+        assertThat(result.getChanges()).extracting(ChangeInfo::getType)
+            .containsExactly(PlanChangeType.TASK_CREATED, PlanChangeType.TAB_RENAMED, PlanChangeType.LABEL_CREATED);
+        assertThat(result.getTasks()).hasSize(1);
+        assertThat(result.getTasks()
+            .get(0)
+            .getTask()
+            .getId()).isEqualTo(second);
+        assertThat(result.getTasks()
+            .get(0)
+            .getPrevId()).isEqualTo(first);
+        assertThat(result.getTabOrder()).isEqualTo(planService.getTotalPlanResponse(planId, null)
+            .getTabOrder());
+        assertThat(result.getTabs()).extracting(TabChange::getTitle)
+            .containsExactly("renamed");
+        assertThat(result.getLabels()).extracting(LabelOfPlanResponse::getId)
+            .containsExactly(labelId);
+    }
+
+    @Test
+    @DisplayName("since 이후에 삭제된 태스크는 id만 내려준다")
+    void findChangesWithDeletedTask() {
+        // given
+        Long taskId = createTask("task");
+        long since = getRevision();
+        taskService.delete(memberId, taskId);
+
+        // when
+        PlanChangesResponse result = planChangeService.findChanges(planId, memberId, since);
+
+        // then
+        assertThat(result.isSnapshot()).isFalse();
+        assertThat(result.getTasks()).isEmpty();
+        assertThat(result.getDeletedTaskIds()).containsExactly(taskId);
+    }
+
+    @Test
+    @DisplayName("이미 최신 revision을 가진 클라이언트에게는 빈 변경분을 내려준다")
+    void findChangesUpToDate() {
+        // given
+        createTask("task");
+        long since = getRevision();
+
+        // when
+        PlanChangesResponse result = planChangeService.findChanges(planId, memberId, since);
+
+        // then
+        assertThat(result.isSnapshot()).isFalse();
+        assertThat(result.getRevision()).isEqualTo(since);
+        assertThat(result.getChanges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("since 이후의 변경 기록이 정리되어 빠져 있으면 전체 스냅샷을 내려준다")
+    void findChangesAfterCompaction() {
+        // given
+        long since = getRevision();
+        Long taskId = createTask("task");
+        planChangeRepository.markPublished(planChangeRepository.findAll()
+            .stream()
+            .map(PlanChange::getId)
+            .toList(), LocalDateTime.now());
+        planChangeRepository.deleteAllPublishedBefore(LocalDateTime.now()
+            .plusDays(1));
+
+        // when
+        PlanChangesResponse result = planChangeService.findChanges(planId, memberId, since);
+
+        // then
+        assertThat(result.isSnapshot()).isTrue();
+        assertThat(result.getRevision()).isEqualTo(since + 1);
+        assertThat(result.getPlan()
+            .getTasks()).extracting("id")
+            .containsExactly(taskId);
+    }
+
+    @Test
+    @DisplayName("변경분만으로 보드를 맞출 수 없는 변경이 있으면 전체 스냅샷을 내려준다")
+    void findChangesRequiringSnapshot() {
+        // given
+        long since = getRevision();
+        planService.update(planId, PlanUpdateRequest.builder()
+            .title("new title")
+            .intro("intro")
+            .isPublic(false)
+            .ownerId(memberId)
+            .invitedEmails(List.of())
+            .kickingMemberIds(List.of())
+            .build(), memberId);
+
+        // when
+        PlanChangesResponse result = planChangeService.findChanges(planId, memberId, since);
+
+        // then
+        assertThat(result.isSnapshot()).isTrue();
+        assertThat(result.getPlan()
+            .getTitle()).isEqualTo("new title");
+    }
+
+    @Test
+    @DisplayName("비공개 플랜에 속하지 않은 사용자는 변경분을 조회할 수 없다")
+    void findChangesFailNotMember() {
+        // given
+        Member other = memberRepository.save(Member.builder()
+            .name("other")
+            .email("other@example.com")
+            .build());
+
+        // when & then
+        assertThatThrownBy(() -> planChangeService.findChanges(planId, other.getId(), 0L))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.MEMBER_NOT_FOUND_IN_PLAN.getMessage());
+    }
+
+    private long getRevision() {
+        return planRepository.findRevisionById(planId)
+            .orElseThrow();
+    }
+
+    private Long createTask(String title) {
+        TaskCreateRequest request = TaskCreateRequest.builder()
+            .planId(planId)
+            .tabId(tabId)
+            .assigneeId(memberId)
+            .title(title)
+            .endDate(LocalDate.now()
+                .plusDays(1))
+            .labels(List.of())
+            .build();
+        return taskService.create(memberId, request);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.planservice.application.dto.PlanChangeMessage;
+import com.example.planservice.domain.member.Member;
+import com.example.planservice.domain.member.repository.MemberRepository;
+import com.example.planservice.domain.planchange.PlanChangeType;
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import com.example.planservice.presentation.dto.request.PlanCreateRequest;
+
+@SpringBootTest
+@Transactional
+class PlanChangeStreamsTest {
+    @Autowired
+    PlanChangeStreams planChangeStreams;
+
+    @Autowired
+    PlanChangeBroadcaster planChangeBroadcaster;
+
+    @Autowired
+    PlanService planService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @MockBean
+    EmailService emailService;
+
+    private Long memberId;
+    private Long planId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+            .name("tester")
+            .email("streams@example.com")
+            .build());
+        memberId = member.getId();
+        planId = planService.create(PlanCreateRequest.builder()
+            .title("plan")
+            .isPublic(false)
+            .invitedEmails(List.of())
+            .build(), memberId);
+    }
+
+    @Test
+    @DisplayName("Redis 채널로 퍼뜨린 변경이 플랜을 구독 중인 연결에 전달된다")
+    void broadcastToSubscribers() throws InterruptedException {
+        // given
+        LatchEmitter emitter = new LatchEmitter();
+        PlanChangeSubscriber subscriber = planChangeStreams.register(planId, memberId, emitter);
+        PlanChangeMessage message = new PlanChangeMessage(planId, 3L, PlanChangeType.TASK_CREATED, 10L);
+
+        // when
+        planChangeBroadcaster.publish(message);
+
+        // then
+        assertThat(emitter.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.data).isEqualTo(message);
+        subscriber.close();
+    }
+
+    @Test
+    @DisplayName("구독이 끝난 연결은 구독자 목록에서 빠진다")
+    void unregisterOnClose() {
+        // given
+        int before = planChangeStreams.size();
+        PlanChangeSubscriber subscriber = planChangeStreams.register(planId, memberId, new SseEmitter());
+
+        // when
+        subscriber.close();
+
+        // then
+        assertThat(planChangeStreams.size()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("비공개 플랜에 속하지 않은 사용자는 변경을 구독할 수 없다")
+    void subscribeFailNotMember() {
+        // given
+        Member other = memberRepository.save(Member.builder()
+            .name("other")
+            .email("other@example.com")
+            .build());
+
+        // when & then
+        assertThatThrownBy(() -> planChangeStreams.subscribe(planId, other.getId()))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.MEMBER_NOT_FOUND_IN_PLAN.getMessage());
+    }
+
+    @Test
+    @DisplayName("플랜에서 나간 멤버의 연결만 끊고, 남은 멤버의 연결은 유지한다")
+    void disconnectLeftMember() {
+        // given
+        Member staying = memberRepository.save(Member.builder()
+            .name("staying")
+            .email("staying@example.com")
+            .build());
+        PlanChangeSubscriber leavingSubscriber = planChangeStreams.register(planId, memberId, new SseEmitter());
+        PlanChangeSubscriber stayingSubscriber = planChangeStreams.register(planId, staying.getId(), new SseEmitter());
+
+        // when
+        eventPublisher.publishEvent(new PlanMembershipChangedEvent(this, "test", planId, List.of(memberId)));
+
+        // then
+        assertThat(leavingSubscriber.isClosed()).isTrue();
+        assertThat(stayingSubscriber.isClosed()).isFalse();
+        stayingSubscriber.close();
+    }
+
+    static class LatchEmitter extends SseEmitter {
+        final CountDownLatch received = new CountDownLatch(1);
+        volatile Object data;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build()
+                .stream()
+                .map(DataWithMediaType::getData)
+                .filter(PlanChangeMessage.class::isInstance)
+                .forEach(found -> {
+                    data = found;
+                    received.countDown();
+                });
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class PlanChangeSubscriberTest {
+    @Test
+    @DisplayName("큐에 넣은 이벤트를 넣은 순서대로 보낸다")
+    void sendInOrder() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        PlanChangeSubscriber subscriber = new PlanChangeSubscriber(1L, 2L, emitter, 4, Runnable::run, () -> {
+        });
+
+        // when
+        subscriber.offer(() -> SseEmitter.event()
+            .data("first"));
+        subscriber.offer(() -> SseEmitter.event()
+            .data("second"));
+
+        // then
+        assertThat(emitter.sent).containsExactly("first", "second");
+        assertThat(subscriber.isClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 느려서 큐가 가득 차면 이벤트를 더 쌓지 않고 연결을 끊는다")
+    void closeOnOverflow() {
+        // given
+        List<Runnable> pending = new ArrayList<>();
+        Executor stalled = pending::add;
+        AtomicBoolean unregistered = new AtomicBoolean();
+        RecordingEmitter emitter = new RecordingEmitter();
+        PlanChangeSubscriber subscriber = new PlanChangeSubscriber(1L, 2L, emitter, 2, stalled,
+            () -> unregistered.set(true));
+        subscriber.offer(() -> SseEmitter.event()
+            .data("first"));
+        subscriber.offer(() -> SseEmitter.event()
+            .data("second"));
+
+        // when
+        boolean accepted = subscriber.offer(() -> SseEmitter.event()
+            .data("third"));
+        pending.forEach(Runnable::run);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(unregistered).isTrue();
+        assertThat(emitter.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보내다가 연결이 끊긴 것을 알게 되면 구독을 정리한다")
+    void closeOnSendFailure() {
+        // given
+        AtomicBoolean unregistered = new AtomicBoolean();
+        SseEmitter broken = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        PlanChangeSubscriber subscriber = new PlanChangeSubscriber(1L, 2L, broken, 4, Runnable::run,
+            () -> unregistered.set(true));
+
+        // when
+        subscriber.offer(() -> SseEmitter.event()
+            .data("first"));
+
+        // then
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(unregistered).isTrue();
+    }
+
+    static class RecordingEmitter extends SseEmitter {
+        final List<Object> sent = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build()
+                .stream()
+                .map(DataWithMediaType::getData)
+                .filter(data -> !(data instanceof String text && (text.startsWith("data:") || text.isBlank())))
+                .forEach(sent::add);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.domain.member.Member;
+import com.example.planservice.domain.member.repository.MemberRepository;
+import com.example.planservice.presentation.dto.request.PlanCreateRequest;
+import com.example.planservice.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 플랜을 만들 때 DB로 보내는 문장 수를 JDBC 배치를 끈 경우(batch size 1)와 비교한다.
+ * 인메모리 H2에서는 왕복 비용이 거의 없어 시간 대신 문장 수를 비교한다.
+ */
+@SpringBootTest
+@Transactional
+class PlanCreateBenchmarkTest {
+    @Autowired
+    PlanService planService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    @Autowired
+    EntityManager em;
+
+    @MockBean
+    EmailService emailService;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(Member.builder()
+                .name("tester")
+                .email("bench@example.com")
+                .build())
+            .getId();
+    }
+
+    @Test
+    @DisplayName("플랜을 만들 때 같은 테이블의 insert는 한 번의 배치로 보낸다")
+    void batchInserts() {
+        // when
+        List<String> sqls = queryCounter.record(this::createPlan);
+
+        // then
+        Map<String, Long> insertsByTable = sqls.stream()
+            .filter(sql -> sql.startsWith("insert into "))
+            .map(sql -> sql.split(" ")[2])
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(insertsByTable).as(String.join("\n", sqls))
+            .containsOnlyKeys("plans", "members_of_plan", "tabs")
+            .allSatisfy((table, count) -> assertThat(count).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("배치를 끈 경우보다 DB로 보내는 문장 수가 적다")
+    void fewerStatementsThanUnbatched() {
+        // given
+        long batched = queryCounter.record(this::createPlan)
+            .size();
+
+        // when
+        long unbatched = queryCounter.record(() -> {
+                em.unwrap(Session.class)
+                    .setJdbcBatchSize(1);
+                createPlan();
+            })
+            .size();
+
+        // then
+        assertThat(batched).isLessThan(unbatched);
+    }
+
+    private void createPlan() {
+        planService.create(PlanCreateRequest.builder()
+            .title("plan")
+            .isPublic(false)
+            .invitedEmails(List.of())
+            .build(), memberId);
+        em.flush();
+    }
+}
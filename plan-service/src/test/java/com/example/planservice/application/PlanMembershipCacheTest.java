@@ -0,0 +1,171 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.application.dto.PlanMembershipChange;
+import com.example.planservice.domain.member.Member;
+import com.example.planservice.domain.member.repository.MemberRepository;
+import com.example.planservice.domain.memberofplan.MemberOfPlan;
+import com.example.planservice.domain.memberofplan.repository.MemberOfPlanRepository;
+import com.example.planservice.domain.plan.Plan;
+import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.support.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 트랜잭션 커밋 후에 발행되는 알림은 테스트 트랜잭션 안에서 발생하지 않으므로, 커밋 시점에 호출되는 publish를 직접 호출한다.
+ */
+@SpringBootTest
+@Transactional
+class PlanMembershipCacheTest {
+    @Autowired
+    PlanMembershipCache planMembershipCache;
+
+    @Autowired
+    PlanRepository planRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberOfPlanRepository memberOfPlanRepository;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Plan plan;
+
+    @BeforeEach
+    void setUp() {
+        plan = planRepository.save(Plan.builder()
+            .build());
+    }
+
+    @Test
+    @DisplayName("한 번 확인한 멤버는 다시 DB를 읽지 않고 캐시 적중으로 기록된다")
+    void isMemberCached() {
+        // given
+        Member member = createMemberOfPlan();
+        planMembershipCache.isMember(plan.getId(), member.getId());
+        double hits = hitCount();
+
+        // when
+        List<String> sqls = queryCounter.record(() -> planMembershipCache.isMember(plan.getId(), member.getId()));
+
+        // then
+        assertThat(sqls).isEmpty();
+        assertThat(planMembershipCache.isMember(plan.getId(), member.getId())).isTrue();
+        assertThat(hitCount()).isGreaterThan(hits);
+    }
+
+    @Test
+    @DisplayName("플랜에 속하지 않았다는 결과는 캐시하지 않으므로 새로 들어온 멤버는 바로 통과한다")
+    void isMemberNotCachingAbsence() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+            .build());
+        boolean before = planMembershipCache.isMember(plan.getId(), member.getId());
+
+        // when
+        memberOfPlanRepository.save(MemberOfPlan.builder()
+            .plan(plan)
+            .member(member)
+            .build());
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(planMembershipCache.isMember(plan.getId(), member.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("멤버가 플랜에서 나갔다는 알림을 받으면 해당 멤버의 캐시만 비운다")
+    void evictMember() {
+        // given
+        Member leaving = createMemberOfPlan();
+        Member staying = createMemberOfPlan();
+        planMembershipCache.isMember(plan.getId(), leaving.getId());
+        planMembershipCache.isMember(plan.getId(), staying.getId());
+        memberOfPlanRepository.deleteByPlanIdAndMemberId(plan.getId(), leaving.getId());
+
+        // when
+        planMembershipCache.publish(PlanMembershipChange.of(plan.getId(), leaving.getId()));
+
+        // then
+        assertThat(planMembershipCache.isMember(plan.getId(), leaving.getId())).isFalse();
+        assertThat(queryCounter.record(() -> planMembershipCache.isMember(plan.getId(), staying.getId())))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("플랜이 삭제되었다는 알림을 받으면 플랜의 모든 멤버 캐시를 비운다")
+    void evictPlan() {
+        // given
+        Member member = createMemberOfPlan();
+        planMembershipCache.isMember(plan.getId(), member.getId());
+        memberOfPlanRepository.deleteAllByPlanId(plan.getId());
+
+        // when
+        planMembershipCache.publish(PlanMembershipChange.ofPlan(plan.getId()));
+
+        // then
+        assertThat(planMembershipCache.isMember(plan.getId(), member.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 캐시가 비워졌다면 조회 결과를 캐시에 넣지 않는다")
+    void isMemberNotCachingAfterConcurrentEvict() {
+        // given
+        MemberOfPlanRepository repository = mock(MemberOfPlanRepository.class);
+        PlanMembershipCache cache = new PlanMembershipCache(repository, event -> {
+        }, new SimpleMeterRegistry(), "test", 100, Duration.ofMinutes(5));
+        given(repository.existsByPlanIdAndMemberId(1L, 2L)).willAnswer(invocation -> {
+            // 내보내기 전에 시작된 조회가 끝나기 전에 내보낸 트랜잭션이 커밋되어 캐시가 비워진다
+            cache.evict(new PlanMembershipChangedEvent(this, "test", 1L, List.of(2L)));
+            return true;
+        }).willReturn(false);
+
+        // when
+        boolean stale = cache.isMember(1L, 2L);
+
+        // then
+        assertThat(stale).isTrue();
+        assertThat(cache.isMember(1L, 2L)).isFalse();
+        verify(repository, times(2)).existsByPlanIdAndMemberId(1L, 2L);
+    }
+
+    private double hitCount() {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", "plan.membership")
+            .tag("result", "hit")
+            .functionCounter()
+            .count();
+    }
+
+    private Member createMemberOfPlan() {
+        Member member = memberRepository.save(Member.builder()
+            .build());
+        memberOfPlanRepository.save(MemberOfPlan.builder()
+            .plan(plan)
+            .member(member)
+            .build());
+        return member;
+    }
+}
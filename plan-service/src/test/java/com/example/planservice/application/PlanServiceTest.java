@@ -2,7 +2,7 @@ package com.example.planservice.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -16,6 +16,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.planservice.domain.invitation.InvitationMail;
+import com.example.planservice.domain.invitation.InvitationMailStatus;
+import com.example.planservice.domain.invitation.repository.InvitationMailRepository;
 import com.example.planservice.domain.label.Label;
 import com.example.planservice.domain.label.repository.LabelRepository;
 import com.example.planservice.domain.member.Member;
@@ -78,6 +81,9 @@ class PlanServiceTest {
 
     @Autowired
     TaskRepository taskRepository;
+
+    @Autowired
+    InvitationMailRepository invitationMailRepository;
     private Long userId;
     private Member tester;
 
@@ -91,11 +97,6 @@ class PlanServiceTest {
             .build();
         Member savedMember = memberRepository.save(tester);
         userId = savedMember.getId();
-
-        Mockito.doNothing()
-            .when(emailService)
-            .sendInviteEmail(anyString(),
-                anyString(), anyString());
     }
 
     @Test
@@ -123,6 +124,30 @@ class PlanServiceTest {
         assertThat(savedPlan.getIntro()).isEqualTo(request.getIntro());
     }
 
+    @Test
+    @DisplayName("플랜을 생성할 때 초대 메일은 바로 보내지 않고 쌓아둔다")
+    void createEnqueuesInvitationMails() {
+        // given
+        List<String> invitedEmails = List.of("test1@example.com", "test2@example.com");
+
+        PlanCreateRequest request = PlanCreateRequest.builder()
+            .title("플랜 제목")
+            .intro("플랜 소개")
+            .isPublic(true)
+            .invitedEmails(invitedEmails)
+            .build();
+
+        // when
+        planService.create(request, userId);
+
+        // then
+        Mockito.verifyNoInteractions(emailService);
+        assertThat(invitationMailRepository.findAll()).extracting(InvitationMail::getEmail, InvitationMail::getStatus)
+            .containsExactlyInAnyOrder(
+                tuple("test1@example.com", InvitationMailStatus.PENDING),
+                tuple("test2@example.com", InvitationMailStatus.PENDING));
+    }
+
     @Test
     @DisplayName("플랜 생성시 기본 탭이 생성 되었다")
     void createPlanWithDefaultTab() {
@@ -177,7 +202,7 @@ class PlanServiceTest {
         DummyRelation dummyRelation = createDefaultMemberPlanTabTaskRelation();
 
         // when
-        PlanResponse planResponse = planService.getTotalPlanResponse(dummyRelation.plan1.getId());
+        PlanResponse planResponse = planService.getTotalPlanResponse(dummyRelation.plan1.getId(), null);
 
         // then
         assertThat(planResponse).isNotNull();
@@ -205,7 +230,7 @@ class PlanServiceTest {
         Long nonExistentPlanId = 9999L;
 
         // when / then
-        assertThatThrownBy(() -> planService.getTotalPlanResponse(nonExistentPlanId))
+        assertThatThrownBy(() -> planService.getTotalPlanResponse(nonExistentPlanId, null))
             .isInstanceOf(ApiException.class)
             .hasMessageContaining(ErrorCode.PLAN_NOT_FOUND.getMessage());
     }
@@ -314,7 +339,7 @@ class PlanServiceTest {
         planService.delete(plan.getId(), plan.getOwner().getId());
 
         // when
-        PlanResponse planResponse = planService.getTotalPlanResponse(plan.getId());
+        PlanResponse planResponse = planService.getTotalPlanResponse(plan.getId(), null);
 
         // then
         assertThat(planResponse).isNotNull();
@@ -504,6 +529,42 @@ class PlanServiceTest {
     }
 
 
+    @Test
+    @DisplayName("플랜이 바뀌지 않으면 같은 ETag를, 태스크가 바뀌면 다른 ETag를 돌려준다")
+    void getPlanETag() {
+        // given
+        DummyRelation dummyRelation = createDefaultMemberPlanTabTaskRelation();
+        Long planId = dummyRelation.plan1.getId();
+        String before = planService.getPlanETag(planId, null);
+
+        // when
+        String unchanged = planService.getPlanETag(planId, null);
+        createTask("task4", dummyRelation.tab1.getId(), planId, dummyRelation.member.getId(), 1);
+        String changed = planService.getPlanETag(planId, null);
+
+        // then
+        assertThat(unchanged).isEqualTo(before);
+        assertThat(changed).isNotEqualTo(before);
+        assertThat(planService.getPlanETag(planId, 1)).isNotEqualTo(changed);
+    }
+
+    @Test
+    @DisplayName("속한 플랜 중 하나라도 바뀌면 메인 보드의 ETag가 바뀐다")
+    void getMainETag() {
+        // given
+        DummyRelation dummyRelation = createDefaultMemberPlanTabTaskRelation();
+        Long memberId = dummyRelation.member.getId();
+        String before = planService.getMainETag(memberId);
+
+        // when
+        createLabel("testLabel3", dummyRelation.plan2.getId(), memberId);
+
+        // then
+        assertThat(planService.getMainETag(memberId)).isNotEqualTo(before)
+            .startsWith("\"")
+            .endsWith("\"");
+    }
+
     private Plan creatDefaultPlan(String planTitle) {
         return planRepository.save(Plan.builder()
             .title(planTitle)
@@ -0,0 +1,170 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.domain.member.Member;
+import com.example.planservice.domain.member.repository.MemberRepository;
+import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.presentation.dto.request.LabelCreateRequest;
+import com.example.planservice.presentation.dto.request.PlanCreateRequest;
+import com.example.planservice.presentation.dto.request.TaskCreateRequest;
+import com.example.planservice.presentation.dto.response.PlanResponse;
+import com.example.planservice.presentation.dto.response.TaskOfPlanResponse;
+import com.example.planservice.support.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@Transactional
+class PlanSnapshotCacheTest {
+    @Autowired
+    PlanService planService;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    LabelService labelService;
+
+    @Autowired
+    PlanRepository planRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @MockBean
+    EmailService emailService;
+
+    private Long memberId;
+    private Long planId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+            .name("tester")
+            .email("snapshot@example.com")
+            .build());
+        memberId = member.getId();
+        planId = planService.create(PlanCreateRequest.builder()
+            .title("plan")
+            .isPublic(true)
+            .invitedEmails(List.of())
+            .build(), memberId);
+    }
+
+    @Test
+    @DisplayName("같은 revision의 스냅샷은 캐시에서 읽어 보드를 다시 만들지 않는다")
+    void readFromCache() {
+        // given
+        createTask("task");
+        PlanResponse first = planService.getTotalPlanResponse(planId, null);
+        double hits = hitCount();
+
+        // when
+        PlanResponse[] cached = new PlanResponse[1];
+        long queries = queryCounter.count(() -> cached[0] = planService.getTotalPlanResponse(planId, null));
+
+        // then
+        assertThat(queries).isEqualTo(1);
+        assertThat(hitCount()).isEqualTo(hits + 1);
+        assertThat(cached[0]).usingRecursiveComparison()
+            .isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("태스크가 바뀌면 revision이 올라가고 다음 조회는 바뀐 스냅샷을 만든다")
+    void invalidateOnTaskChange() {
+        // given
+        planService.getTotalPlanResponse(planId, null);
+        long revision = getRevision();
+        double misses = missCount();
+
+        // when
+        Long taskId = createTask("task");
+        PlanResponse result = planService.getTotalPlanResponse(planId, null);
+
+        // then
+        assertThat(getRevision()).isGreaterThan(revision);
+        assertThat(missCount()).isEqualTo(misses + 1);
+        assertThat(result.getTasks()).extracting(TaskOfPlanResponse::getId)
+            .containsExactly(taskId);
+    }
+
+    @Test
+    @DisplayName("라벨이 바뀌어도 플랜의 revision이 올라간다")
+    void invalidateOnLabelChange() {
+        // given
+        long revision = getRevision();
+
+        // when
+        labelService.create(memberId, LabelCreateRequest.builder()
+            .planId(planId)
+            .name("label")
+            .build());
+
+        // then
+        assertThat(getRevision()).isEqualTo(revision + 1);
+    }
+
+    @Test
+    @DisplayName("한 번에 읽는 태스크 개수가 다르면 스냅샷을 따로 캐시한다")
+    void cachePerPageSize() {
+        // given
+        createTask("task1");
+        createTask("task2");
+        planService.getTotalPlanResponse(planId, 1);
+
+        // when
+        PlanResponse result = planService.getTotalPlanResponse(planId, 2);
+
+        // then
+        assertThat(result.getTasks()).hasSize(2);
+    }
+
+    private long getRevision() {
+        return planRepository.findRevisionById(planId)
+            .orElseThrow();
+    }
+
+    private double hitCount() {
+        return meterRegistry.counter("plan.snapshot.cache", "result", "hit")
+            .count();
+    }
+
+    private double missCount() {
+        return meterRegistry.counter("plan.snapshot.cache", "result", "miss")
+            .count();
+    }
+
+    private Long createTask(String title) {
+        Long tabId = planService.getTotalPlanResponse(planId, null)
+            .getTabOrder()
+            .get(0);
+        TaskCreateRequest request = TaskCreateRequest.builder()
+            .planId(planId)
+            .tabId(tabId)
+            .assigneeId(memberId)
+            .title(title)
+            .endDate(LocalDate.now()
+                .plusDays(1))
+            .labels(List.of())
+            .build();
+        return taskService.create(memberId, request);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+import com.example.planservice.presentation.dto.response.PlanResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PlanSnapshotFlightsTest {
+    private static final int REQUESTS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 스냅샷을 동시에 요청하면 한 번만 만들고 모든 요청이 그 결과를 함께 쓴다")
+    void load() throws Exception {
+        // given
+        PlanSnapshotFlights flights = new PlanSnapshotFlights(meterRegistry, Duration.ofSeconds(10));
+        PlanResponse snapshot = PlanResponse.builder()
+            .title("plan")
+            .build();
+
+        // when
+        List<Future<PlanResponse>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(executor.submit(() -> flights.load(1L, 3L, 100, blockingLoader(() -> snapshot))));
+        }
+        awaitFollowers(REQUESTS - 1);
+        release.countDown();
+
+        // then
+        for (Future<PlanResponse> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(snapshot);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("follower")).isEqualTo(REQUESTS - 1);
+    }
+
+    @Test
+    @DisplayName("기다리다 timeout이 지나면 기다리지 않고 직접 만든다")
+    void loadTimeout() throws Exception {
+        // given
+        PlanSnapshotFlights flights = new PlanSnapshotFlights(meterRegistry, Duration.ofMillis(50));
+        executor.submit(() -> flights.load(1L, 3L, 100, blockingLoader(() -> PlanResponse.builder()
+            .build())));
+        while (loads.get() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        PlanResponse result = flights.load(1L, 3L, 100, () -> PlanResponse.builder()
+            .title("direct")
+            .build());
+
+        // then
+        assertThat(result.getTitle()).isEqualTo("direct");
+        assertThat(meterRegistry.counter("plan.snapshot.flight.timeout")
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만드는 요청이 실패하면 기다리던 요청도 같은 예외로 실패한다")
+    void loadFail() throws Exception {
+        // given
+        PlanSnapshotFlights flights = new PlanSnapshotFlights(meterRegistry, Duration.ofSeconds(10));
+        Future<PlanResponse> leader = executor.submit(() -> flights.load(1L, 3L, 100, blockingLoader(() -> {
+            throw new ApiException(ErrorCode.PLAN_NOT_FOUND);
+        })));
+        while (loads.get() == 0) {
+            Thread.onSpinWait();
+        }
+        Future<PlanResponse> follower = executor.submit(() -> flights.load(1L, 3L, 100, () -> {
+            throw new IllegalStateException("follower must not load");
+        }));
+        awaitFollowers(1);
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> follower.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.PLAN_NOT_FOUND.getMessage());
+        assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(ApiException.class);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만드는 요청이 Error로 끝나도 기다리던 요청은 바로 실패하고, 다음 요청은 새로 만든다")
+    void loadFailWithError() throws Exception {
+        // given
+        PlanSnapshotFlights flights = new PlanSnapshotFlights(meterRegistry, Duration.ofSeconds(10));
+        Future<PlanResponse> leader = executor.submit(() -> flights.load(1L, 3L, 100, blockingLoader(() -> {
+            throw new OutOfMemoryError("snapshot too large");
+        })));
+        while (loads.get() == 0) {
+            Thread.onSpinWait();
+        }
+        Future<PlanResponse> follower = executor.submit(() -> flights.load(1L, 3L, 100, () -> {
+            throw new IllegalStateException("follower must not load");
+        }));
+        awaitFollowers(1);
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(OutOfMemoryError.class);
+        assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(OutOfMemoryError.class);
+        assertThat(flights.load(1L, 3L, 100, () -> PlanResponse.builder()
+            .title("retry")
+            .build())
+            .getTitle()).isEqualTo("retry");
+    }
+
+    private Supplier<PlanResponse> blockingLoader(Supplier<PlanResponse> loader) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                    .interrupt();
+            }
+            return loader.get();
+        };
+    }
+
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (count("follower") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String role) {
+        return meterRegistry.counter("plan.snapshot.flight", "role", role)
+            .count();
+    }
+}
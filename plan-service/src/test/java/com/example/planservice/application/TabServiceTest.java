@@ -27,6 +27,8 @@ import com.example.planservice.exception.ErrorCode;
 import com.example.planservice.presentation.dto.request.TabChangeOrderRequest;
 import com.example.planservice.presentation.dto.request.TabCreateRequest;
 import com.example.planservice.presentation.dto.response.TabFindResponse;
+import com.example.planservice.presentation.dto.response.TabTaskPageResponse;
+import com.example.planservice.presentation.dto.response.TaskOfPlanResponse;
 import jakarta.persistence.EntityManager;
 
 @SpringBootTest
@@ -66,13 +68,7 @@ class TabServiceTest {
         assertThat(savedTab)
             .extracting(Tab::getTitle, Tab::getPlan)
             .containsExactly(request.getTitle(), plan);
-
-        Task firstDummyTask = savedTab.getFirstDummyTask();
-        Task lastDummyTask = savedTab.getLastDummyTask();
-        assertThat(firstDummyTask.getTitle()).isEqualTo("first");
-        assertThat(lastDummyTask.getTitle()).isEqualTo("last");
-        assertThat(savedTab.getTasks()).hasSize(2)
-            .contains(firstDummyTask, lastDummyTask);
+        assertThat(taskRepository.findAllByTabId(savedId)).isEmpty();
     }
 
     @Test
@@ -544,7 +540,7 @@ class TabServiceTest {
         createMemberOfPlan(plan, member);
 
         // when
-        TabFindResponse response = tabService.find(tab1.getId(), member.getId());
+        TabFindResponse response = tabService.find(tab1.getId(), member.getId(), null, null);
 
         // then
         assertThat(response.getId()).isEqualTo(tab1.getId());
@@ -564,7 +560,7 @@ class TabServiceTest {
         createMemberOfPlan(plan, member);
 
         // when
-        TabFindResponse response = tabService.find(tab2.getId(), member.getId());
+        TabFindResponse response = tabService.find(tab2.getId(), member.getId(), null, null);
 
         // then
         assertThat(response.getId()).isEqualTo(tab2.getId());
@@ -584,7 +580,7 @@ class TabServiceTest {
         createMemberOfPlan(plan, member);
 
         // when
-        TabFindResponse response = tabService.find(tab2.getId(), member.getId());
+        TabFindResponse response = tabService.find(tab2.getId(), member.getId(), null, null);
 
         // then
         assertThat(response.getId()).isEqualTo(tab2.getId());
@@ -603,7 +599,7 @@ class TabServiceTest {
         Member member = createMember();
 
         // when & then
-        assertThatThrownBy(() -> tabService.find(tab2.getId(), member.getId()))
+        assertThatThrownBy(() -> tabService.find(tab2.getId(), member.getId(), null, null))
             .isInstanceOf(ApiException.class)
             .hasMessageContaining(ErrorCode.MEMBER_NOT_FOUND_IN_PLAN.getMessage());
     }
@@ -617,11 +613,120 @@ class TabServiceTest {
         Member member = createMember();
 
         // when & then
-        assertThatThrownBy(() -> tabService.find(notRegisteredTabId, member.getId()))
+        assertThatThrownBy(() -> tabService.find(notRegisteredTabId, member.getId(), null, null))
             .isInstanceOf(ApiException.class)
             .hasMessageContaining(ErrorCode.TAB_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("탭을 조회할 때 태스크는 limit개씩 나누어 커서로 이어서 조회한다")
+    void testFindTabWithTaskPage() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan, "탭1", null, true);
+        Task task1 = createTask(tab, "a");
+        Task task2 = createTask(tab, "b");
+        Task task3 = createTask(tab, "c");
+
+        Member member = createMember();
+        createMemberOfPlan(plan, member);
+
+        // when
+        TabFindResponse first = tabService.find(tab.getId(), member.getId(), null, 2);
+        TabFindResponse second = tabService.find(tab.getId(), member.getId(), first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getTaskOrder()).containsExactly(task1.getId(), task2.getId());
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getTaskOrder()).containsExactly(task3.getId());
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서로 탭을 조회할 수 없다")
+    void testFindTabFailInvalidCursor() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan, "탭1", null, true);
+
+        Member member = createMember();
+        createMemberOfPlan(plan, member);
+
+        // when & then
+        assertThatThrownBy(() -> tabService.find(tab.getId(), member.getId(), "invalid", null))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.TASK_CURSOR_INVALID.getMessage());
+    }
+
+    @Test
+    @DisplayName("탭의 태스크를 커서로 나누어 조회한다")
+    void testFindTasks() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan, "탭1", null, true);
+        Task task1 = createTask(tab, "a");
+        Task task2 = createTask(tab, "b");
+        Task task3 = createTask(tab, "c");
+
+        Member member = createMember();
+        createMemberOfPlan(plan, member);
+
+        // when
+        TabTaskPageResponse first = tabService.findTasks(tab.getId(), member.getId(), null, 2);
+        TabTaskPageResponse second = tabService.findTasks(tab.getId(), member.getId(), first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getTasks()).extracting(TaskOfPlanResponse::getId)
+            .containsExactly(task1.getId(), task2.getId());
+        assertThat(second.getTasks()).extracting(TaskOfPlanResponse::getId)
+            .containsExactly(task3.getId());
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지를 읽는 사이 태스크가 이미 읽은 위치로 옮겨져도 읽은 태스크를 다시 조회하지 않는다")
+    void testFindTasksAfterReorder() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan, "탭1", null, true);
+        Task task1 = createTask(tab, "a");
+        Task task2 = createTask(tab, "b");
+        Task task3 = createTask(tab, "c");
+        Task task4 = createTask(tab, "d");
+
+        Member member = createMember();
+        createMemberOfPlan(plan, member);
+        TabTaskPageResponse first = tabService.findTasks(tab.getId(), member.getId(), null, 2);
+
+        // when
+        em.createQuery("update Task t set t.rank = '0' where t.id = :id")
+            .setParameter("id", task4.getId())
+            .executeUpdate();
+        TabTaskPageResponse second = tabService.findTasks(tab.getId(), member.getId(), first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getTasks()).extracting(TaskOfPlanResponse::getId)
+            .containsExactly(task1.getId(), task2.getId());
+        assertThat(second.getTasks()).extracting(TaskOfPlanResponse::getId)
+            .containsExactly(task3.getId());
+    }
+
+    @Test
+    @DisplayName("플랜에 가입되지 않은 사람은 private 플랜에 속한 탭의 태스크를 조회할 수 없다")
+    void testFindTasksFailNotAuthorized() throws Exception {
+        // given
+        Plan plan = createPrivatePlan();
+        Tab tab = createTab(plan, "탭1", null, true);
+        createTask(tab, "a");
+
+        Member member = createMember();
+
+        // when & then
+        assertThatThrownBy(() -> tabService.findTasks(tab.getId(), member.getId(), null, null))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.MEMBER_NOT_FOUND_IN_PLAN.getMessage());
+    }
+
     private Tab createTab(Plan plan, String title, Tab next, boolean isFirst) {
         Tab tab = Tab.builder()
             .plan(plan)
@@ -653,6 +758,17 @@ class TabServiceTest {
         return task;
     }
 
+    @NotNull
+    private Task createTask(Tab tab, String rank) {
+        Task task = Task.builder()
+            .tab(tab)
+            .title(rank)
+            .rank(rank)
+            .build();
+        em.persist(task);
+        return task;
+    }
+
     @NotNull
     private Member createMember() {
         Member member = Member.builder()
@@ -0,0 +1,204 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.planservice.domain.member.Member;
+import com.example.planservice.domain.member.repository.MemberRepository;
+import com.example.planservice.domain.memberofplan.MemberOfPlan;
+import com.example.planservice.domain.memberofplan.repository.MemberOfPlanRepository;
+import com.example.planservice.domain.plan.Plan;
+import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.domain.tab.Tab;
+import com.example.planservice.domain.tab.repository.TabRepository;
+import com.example.planservice.domain.task.Rank;
+import com.example.planservice.domain.task.Task;
+import com.example.planservice.domain.task.repository.TaskRepository;
+import com.example.planservice.presentation.dto.request.TaskChangeOrderRequest;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 여러 사용자가 동시에 같은 두 탭 사이로 태스크를 옮기는 상황을 검증한다.
+ * 스레드마다 별도의 트랜잭션이 필요하므로 테스트 트랜잭션을 사용하지 않고, 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+class TaskMoveConcurrencyTest {
+    private static final int TASKS_PER_TAB = 10;
+    private static final int THREADS = 8;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TabRepository tabRepository;
+
+    @Autowired
+    PlanRepository planRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberOfPlanRepository memberOfPlanRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    private Long planId;
+    private List<Long> memberIds;
+    private Long todoTabId;
+    private Long doneTabId;
+    private int todoTabVersion;
+    private List<Long> todoTaskIds;
+    private List<Long> doneTaskIds;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Plan plan = planRepository.save(Plan.builder()
+                .isPublic(true)
+                .build());
+            planId = plan.getId();
+            memberIds = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Member member = memberRepository.save(Member.builder()
+                    .build());
+                memberOfPlanRepository.save(MemberOfPlan.builder()
+                    .plan(plan)
+                    .member(member)
+                    .build());
+                memberIds.add(member.getId());
+            }
+            Tab todo = createTab(plan, "To Do");
+            Tab done = createTab(plan, "Done");
+            todoTabId = todo.getId();
+            doneTabId = done.getId();
+            todoTaskIds = createTasks(todo);
+            doneTaskIds = createTasks(done);
+        });
+        todoTabVersion = transactionTemplate.execute(status -> tabRepository.findById(todoTabId)
+            .get()
+            .getVersion());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createNativeQuery("update tabs set next_id = null where plan_id = :planId")
+                .setParameter("planId", planId)
+                .executeUpdate();
+            em.createNativeQuery("delete from tasks where tab_id in (select tab_id from tabs where plan_id = :planId)")
+                .setParameter("planId", planId)
+                .executeUpdate();
+            em.createNativeQuery("delete from tabs where plan_id = :planId")
+                .setParameter("planId", planId)
+                .executeUpdate();
+            em.createNativeQuery("delete from members_of_plan where plan_id = :planId")
+                .setParameter("planId", planId)
+                .executeUpdate();
+            em.createNativeQuery("delete from plan_changes where plan_id = :planId")
+                .setParameter("planId", planId)
+                .executeUpdate();
+            em.createNativeQuery("delete from plans where plan_id = :planId")
+                .setParameter("planId", planId)
+                .executeUpdate();
+            em.createNativeQuery("delete from members where member_id in (:memberIds)")
+                .setParameter("memberIds", memberIds)
+                .executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 두 탭 사이로 태스크를 옮겨도 충돌 없이 모두 옮겨진다")
+    void moveAcrossTabsConcurrently() throws Exception {
+        // given
+        List<TaskChangeOrderRequest> requests = new ArrayList<>();
+        todoTaskIds.forEach(taskId -> requests.add(createRequest(doneTabId, taskId)));
+        doneTaskIds.forEach(taskId -> requests.add(createRequest(todoTabId, taskId)));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(requests.size());
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int i = 0; i < requests.size(); i++) {
+            Long memberId = memberIds.get(i % THREADS);
+            TaskChangeOrderRequest request = requests.get(i);
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    taskService.changeOrder(memberId, request);
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // then
+        assertThat(failures).isEmpty();
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(taskRepository.findAllSortedByTabId(todoTabId)).extracting(Task::getId)
+                .containsExactlyInAnyOrderElementsOf(doneTaskIds);
+            assertThat(taskRepository.findAllSortedByTabId(doneTabId)).extracting(Task::getId)
+                .containsExactlyInAnyOrderElementsOf(todoTaskIds);
+            assertThat(tabRepository.findById(todoTabId)
+                .get()
+                .getVersion()).isEqualTo(todoTabVersion);
+        });
+    }
+
+    private TaskChangeOrderRequest createRequest(Long targetTabId, Long targetId) {
+        return TaskChangeOrderRequest.builder()
+            .planId(planId)
+            .targetTabId(targetTabId)
+            .targetId(targetId)
+            .newPrevId(null)
+            .build();
+    }
+
+    private Tab createTab(Plan plan, String title) {
+        return tabRepository.save(Tab.create(plan, title));
+    }
+
+    private List<Long> createTasks(Tab tab) {
+        List<String> ranks = Rank.evenlySpaced(TASKS_PER_TAB);
+        List<Long> taskIds = new ArrayList<>();
+        for (String rank : ranks) {
+            Task task = taskRepository.save(Task.builder()
+                .tab(tab)
+                .title("태스크")
+                .rank(rank)
+                .build());
+            taskIds.add(task.getId());
+        }
+        return taskIds;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.planservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.domain.plan.Plan;
+import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.domain.tab.Tab;
+import com.example.planservice.domain.tab.repository.TabRepository;
+import com.example.planservice.domain.task.Task;
+import com.example.planservice.domain.task.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+class TaskRankServiceTest {
+    @Autowired
+    TaskRankService taskRankService;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TabRepository tabRepository;
+
+    @Autowired
+    PlanRepository planRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    @DisplayName("연결 리스트 순서를 따라 rank를 매긴다")
+    void migrate() {
+        // given
+        Tab tab = createTab();
+        Task task1 = createLegacyTask(tab);
+        Task task2 = createLegacyTask(tab);
+        Task task3 = createLegacyTask(tab);
+        link(task3, task1, task2);
+
+        // when
+        taskRankService.migrate(tab.getId());
+
+        // then
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).extracting(Task::getId)
+            .containsExactly(task3.getId(), task1.getId(), task2.getId());
+    }
+
+    @Test
+    @DisplayName("연결 리스트에서 끊긴 태스크와 이미 rank가 있는 태스크는 뒤에 붙인다")
+    void migrateWithDetachedAndRankedTasks() {
+        // given
+        Tab tab = createTab();
+        Task ranked = createTask(tab, "0a");
+        Task task1 = createLegacyTask(tab);
+        Task task2 = createLegacyTask(tab);
+        Task detached = createLegacyTask(tab);
+        link(task2, task1);
+
+        // when
+        taskRankService.migrate(tab.getId());
+
+        // then
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).extracting(Task::getId)
+            .containsExactly(task2.getId(), task1.getId(), detached.getId(), ranked.getId());
+    }
+
+    @Test
+    @DisplayName("rank가 없는 태스크를 가진 탭만 이전 대상이다")
+    void findTabIdsToMigrate() {
+        // given
+        Tab legacyTab = createTab();
+        createLegacyTask(legacyTab);
+        Tab rankedTab = createTab();
+        createTask(rankedTab, "0a");
+        Tab emptyTab = createTab();
+
+        // when
+        List<Long> tabIds = taskRankService.findTabIdsToMigrate();
+
+        // then
+        assertThat(tabIds).contains(legacyTab.getId())
+            .doesNotContain(rankedTab.getId(), emptyTab.getId());
+    }
+
+    @Test
+    @DisplayName("순서를 유지한 채 긴 rank를 짧은 rank로 다시 매긴다")
+    void rebalance() {
+        // given
+        Tab tab = createTab();
+        Task task1 = createTask(tab, "0i".repeat(20));
+        Task task2 = createTask(tab, "0i".repeat(20) + "1");
+        Task task3 = createTask(tab, "0i".repeat(20) + "2");
+        assertThat(taskRankService.findTabIdsToRebalance(24)).contains(tab.getId());
+
+        // when
+        taskRankService.rebalance(tab.getId());
+
+        // then
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).extracting(Task::getId)
+            .containsExactly(task1.getId(), task2.getId(), task3.getId());
+        assertThat(taskRankService.findTabIdsToRebalance(24)).doesNotContain(tab.getId());
+    }
+
+    private void link(Task... tasks) {
+        for (int i = 0; i + 1 < tasks.length; i++) {
+            em.createNativeQuery("update tasks set next_id = :nextId where task_id = :id")
+                .setParameter("nextId", tasks[i + 1].getId())
+                .setParameter("id", tasks[i].getId())
+                .executeUpdate();
+            em.createNativeQuery("update tasks set prev_id = :prevId where task_id = :id")
+                .setParameter("prevId", tasks[i].getId())
+                .setParameter("id", tasks[i + 1].getId())
+                .executeUpdate();
+        }
+        em.clear();
+    }
+
+    private Task createLegacyTask(Tab tab) {
+        return createTask(tab, null);
+    }
+
+    private Task createTask(Tab tab, String rank) {
+        Task task = Task.builder()
+            .tab(tab)
+            .title("태스크")
+            .rank(rank)
+            .build();
+        return taskRepository.save(task);
+    }
+
+    private Tab createTab() {
+        Plan plan = planRepository.save(Plan.builder()
+            .build());
+        return tabRepository.save(Tab.create(plan, "탭"));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.planservice.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.LocalDate;
 import java.util.Collections;
@@ -12,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,16 +26,23 @@ import com.example.planservice.domain.memberofplan.MemberOfPlan;
 import com.example.planservice.domain.memberofplan.repository.MemberOfPlanRepository;
 import com.example.planservice.domain.plan.Plan;
 import com.example.planservice.domain.plan.repository.PlanRepository;
+import com.example.planservice.domain.planchange.PlanChange;
+import com.example.planservice.domain.planchange.PlanChangeType;
+import com.example.planservice.domain.planchange.repository.PlanChangeRepository;
 import com.example.planservice.domain.tab.Tab;
 import com.example.planservice.domain.tab.repository.TabRepository;
 import com.example.planservice.domain.task.LabelOfTask;
+import com.example.planservice.domain.task.Rank;
 import com.example.planservice.domain.task.Task;
 import com.example.planservice.domain.task.repository.LabelOfTaskRepository;
 import com.example.planservice.domain.task.repository.TaskRepository;
 import com.example.planservice.exception.ApiException;
 import com.example.planservice.exception.ErrorCode;
+import com.example.planservice.presentation.dto.request.TaskBatchChangeOrderRequest;
+import com.example.planservice.presentation.dto.request.TaskBulkCreateRequest;
 import com.example.planservice.presentation.dto.request.TaskChangeOrderRequest;
 import com.example.planservice.presentation.dto.request.TaskCreateRequest;
+import com.example.planservice.presentation.dto.response.TaskBatchChangeOrderResponse;
 import com.example.planservice.presentation.dto.response.TaskFindResponse;
 import jakarta.persistence.EntityManager;
 
@@ -64,6 +73,9 @@ class TaskServiceTest {
     @Autowired
     LabelOfTaskRepository labelOfTaskRepository;
 
+    @Autowired
+    PlanChangeRepository planChangeRepository;
+
     @Autowired
     EntityManager em;
 
@@ -103,8 +115,8 @@ class TaskServiceTest {
         assertThat(task.getStartDate()).isEqualTo(request.getStartDate());
         assertThat(task.getEndDate()).isEqualTo(request.getEndDate());
 
-        Task lastDummyTask = tab.getLastDummyTask();
-        assertThat(task).isEqualTo(lastDummyTask.getPrev());
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).last()
+            .isEqualTo(task);
     }
 
     @Test
@@ -141,8 +153,8 @@ class TaskServiceTest {
         assertThat(task.getStartDate()).isEqualTo(request.getStartDate());
         assertThat(task.getEndDate()).isEqualTo(request.getEndDate());
 
-        Task lastDummyTask = tab.getLastDummyTask();
-        assertThat(task).isEqualTo(lastDummyTask.getPrev());
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).last()
+            .isEqualTo(task);
     }
 
     @Test
@@ -395,6 +407,115 @@ class TaskServiceTest {
             .containsExactly(task1.getId(), task2.getId(), target.getId());
     }
 
+    @Test
+    @DisplayName("다른 탭으로 옮긴 태스크는 옮겨진 탭에 속하고 원래 탭에서는 빠진다")
+    void testChangeOrderMovesTaskToTargetTab() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Tab otherTab = createTab(plan);
+        Member loginMember = createMemberWithPlan(plan);
+        Task task1 = createTaskWithTab(tab);
+        Task target = createTaskWithTab(otherTab);
+
+        TaskChangeOrderRequest request = TaskChangeOrderRequest.builder()
+            .planId(plan.getId())
+            .targetTabId(tab.getId())
+            .newPrevId(null)
+            .targetId(target.getId())
+            .build();
+
+        // when
+        taskService.changeOrder(loginMember.getId(), request);
+
+        // then
+        assertThat(target.getTab()).isEqualTo(tab);
+        assertThat(tab.getTasks()).contains(target);
+        assertThat(otherTab.getTasks()).doesNotContain(target);
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).containsExactly(target, task1);
+        assertThat(taskRepository.findAllSortedByTabId(otherTab.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태스크의 순서를 바꿀 때 옮겨지는 태스크의 rank만 바뀐다")
+    void testChangeOrderChangesOnlyTargetRank() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Member loginMember = createMemberWithPlan(plan);
+        Task task1 = createTaskWithTab(tab);
+        Task task2 = createTaskWithTab(tab);
+        Task task3 = createTaskWithTab(tab);
+        String task1Rank = task1.getRank();
+        String task2Rank = task2.getRank();
+
+        TaskChangeOrderRequest request = TaskChangeOrderRequest.builder()
+            .planId(plan.getId())
+            .targetTabId(tab.getId())
+            .newPrevId(task1.getId())
+            .targetId(task3.getId())
+            .build();
+
+        // when
+        List<Long> taskIds = taskService.changeOrder(loginMember.getId(), request);
+
+        // then
+        assertThat(taskIds).containsExactly(task1.getId(), task3.getId(), task2.getId());
+        assertThat(task1.getRank()).isEqualTo(task1Rank);
+        assertThat(task2.getRank()).isEqualTo(task2Rank);
+        assertThat(task3.getRank()).isBetween(task1Rank, task2Rank);
+    }
+
+    @Test
+    @DisplayName("rank가 같은 두 태스크 사이로 옮기면 탭을 재정렬한 뒤 옮긴다")
+    void testChangeOrderBetweenSameRanks() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Member loginMember = createMemberWithPlan(plan);
+        Task task1 = createTaskWithTab(tab);
+        Task task2 = createTaskWithTab(tab);
+        Task target = createTaskWithTab(tab);
+        task2.changeRank(task1.getRank());
+
+        TaskChangeOrderRequest request = TaskChangeOrderRequest.builder()
+            .planId(plan.getId())
+            .targetTabId(tab.getId())
+            .newPrevId(task1.getId())
+            .targetId(target.getId())
+            .build();
+
+        // when
+        List<Long> taskIds = taskService.changeOrder(loginMember.getId(), request);
+
+        // then
+        assertThat(taskIds).containsExactly(task1.getId(), target.getId(), task2.getId());
+    }
+
+    @Test
+    @DisplayName("newPrev는 옮겨갈 탭에 있는 태스크여야 한다")
+    void testChangeOrderFailNewPrevInOtherTab() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Tab otherTab = createTab(plan);
+        Member loginMember = createMemberWithPlan(plan);
+        Task target = createTaskWithTab(tab);
+        Task taskInOtherTab = createTaskWithTab(otherTab);
+
+        TaskChangeOrderRequest request = TaskChangeOrderRequest.builder()
+            .planId(plan.getId())
+            .targetTabId(tab.getId())
+            .newPrevId(taskInOtherTab.getId())
+            .targetId(target.getId())
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> taskService.changeOrder(loginMember.getId(), request))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.TASK_NOT_FOUND.getMessage());
+    }
+
     @Test
     @DisplayName("태스크의 순서는 플랜에 소속된 멤버만 바꿀 수 있다")
     void testChangeOrderFailNotAuthorized() throws Exception {
@@ -466,61 +587,222 @@ class TaskServiceTest {
     }
 
     @Test
-    @DisplayName("더미태스크는 순서를 변경할 수 없다")
-    void testChangeOrderFailBecauseTargetIsDummy() throws Exception {
+    @DisplayName("태스크를 옮길 때, 다른 플랜으로 옮길 수는 없다")
+    void changeOrderFailOtherPlan() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Member loginMember = createMemberWithPlan(plan);
+
+        Plan otherPlan = createPlan();
+        createMemberOfPlan(otherPlan, loginMember);
+        Tab tabInOtherPlan = createTab(otherPlan);
+        Task taskInOtherTask = createTaskWithTab(tabInOtherPlan);
+
+        // when
+        TaskChangeOrderRequest request = TaskChangeOrderRequest.builder()
+            .planId(plan.getId())
+            .targetTabId(tab.getId())
+            .newPrevId(null)
+            .targetId(taskInOtherTask.getId())
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> taskService.changeOrder(loginMember.getId(), request))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.AUTHORIZATION_FAIL.getMessage());
+    }
+
+    @Test
+    @DisplayName("여러 번의 이동을 한 번에 적용하고 영향을 받은 탭마다 정렬된 순서를 반환한다")
+    void testChangeOrders() throws Exception {
         // given
         Plan plan = createPlan();
         Tab tab = createTab(plan);
+        Tab otherTab = createTab(plan);
         Member loginMember = createMemberWithPlan(plan);
         Task task1 = createTaskWithTab(tab);
+        Task task2 = createTaskWithTab(tab);
+        Task task3 = createTaskWithTab(tab);
+        Task otherTask = createTaskWithTab(otherTab);
 
-        List<Task> tasks = taskRepository.findAllByTabId(tab.getId());
+        TaskBatchChangeOrderRequest request = TaskBatchChangeOrderRequest.builder()
+            .planId(plan.getId())
+            .moves(List.of(
+                createMove(tab, task3, null),
+                createMove(otherTab, task1, otherTask),
+                createMove(tab, task2, task3)))
+            .build();
 
-        List<Task> dummies = tasks.stream()
-            .filter(task -> task.equals(tab.getFirstDummyTask()) || task.equals(tab.getLastDummyTask()))
-            .toList();
+        // when
+        TaskBatchChangeOrderResponse response = taskService.changeOrders(loginMember.getId(), request);
 
-        assertThat(dummies).hasSize(2);
-        for (Task dummy : dummies) {
-            TaskChangeOrderRequest request = TaskChangeOrderRequest.builder()
-                .planId(plan.getId())
-                .targetTabId(tab.getId())
-                .newPrevId(task1.getId())
-                .targetId(dummy.getId())
-                .build();
-
-            // when & then
-            assertThatThrownBy(() -> taskService.changeOrder(loginMember.getId(), request))
-                .isInstanceOf(ApiException.class)
-                .hasMessageContaining(ErrorCode.TASK_NOT_FOUND.getMessage());
-        }
+        // then
+        assertThat(response.getTabs()).extracting(TaskBatchChangeOrderResponse.TabOrder::getTabId)
+            .containsExactly(tab.getId(), otherTab.getId());
+        assertThat(response.getTabs()
+            .get(0)
+            .getSortedTasks()).containsExactly(task3.getId(), task2.getId());
+        assertThat(response.getTabs()
+            .get(1)
+            .getSortedTasks()).containsExactly(otherTask.getId(), task1.getId());
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).containsExactly(task3, task2);
+        assertThat(taskRepository.findAllSortedByTabId(otherTab.getId())).containsExactly(otherTask, task1);
+        assertThat(task1.getTab()).isEqualTo(otherTab);
     }
 
     @Test
-    @DisplayName("태스크를 옮길 때, 다른 플랜으로 옮길 수는 없다")
-    void changeOrderFailOtherPlan() throws Exception {
+    @DisplayName("한 번에 옮기다 rank가 같은 두 태스크 사이로 들어가면 탭을 재정렬하고 재정렬을 변경으로 기록한다")
+    void testChangeOrdersBetweenSameRanks() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Member loginMember = createMemberWithPlan(plan);
+        Task task1 = createTaskWithTab(tab);
+        Task task2 = createTaskWithTab(tab);
+        Task target = createTaskWithTab(tab);
+        task2.changeRank(task1.getRank());
+        long revision = planRepository.findRevisionById(plan.getId())
+            .orElseThrow();
+
+        TaskBatchChangeOrderRequest request = TaskBatchChangeOrderRequest.builder()
+            .planId(plan.getId())
+            .moves(List.of(createMove(tab, target, task1)))
+            .build();
+
+        // when
+        TaskBatchChangeOrderResponse response = taskService.changeOrders(loginMember.getId(), request);
+
+        // then
+        assertThat(response.getTabs()
+            .get(0)
+            .getSortedTasks()).containsExactly(task1.getId(), target.getId(), task2.getId());
+        assertThat(planRepository.findRevisionById(plan.getId())
+            .orElseThrow()).isGreaterThan(revision);
+        assertThat(planChangeRepository.findAllAfter(plan.getId(), revision, Pageable.unpaged()))
+            .extracting(PlanChange::getType, PlanChange::getTargetId)
+            .contains(tuple(PlanChangeType.TASKS_RERANKED, tab.getId()));
+    }
+
+    @Test
+    @DisplayName("태스크의 순서를 한 번에 바꿀 때 다른 플랜의 탭으로는 옮길 수 없다")
+    void testChangeOrdersFailTabInOtherPlan() throws Exception {
         // given
         Plan plan = createPlan();
         Tab tab = createTab(plan);
         Member loginMember = createMemberWithPlan(plan);
+        Task task = createTaskWithTab(tab);
 
         Plan otherPlan = createPlan();
-        createMemberOfPlan(otherPlan, loginMember);
         Tab tabInOtherPlan = createTab(otherPlan);
-        Task taskInOtherTask = createTaskWithTab(tabInOtherPlan);
+
+        TaskBatchChangeOrderRequest request = TaskBatchChangeOrderRequest.builder()
+            .planId(plan.getId())
+            .moves(List.of(createMove(tabInOtherPlan, task, null)))
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> taskService.changeOrders(loginMember.getId(), request))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.TAB_NOT_FOUND_IN_PLAN.getMessage());
+    }
+
+    @Test
+    @DisplayName("태스크의 순서를 한 번에 바꾸는 것도 플랜에 소속된 멤버만 할 수 있다")
+    void testChangeOrdersFailNotAuthorized() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Task task1 = createTaskWithTab(tab);
+        Task task2 = createTaskWithTab(tab);
+        Member unauthorizedMember = createMemberWithPlan(createPlan());
+
+        TaskBatchChangeOrderRequest request = TaskBatchChangeOrderRequest.builder()
+            .planId(plan.getId())
+            .moves(List.of(createMove(tab, task1, task2)))
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> taskService.changeOrders(unauthorizedMember.getId(), request))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.MEMBER_NOT_FOUND_IN_PLAN.getMessage());
+    }
+
+    @Test
+    @DisplayName("여러 태스크를 한 번에 만들면 담긴 순서대로 탭의 맨 뒤에 붙는다")
+    void testCreateAll() {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Member loginMember = createMemberWithPlan(plan);
+        Member manager = createMemberWithPlan(plan);
+        Label label = createLabelUsingTest(plan);
+        Task existing = createTaskWithTab(tab);
+
+        TaskBulkCreateRequest request = TaskBulkCreateRequest.builder()
+            .planId(plan.getId())
+            .tabId(tab.getId())
+            .tasks(List.of(
+                createItem("first", manager, List.of(label.getId())),
+                createItem("second", null, List.of()),
+                createItem("third", manager, List.of(label.getId()))))
+            .build();
 
         // when
-        TaskChangeOrderRequest request = TaskChangeOrderRequest.builder()
+        List<Long> createdIds = taskService.createAll(loginMember.getId(), request);
+
+        // then
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).extracting(Task::getId)
+            .containsExactly(existing.getId(), createdIds.get(0), createdIds.get(1), createdIds.get(2));
+        assertThat(taskRepository.findAllById(createdIds)).extracting(Task::getTitle)
+            .containsExactlyInAnyOrder("first", "second", "third");
+        assertThat(labelOfTaskRepository.findAll()).extracting(labelOfTask -> labelOfTask.getTask()
+                .getId())
+            .containsExactlyInAnyOrder(createdIds.get(0), createdIds.get(2));
+    }
+
+    @Test
+    @DisplayName("여러 태스크를 한 번에 만들 때 다른 플랜의 탭에는 만들 수 없다")
+    void testCreateAllFailTabInOtherPlan() {
+        // given
+        Plan plan = createPlan();
+        Member loginMember = createMemberWithPlan(plan);
+        Tab tabInOtherPlan = createTab(createPlan());
+
+        TaskBulkCreateRequest request = TaskBulkCreateRequest.builder()
             .planId(plan.getId())
-            .targetTabId(tab.getId())
-            .newPrevId(null)
-            .targetId(taskInOtherTask.getId())
+            .tabId(tabInOtherPlan.getId())
+            .tasks(List.of(createItem("task", null, List.of())))
             .build();
 
         // when & then
-        assertThatThrownBy(() -> taskService.changeOrder(loginMember.getId(), request))
+        assertThatThrownBy(() -> taskService.createAll(loginMember.getId(), request))
             .isInstanceOf(ApiException.class)
-            .hasMessageContaining(ErrorCode.AUTHORIZATION_FAIL.getMessage());
+            .hasMessageContaining(ErrorCode.TAB_NOT_FOUND_IN_PLAN.getMessage());
+    }
+
+    @Test
+    @DisplayName("여러 태스크를 한 번에 만들 때 플랜에 속하지 않은 담당자가 있으면 하나도 만들지 않는다")
+    void testCreateAllFailAssigneeNotInPlan() {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Member loginMember = createMemberWithPlan(plan);
+        Member outsider = createMember();
+
+        TaskBulkCreateRequest request = TaskBulkCreateRequest.builder()
+            .planId(plan.getId())
+            .tabId(tab.getId())
+            .tasks(List.of(
+                createItem("task", loginMember, List.of()),
+                createItem("task", outsider, List.of())))
+            .build();
+
+        // when & then
+        assertThatThrownBy(() -> taskService.createAll(loginMember.getId(), request))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.MEMBER_NOT_FOUND_IN_PLAN.getMessage());
+        assertThat(taskRepository.findAllByTabId(tab.getId())).isEmpty();
     }
 
     @Test
@@ -654,12 +936,8 @@ class TaskServiceTest {
             .filter(each -> task.getId() == each.getId())
             .findAny();
         assertThat(resultOpt).isEmpty();
-        assertThat(tab.getFirstDummyTask()
-            .getNext()).isEqualTo(tab.getLastDummyTask());
-        assertThat(tab.getLastDummyTask()
-            .getPrev()).isEqualTo(tab.getFirstDummyTask());
-        assertThat(task.getNext()).isNull();
-        assertThat(task.getPrev()).isNull();
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).isEmpty();
+        assertThat(tab.getTasks()).doesNotContain(task);
     }
 
     @Test
@@ -683,34 +961,12 @@ class TaskServiceTest {
             .filter(each -> task.getId() == each.getId())
             .findAny();
         assertThat(resultOpt).isEmpty();
-        assertThat(tab.getFirstDummyTask()
-            .getNext()).isEqualTo(tab.getLastDummyTask());
-        assertThat(tab.getLastDummyTask()
-            .getPrev()).isEqualTo(tab.getFirstDummyTask());
-        assertThat(task.getNext()).isNull();
-        assertThat(task.getPrev()).isNull();
+        assertThat(taskRepository.findAllSortedByTabId(tab.getId())).isEmpty();
+        assertThat(tab.getTasks()).doesNotContain(task);
 
         assertThat(labelOfTaskRepository.findAll()).isEmpty();
     }
 
-    @Test
-    @DisplayName("더미 태스크는 삭제할 수 없다")
-    void testDeleteTaskFailDummyCantDelete() throws Exception {
-        // given
-        Plan plan = createPlan();
-        Member loginMember = createMemberWithPlan(plan);
-        Tab tab = createTab(plan);
-
-        List<Task> dummies = List.of(tab.getFirstDummyTask(), tab.getLastDummyTask());
-        assertThat(dummies).hasSize(2);
-        for (Task dummy : dummies) {
-            // when & then
-            assertThatThrownBy(() -> taskService.delete(loginMember.getId(), dummy.getId()))
-                .isInstanceOf(ApiException.class)
-                .hasMessageContaining(ErrorCode.TASK_NOT_FOUND.getMessage());
-        }
-    }
-
     @Test
     @DisplayName("플랜에 소속된 사용자만 태스크를 삭제할 수 있다")
     void testDeleteTaskFailUnauthorized() throws Exception {
@@ -769,6 +1025,25 @@ class TaskServiceTest {
             .contains(label1.getId());
     }
 
+    @Test
+    @DisplayName("태스크 조회 시 탭 안에서 앞뒤에 있는 태스크를 함께 조회한다")
+    void testFindTaskWithNeighbors() throws Exception {
+        // given
+        Plan plan = createPlan();
+        Tab tab = createTab(plan);
+        Task prevTask = createTaskWithTab(tab);
+        Task task = createTaskWithTab(tab);
+        Task nextTask = createTaskWithTab(tab);
+        Member member = createMemberWithPlan(plan);
+
+        // when
+        TaskFindResponse response = taskService.find(task.getId(), member.getId());
+
+        // then
+        assertThat(response.getPrevId()).isEqualTo(prevTask.getId());
+        assertThat(response.getNextId()).isEqualTo(nextTask.getId());
+    }
+
     @Test
     @DisplayName("태스크 조회 시 Description을 조회할 수 있다")
     void testCanShowDescriptionThatCreateTask() throws Exception {
@@ -817,24 +1092,33 @@ class TaskServiceTest {
             .hasMessageContaining(ErrorCode.TASK_NOT_FOUND.getMessage());
     }
 
-    private Task createTaskWithTab(Tab tab) {
-        Task task = Task.builder()
-            .tab(tab)
+    private TaskBatchChangeOrderRequest.Move createMove(Tab tab, Task target, Task newPrev) {
+        return TaskBatchChangeOrderRequest.Move.builder()
+            .targetTabId(tab.getId())
+            .targetId(target.getId())
+            .newPrevId(newPrev == null ? null : newPrev.getId())
             .build();
-        Task lastDummy = tab.getLastDummyTask();
-        lastDummy.putInFront(task);
+    }
 
-        taskRepository.save(task);
-        return task;
+    private TaskBulkCreateRequest.Item createItem(String title, Member assignee, List<Long> labels) {
+        return TaskBulkCreateRequest.Item.builder()
+            .title(title)
+            .assigneeId(assignee == null ? null : assignee.getId())
+            .labels(labels)
+            .build();
+    }
+
+    private Task createTaskWithTab(Tab tab) {
+        return createTaskWithTabAndDescription(tab, null);
     }
 
     private Task createTaskWithTabAndDescription(Tab tab, String description) {
         Task task = Task.builder()
             .description(description)
             .tab(tab)
+            .rank(Rank.between(taskRepository.findLastRankByTabId(tab.getId()), null))
             .build();
-        Task lastDummy = tab.getLastDummyTask();
-        lastDummy.putInFront(task);
+        tab.addTask(task);
 
         taskRepository.save(task);
         return task;
@@ -870,12 +1154,6 @@ class TaskServiceTest {
         }
         Tab tab = builder.build();
         tabRepository.save(tab);
-
-        List<Task> dummies = Task.createFirstAndLastDummy(tab);
-        Task firstDummy = dummies.get(0);
-        Task lastDummy = dummies.get(1);
-        taskRepository.save(firstDummy);
-        taskRepository.save(lastDummy);
         return tab;
     }
 
@@ -0,0 +1,68 @@
+package com.example.planservice.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Flyway 없이 ddl-auto로 만들어진 운영 DB의 스키마를 만들어 두고, application.yml과 같이 V1로 baseline 한 뒤
+ * 나머지 마이그레이션이 모두 적용되는지 확인한다.
+ */
+class BaselineMigrationTest {
+    private static final String URL =
+        "jdbc:h2:mem:baseline-migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(URL, "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop all objects");
+        new ResourceDatabasePopulator(new ClassPathResource("db/pre-flyway-schema.sql")).execute(dataSource);
+    }
+
+    @Test
+    @DisplayName("기존 스키마를 V1로 baseline 하면 이후에 생긴 테이블과 컬럼이 모두 추가되고 기존 플랜의 revision은 0이 된다")
+    void migrateFromBaseline() {
+        // given
+        jdbcTemplate.update("insert into members(member_id, name, email, is_deleted, receive_emails) "
+            + "values (1, 'tester', 'baseline@example.com', false, false)");
+        jdbcTemplate.update("insert into plans(plan_id, title, owner_id, is_deleted, is_public, star_cnt, view_cnt) "
+            + "values (1, 'plan', 1, false, false, 0, 0)");
+        jdbcTemplate.update("insert into tabs(tab_id, plan_id, title, first, is_deleted, version) "
+            + "values (1, 1, 'tab', true, false, 0)");
+        jdbcTemplate.update("insert into tasks(task_id, tab_id, title, is_deleted, version) "
+            + "values (1, 1, 'task', false, 0)");
+
+        // when
+        Flyway flyway = Flyway.configure()
+            .dataSource(dataSource)
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load();
+        flyway.migrate();
+
+        // then
+        assertThat(flyway.info()
+            .pending()).isEmpty();
+        assertThat(flyway.info()
+            .applied()).extracting(MigrationInfo::getState)
+            .allMatch(state -> state.isApplied() && !state.isFailed());
+        assertThat(jdbcTemplate.queryForObject("select revision from plans where plan_id = 1", Long.class))
+            .isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tasks where task_rank is null", Long.class))
+            .isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from plan_changes where published_at is null",
+            Long.class)).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.planservice.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.planservice.application.PlanService;
+import com.example.planservice.application.TaskService;
+import com.example.planservice.domain.tab.repository.TabRepository;
+import com.example.planservice.presentation.dto.request.PlanCreateRequest;
+import com.example.planservice.presentation.dto.request.TaskCreateRequest;
+
+/**
+ * id를 IDENTITY로 받던 V2 스키마에 행을 넣어 두고 V3부터 적용한 뒤, JPA로 저장한 엔티티의 id가 기존 id와 겹치지 않는지 확인한다.
+ */
+@SpringBootTest
+class IdGeneratorMigrationTest {
+    private static final String URL =
+        "jdbc:h2:mem:id-generator-migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final long MEMBER_ID = 1L;
+    private static final long EXISTING_MAX_ID = 3L;
+
+    @Autowired
+    PlanService planService;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    TabRepository tabRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void prepareExistingRows(DynamicPropertyRegistry registry) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop all objects");
+        Flyway.configure()
+            .dataSource(dataSource)
+            .target("2")
+            .load()
+            .migrate();
+
+        jdbcTemplate.update("insert into members(member_id, name, email, is_deleted, receive_emails) "
+            + "values (?, 'tester', 'generator@example.com', false, false)", MEMBER_ID);
+        for (long id = 1; id <= EXISTING_MAX_ID; id++) {
+            jdbcTemplate.update("insert into plans(plan_id, title, owner_id, is_deleted, is_public, star_cnt, "
+                + "view_cnt) values (?, 'plan', ?, false, false, 0, 0)", id, MEMBER_ID);
+            jdbcTemplate.update("insert into members_of_plan(member_of_plan_id, member_id, plan_id) values (?, ?, ?)",
+                id, MEMBER_ID, id);
+            jdbcTemplate.update("insert into tabs(tab_id, plan_id, title, first, is_deleted, version) "
+                + "values (?, ?, 'tab', false, false, 0)", id, id);
+            jdbcTemplate.update("insert into tasks(task_id, tab_id, title, is_deleted, version) "
+                + "values (?, ?, 'task', false, 0)", id, id);
+        }
+
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    @DisplayName("기존 행이 있는 DB에서 JPA로 플랜과 태스크를 만들어도 기존 id 뒤의 id를 받는다")
+    void generateIdsAfterExistingRows() {
+        // when
+        Long planId = planService.create(PlanCreateRequest.builder()
+            .title("new plan")
+            .isPublic(false)
+            .invitedEmails(List.of())
+            .build(), MEMBER_ID);
+        Long tabId = tabRepository.findAllByPlanId(planId)
+            .get(0)
+            .getId();
+        Long taskId = taskService.create(MEMBER_ID, TaskCreateRequest.builder()
+            .planId(planId)
+            .tabId(tabId)
+            .title("new task")
+            .labels(List.of())
+            .build());
+
+        // then
+        assertThat(planId).isGreaterThan(EXISTING_MAX_ID);
+        assertThat(tabId).isGreaterThan(EXISTING_MAX_ID);
+        assertThat(taskId).isGreaterThan(EXISTING_MAX_ID);
+        assertThat(jdbcTemplate.queryForObject("select min(member_of_plan_id) from members_of_plan where plan_id = ?",
+            Long.class, planId)).isGreaterThan(EXISTING_MAX_ID);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from plans", Long.class))
+            .isEqualTo(EXISTING_MAX_ID + 1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.planservice.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * revision 없이 만들어진 플랜을 V7 스키마에 넣고 V8을 적용해, revision이 0부터 시작하고 이후에도 올라가는지 확인한다.
+ */
+class PlanRevisionMigrationTest {
+    private static final String URL =
+        "jdbc:h2:mem:revision-migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(URL, "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop all objects");
+        migrate("7");
+    }
+
+    @Test
+    @DisplayName("revision이 비어 있던 플랜은 0으로 채워지고, revision을 올리면 1이 된다")
+    void backfillRevision() {
+        // given
+        jdbcTemplate.update("insert into plans(plan_id, is_deleted, is_public, star_cnt, view_cnt) "
+            + "values (1, false, false, 0, 0)");
+
+        // when
+        migrate("latest");
+        jdbcTemplate.update("update plans set revision = revision + 1 where plan_id = 1");
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select revision from plans where plan_id = 1", Long.class))
+            .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("revision 없이 새로 넣은 플랜도 revision이 0이다")
+    void defaultRevision() {
+        // given
+        migrate("latest");
+
+        // when
+        jdbcTemplate.update("insert into plans(plan_id, is_deleted, is_public, star_cnt, view_cnt) "
+            + "values (2, false, false, 0, 0)");
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select revision from plans where plan_id = 2", Long.class))
+            .isZero();
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+            .dataSource(dataSource)
+            .target(target)
+            .load()
+            .migrate();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.planservice.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 더미 태스크를 가진 V3 스키마에 데이터를 넣고 V4를 적용해, 실제 태스크와 연결 리스트 순서가 남는지 확인한다.
+ */
+class RemoveDummyTasksMigrationTest {
+    private static final String URL =
+        "jdbc:h2:mem:dummy-migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(URL, "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop all objects");
+        migrate("3");
+    }
+
+    @Test
+    @DisplayName("더미 태스크와 탭의 더미 참조를 지우고, 실제 태스크는 연결 리스트 순서를 유지한다")
+    void removeDummyTasks() {
+        // given
+        jdbcTemplate.update("insert into plans(plan_id, is_deleted, is_public, star_cnt, view_cnt) "
+            + "values (1, false, false, 0, 0)");
+        jdbcTemplate.update("insert into tabs(tab_id, plan_id, title, first, is_deleted, version) "
+            + "values (1, 1, '투두', true, false, 0)");
+        insertTask(1, "first", null);
+        insertTask(2, "태스크", 1L);
+        insertTask(3, "태스크", 2L);
+        insertTask(4, "last", 3L);
+        jdbcTemplate.update("update tasks set next_id = task_id + 1 where task_id < 4");
+        jdbcTemplate.update("update tabs set first_task_id = 1, last_task_id = 4 where tab_id = 1");
+
+        // when
+        migrate("latest");
+
+        // then
+        List<Map<String, Object>> tasks = jdbcTemplate.queryForList(
+            "select task_id, prev_id, next_id from tasks order by task_id");
+        assertThat(tasks).extracting(row -> row.get("task_id"))
+            .containsExactly(2L, 3L);
+        assertThat(tasks.get(0)).containsEntry("prev_id", null)
+            .containsEntry("next_id", 3L);
+        assertThat(tasks.get(1)).containsEntry("prev_id", 2L)
+            .containsEntry("next_id", null);
+        assertThat(jdbcTemplate.queryForList("select column_name from information_schema.columns "
+            + "where table_name = 'tabs'", String.class))
+            .doesNotContain("first_task_id", "last_task_id");
+    }
+
+    private void insertTask(long id, String title, Long prevId) {
+        jdbcTemplate.update("insert into tasks(task_id, tab_id, title, prev_id, is_deleted, version) "
+            + "values (?, 1, ?, ?, false, 0)", id, title, prevId);
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+            .dataSource(dataSource)
+            .target(target)
+            .load()
+            .migrate();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.planservice.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.planservice.domain.memberofplan.repository.MemberOfPlanRepository;
+import com.example.planservice.domain.planchange.repository.PlanChangeRepository;
+import com.example.planservice.domain.task.Rank;
+import com.example.planservice.domain.task.repository.LabelOfTaskRepository;
+import com.example.planservice.domain.task.repository.TaskRepository;
+import com.example.planservice.support.QueryCounter;
+import com.example.planservice.support.QueryPlans;
+
+/**
+ * 매 요청마다 실행되는 조회 쿼리가 테이블 전체를 읽지 않는지 실행 계획으로 확인한다.
+ * 실패하면 테이블 전체를 읽은 SQL과 실행 계획이 메시지에 담긴다.
+ * 기동할 때 한 번만 도는 rank 백필 쿼리(findAllTabIdsWithoutRank, findAllTabIdsByRankLongerThan)는 대상이 아니다.
+ */
+@SpringBootTest
+@Transactional
+class LookupQueryPlanTest {
+    @Autowired
+    MemberOfPlanRepository memberOfPlanRepository;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    LabelOfTaskRepository labelOfTaskRepository;
+
+    @Autowired
+    PlanChangeRepository planChangeRepository;
+
+    @Autowired
+    QueryCounter queryCounter;
+
+    @Autowired
+    QueryPlans queryPlans;
+
+    @Test
+    @DisplayName("플랜 멤버십 조회는 테이블 전체를 읽지 않는다")
+    void memberOfPlanQueries() {
+        // when
+        List<String> sqls = queryCounter.record(() -> {
+            memberOfPlanRepository.findByPlanIdAndMemberId(1L, 1L);
+            memberOfPlanRepository.existsByPlanIdAndMemberId(1L, 1L);
+            memberOfPlanRepository.findAllByMemberId(1L);
+            memberOfPlanRepository.findAllByPlanId(1L);
+            memberOfPlanRepository.findAllWithMemberByPlanId(1L);
+            memberOfPlanRepository.deleteAllByPlanIdAndMemberIds(1L, List.of(1L, 2L));
+        });
+
+        // then
+        assertThat(tableScans(sqls)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태스크 조회는 테이블 전체를 읽지 않는다")
+    void taskQueries() {
+        // given
+        PageRequest page = PageRequest.of(0, 20);
+        String rank = Rank.between(null, null);
+
+        // when
+        List<String> sqls = queryCounter.record(() -> {
+            taskRepository.findAllByTabId(1L);
+            taskRepository.findDetailById(1L);
+            taskRepository.findFirstSummariesOfEachTab(List.of(1L, 2L), 20);
+            taskRepository.findSummariesByTabId(1L, page);
+            taskRepository.findSummariesByIdIn(List.of(1L, 2L));
+            taskRepository.findSummariesByTabIdAfter(1L, rank, 1L, page);
+            taskRepository.findAllSortedByTabId(1L);
+            taskRepository.findAllSortedByTabIdIn(List.of(1L, 2L));
+            taskRepository.findLastRankByTabId(1L);
+            taskRepository.findFirstPositions(1L, page);
+            taskRepository.findPositionsAfter(1L, rank, 1L, page);
+            taskRepository.findPositionsBefore(1L, rank, 1L, page);
+        });
+
+        // then
+        assertThat(tableScans(sqls)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태스크 라벨 조회는 테이블 전체를 읽지 않는다")
+    void labelOfTaskQueries() {
+        // when
+        List<String> sqls = queryCounter.record(() -> {
+            labelOfTaskRepository.findAllByTaskId(1L);
+            labelOfTaskRepository.findAllSummariesByTaskIdIn(List.of(1L, 2L));
+        });
+
+        // then
+        assertThat(tableScans(sqls)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아직 보내지 않은 플랜 변경 조회는 테이블 전체를 읽지 않는다")
+    void planChangeOutboxQueries() {
+        // when
+        List<String> sqls = queryCounter.record(() -> {
+            planChangeRepository.findAllUnpublished(PageRequest.of(0, 500));
+            planChangeRepository.findBacklog();
+        });
+
+        // then
+        assertThat(tableScans(sqls)).isEmpty();
+    }
+
+    private Map<String, String> tableScans(List<String> sqls) {
+        return sqls.stream()
+            .distinct()
+            .filter(queryPlans::scansTable)
+            .collect(Collectors.toMap(sql -> sql, queryPlans::explain));
+    }
+}
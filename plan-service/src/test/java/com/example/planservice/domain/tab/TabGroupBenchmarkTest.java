@@ -0,0 +1,88 @@
+package com.example.planservice.domain.tab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.planservice.domain.plan.Plan;
+
+/**
+ * 탭 개수가 늘어나도 TabGroup의 연산 시간이 일정한지 확인한다.
+ * 측정 오차를 감안해 여러 번 측정한 값 중 가장 빠른 값을 비교하고, 허용 범위도 넉넉하게 둔다.
+ */
+class TabGroupBenchmarkTest {
+    private static final int OPERATIONS = 20_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    @DisplayName("탭이 수백 개여도 이동, 이름 변경, 추가, 삭제에 걸리는 시간이 늘어나지 않는다")
+    void flatLatency() {
+        // given
+        long small = measure(10);
+        long large = measure(500);
+
+        // then
+        assertThat(large).isLessThan(small * 10);
+    }
+
+    private long measure(int tabSize) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Tab> tabs = createTabs(tabSize);
+            TabGroup tabGroup = new TabGroup(1L, tabs, tabSize + 1);
+            long startedAt = System.nanoTime();
+            runOperations(tabGroup, tabs);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return best;
+    }
+
+    private void runOperations(TabGroup tabGroup, List<Tab> tabs) {
+        int size = tabs.size();
+        for (int i = 0; i < OPERATIONS; i++) {
+            Tab target = tabs.get(1 + i % (size - 1));
+            Tab newPrev = tabs.get((i * 7) % size);
+            if (target != newPrev) {
+                tabGroup.move(target.getId(), newPrev.getId());
+            }
+            tabGroup.changeName(target.getId(), "이름" + i);
+
+            Tab added = createTab(null, (long) size + 1, "추가" + i);
+            tabGroup.add(newPrev, added);
+            tabGroup.deleteById(added.getId());
+        }
+    }
+
+    private List<Tab> createTabs(int size) {
+        Plan plan = Plan.builder()
+            .build();
+        ReflectionTestUtils.setField(plan, "id", 1L);
+
+        List<Tab> tabs = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Tab tab = createTab(plan, (long) i + 1, "탭" + i);
+            if (i == 0) {
+                ReflectionTestUtils.setField(tab, "first", true);
+            } else {
+                tabs.get(i - 1)
+                    .connect(tab);
+            }
+            tabs.add(tab);
+        }
+        return tabs;
+    }
+
+    private Tab createTab(Plan plan, Long id, String title) {
+        Tab tab = Tab.builder()
+            .plan(plan)
+            .title(title)
+            .build();
+        ReflectionTestUtils.setField(tab, "id", id);
+        return tab;
+    }
+}
@@ -69,6 +69,33 @@ class TabGroupTest {
             .hasMessageContaining(ErrorCode.TAB_SIZE_INVALID.getMessage());
     }
 
+    @Test
+    @DisplayName("탭그룹의 최대 탭 개수는 설정할 수 있다")
+    void createWithMaxSize() {
+        // given
+        Plan plan = createPlan();
+        Tab tab1 = createTab(plan, "탭1", null);
+        Tab tab2 = createTab(plan, "탭2", tab1);
+        Tab tab3 = createTab(plan, "탭3", tab2);
+        Tab tab4 = createTab(plan, "탭4", tab3);
+        Tab tab5 = createTab(plan, "탭5", tab4);
+        Tab tab6 = createTab(plan, "탭6", tab5);
+        TabGroup tabGroup = new TabGroup(plan.getId(), List.of(tab1, tab2, tab3, tab4, tab5, tab6), 7);
+
+        // when
+        tabGroup.addLast(Tab.builder()
+            .title("탭7")
+            .build());
+
+        // then
+        assertThat(tabGroup.getSortedTabs()).hasSize(7);
+        assertThatThrownBy(() -> tabGroup.addLast(Tab.builder()
+            .title("탭8")
+            .build()))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.TAB_SIZE_INVALID.getMessage());
+    }
+
     @Test
     @DisplayName("하나의 탭그룹에는 한 개 이상의 탭이 있어야 한다")
     void createFailSizeDown() {
@@ -273,6 +300,56 @@ class TabGroupTest {
             .hasMessageContaining(ErrorCode.TAB_NAME_DUPLICATE.getMessage());
     }
 
+    @Test
+    @DisplayName("마지막 탭을 옮긴 뒤에도 새 탭은 가장 마지막에 추가된다")
+    void addLastAfterChangeOrder() {
+        // given
+        Plan plan = createPlan();
+        Tab tab1 = createTab(plan, "탭1", null);
+        Tab tab2 = createTab(plan, "탭2", tab1);
+        Tab tab3 = createTab(plan, "탭3", tab2);
+        TabGroup tabGroup = new TabGroup(plan.getId(), List.of(tab1, tab2, tab3));
+        tabGroup.changeOrder(tab3.getId(), tab1.getId());
+
+        Tab addedTab = Tab.builder()
+            .title("추가된탭")
+            .build();
+
+        // when
+        tabGroup.addLast(addedTab);
+
+        // then
+        assertThat(tabGroup.getSortedTabs()).containsExactly(tab1, tab3, tab2, addedTab);
+    }
+
+    @Test
+    @DisplayName("이름을 바꾸거나 삭제한 탭의 이전 이름은 다시 사용할 수 있다")
+    void reuseNameAfterChangeNameAndDelete() {
+        // given
+        Plan plan = createPlan();
+        Tab tab1 = createTab(plan, "탭1", null);
+        Tab tab2 = createTab(plan, "탭2", tab1);
+        Tab tab3 = createTab(plan, "탭3", tab2);
+        TabGroup tabGroup = new TabGroup(plan.getId(), List.of(tab1, tab2, tab3));
+
+        // when
+        tabGroup.changeName(tab2.getId(), "바뀐탭");
+        tabGroup.deleteById(tab3.getId());
+        tabGroup.addLast(Tab.builder()
+            .title("탭2")
+            .build());
+        tabGroup.addLast(Tab.builder()
+            .title("탭3")
+            .build());
+
+        // then
+        assertThat(tabGroup.getSortedTabs()).extracting(Tab::getTitle)
+            .containsExactly("탭1", "바뀐탭", "탭2", "탭3");
+        assertThatThrownBy(() -> tabGroup.changeName(tab1.getId(), "바뀐탭"))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.TAB_NAME_DUPLICATE.getMessage());
+    }
+
     @Test
     @DisplayName("탭 삭제 시 자신의 prev탭과 next탭을 연결한다")
     void checkConnectingIfTabDelete() {
@@ -0,0 +1,102 @@
+package com.example.planservice.domain.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RankTest {
+    @Test
+    @DisplayName("두 키 사이의 키를 만든다")
+    void between() {
+        // given
+        String prev = Rank.between(null, null);
+        String next = Rank.between(prev, null);
+
+        // when
+        String middle = Rank.between(prev, next);
+
+        // then
+        assertThat(prev).isLessThan(middle);
+        assertThat(middle).isLessThan(next);
+    }
+
+    @Test
+    @DisplayName("맨 앞에 키를 추가한다")
+    void betweenFront() {
+        // given
+        String first = Rank.between(null, null);
+
+        // when
+        String front = Rank.between(null, first);
+
+        // then
+        assertThat(front).isLessThan(first)
+            .isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("맨 뒤에 계속 추가해도 키의 길이가 늘어나지 않는다")
+    void appendKeepsLength() {
+        // given
+        String last = null;
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            String next = Rank.between(last, null);
+            assertThat(last == null || last.compareTo(next) < 0).isTrue();
+            last = next;
+        }
+
+        // then
+        assertThat(last).hasSizeLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("임의의 위치에 키를 끼워 넣어도 순서가 유지된다")
+    void randomInsertKeepsOrder() {
+        // given
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 2_000; i++) {
+            int index = random.nextInt(keys.size() + 1);
+            String prev = index == 0 ? null : keys.get(index - 1);
+            String next = index == keys.size() ? null : keys.get(index);
+            keys.add(index, Rank.between(prev, next));
+        }
+
+        // then
+        assertThat(keys).isSorted()
+            .doesNotHaveDuplicates()
+            .noneMatch(key -> key.endsWith("0"));
+    }
+
+    @Test
+    @DisplayName("균등한 간격의 키를 만든다")
+    void evenlySpaced() {
+        // when
+        List<String> keys = Rank.evenlySpaced(1_000);
+
+        // then
+        assertThat(keys).hasSize(1_000)
+            .isSorted()
+            .doesNotHaveDuplicates()
+            .allMatch(key -> key.length() <= 6);
+        assertThat(Rank.between(keys.get(0), keys.get(1))).isBetween(keys.get(0), keys.get(1));
+    }
+
+    @Test
+    @DisplayName("prev가 next보다 뒤에 있으면 키를 만들 수 없다")
+    void betweenFailReversed() {
+        // when & then
+        assertThatThrownBy(() -> Rank.between("b", "a"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
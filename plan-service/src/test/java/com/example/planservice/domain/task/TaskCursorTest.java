@@ -0,0 +1,37 @@
+package com.example.planservice.domain.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.planservice.exception.ApiException;
+import com.example.planservice.exception.ErrorCode;
+
+class TaskCursorTest {
+    @Test
+    @DisplayName("인코딩한 커서를 다시 디코딩하면 같은 위치를 가리킨다")
+    void encodeAndDecode() {
+        // given
+        TaskCursor cursor = new TaskCursor("0a1b", 15L);
+
+        // when
+        TaskCursor result = TaskCursor.decode(cursor.encode());
+
+        // then
+        assertThat(result).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서는 디코딩할 수 없다")
+    void decodeFailInvalidFormat() {
+        // when & then
+        assertThatThrownBy(() -> TaskCursor.decode("!!!"))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.TASK_CURSOR_INVALID.getMessage());
+        assertThatThrownBy(() -> TaskCursor.decode(new TaskCursor("a", null).encode()))
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining(ErrorCode.TASK_CURSOR_INVALID.getMessage());
+    }
+}
@@ -3,9 +3,13 @@ package com.example.planservice.presentation;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.ArrayList;
@@ -17,15 +21,20 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.example.planservice.application.PlanChangeService;
+import com.example.planservice.application.PlanChangeStreams;
 import com.example.planservice.application.PlanService;
 import com.example.planservice.config.JpaAuditingConfig;
 import com.example.planservice.exception.ApiException;
 import com.example.planservice.exception.ErrorCode;
 import com.example.planservice.presentation.dto.request.PlanCreateRequest;
 import com.example.planservice.presentation.dto.request.PlanUpdateRequest;
+import com.example.planservice.presentation.dto.response.PlanChangesResponse;
 import com.example.planservice.presentation.dto.response.PlanResponse;
 import com.example.planservice.presentation.dto.response.PlanTitleIdResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -34,6 +43,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class PlanControllerTest {
     @MockBean
     PlanService planService;
+    @MockBean
+    PlanChangeService planChangeService;
+    @MockBean
+    PlanChangeStreams planChangeStreams;
     @Autowired
     private MockMvc mockMvc;
     @Autowired
@@ -120,7 +133,7 @@ class PlanControllerTest {
             .isPublic(true)
             .build();
 
-        when(planService.getTotalPlanResponse(planId)).thenReturn(planResponse);
+        when(planService.getTotalPlanResponse(planId, null)).thenReturn(planResponse);
 
         // when & then
         mockMvc.perform(get("/plans/{planId}", planId)
@@ -128,7 +141,131 @@ class PlanControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.title").value(planResponse.getTitle()))
-            .andExpect(jsonPath("$.description").value(planResponse.getDescription()));
+            .andExpect(jsonPath("$.description").value(planResponse.getDescription()))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public"))
+            .andExpect(header().string("X-Plan-Id", String.valueOf(planId)));
+    }
+
+    @Test
+    @DisplayName("플랜을 조회하면 ETag를 함께 내려준다")
+    void readPlanWithETag() throws Exception {
+        // given
+        Long userId = 1L;
+        Long planId = 1L;
+        String eTag = "\"1-3-100\"";
+
+        when(planService.getPlanETag(planId, null)).thenReturn(eTag);
+        when(planService.getTotalPlanResponse(planId, null)).thenReturn(PlanResponse.builder()
+            .title("플랜 제목")
+            .build());
+
+        // when & then
+        mockMvc.perform(get("/plans/{planId}", planId)
+                .header("X-User-Id", userId))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private"));
+    }
+
+    @Test
+    @DisplayName("클라이언트가 가진 revision 이후의 변경분을 조회한다")
+    void readChanges() throws Exception {
+        // given
+        Long userId = 1L;
+        Long planId = 1L;
+
+        when(planChangeService.findChanges(planId, userId, 3L)).thenReturn(PlanChangesResponse.builder()
+            .revision(5L)
+            .snapshot(false)
+            .changes(List.of())
+            .build());
+
+        // when & then
+        mockMvc.perform(get("/plans/{planId}/changes", planId)
+                .header("X-User-Id", userId)
+                .param("since", "3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.revision").value(5))
+            .andExpect(jsonPath("$.snapshot").value(false));
+    }
+
+    @Test
+    @DisplayName("since 없이 변경분을 조회할 수 없다")
+    void readChangesFailNoSince() throws Exception {
+        // when & then
+        mockMvc.perform(get("/plans/{planId}/changes", 1L)
+                .header("X-User-Id", 1L))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("플랜의 변경을 SSE로 구독한다")
+    void subscribe() throws Exception {
+        // given
+        Long userId = 1L;
+        Long planId = 1L;
+
+        when(planChangeStreams.subscribe(planId, userId)).thenReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(get("/plans/{planId}/events", planId)
+                .header("X-User-Id", userId)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @DisplayName("서버의 구독 연결이 가득 차면 503을 응답한다")
+    void subscribeFailFull() throws Exception {
+        // given
+        Long userId = 1L;
+        Long planId = 1L;
+
+        when(planChangeStreams.subscribe(planId, userId))
+            .thenThrow(new ApiException(ErrorCode.PLAN_STREAM_UNAVAILABLE));
+
+        // when & then
+        mockMvc.perform(get("/plans/{planId}/events", planId)
+                .header("X-User-Id", userId)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 플랜을 다시 읽지 않고 304를 응답한다")
+    void readPlanNotModified() throws Exception {
+        // given
+        Long userId = 1L;
+        Long planId = 1L;
+        String eTag = "\"1-3-100\"";
+
+        when(planService.getPlanETag(planId, null)).thenReturn(eTag);
+
+        // when & then
+        mockMvc.perform(get("/plans/{planId}", planId)
+                .header("X-User-Id", userId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        verify(planService, never()).getTotalPlanResponse(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 메인 보드의 ETag와 같으면 304를 응답한다")
+    void readAllNotModified() throws Exception {
+        // given
+        Long userId = 1L;
+        String eTag = "\"abc\"";
+
+        when(planService.getMainETag(userId)).thenReturn(eTag);
+
+        // when & then
+        mockMvc.perform(get("/plans/main")
+                .header("X-User-Id", userId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+        verify(planService, never()).getMainResponse(anyLong());
     }
 
     @Test
@@ -138,7 +275,7 @@ class PlanControllerTest {
         Long userId = 1L;
         Long invalidPlanId = 9999L;
 
-        when(planService.getTotalPlanResponse(invalidPlanId)).thenThrow(new ApiException(ErrorCode.PLAN_NOT_FOUND));
+        when(planService.getTotalPlanResponse(invalidPlanId, null)).thenThrow(new ApiException(ErrorCode.PLAN_NOT_FOUND));
 
         // when & then
         mockMvc.perform(get("/plans/{planId}", invalidPlanId)
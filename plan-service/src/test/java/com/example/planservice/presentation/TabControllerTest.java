@@ -28,6 +28,7 @@ import com.example.planservice.presentation.dto.request.TabChangeTitleRequest;
 import com.example.planservice.presentation.dto.request.TabChangeOrderRequest;
 import com.example.planservice.presentation.dto.request.TabCreateRequest;
 import com.example.planservice.presentation.dto.response.TabFindResponse;
+import com.example.planservice.presentation.dto.response.TabTaskPageResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(controllers = TabController.class, excludeAutoConfiguration = JpaAuditingConfig.class)
@@ -152,7 +153,7 @@ class TabControllerTest {
             .build();
 
         // stub
-        when(tabService.find(targetTabId, userId))
+        when(tabService.find(targetTabId, userId, null, null))
             .thenReturn(response);
 
         // when & then
@@ -164,6 +165,28 @@ class TabControllerTest {
             .andExpect(jsonPath("$.nextId").value(response.getNextId()));
     }
 
+    @Test
+    @DisplayName("탭의 태스크를 커서로 조회한다")
+    void testFindTasks() throws Exception {
+        // given
+        Long tabId = 1L;
+        Long userId = 2L;
+        TabTaskPageResponse response = new TabTaskPageResponse(List.of(), "cursor");
+
+        // stub
+        when(tabService.findTasks(tabId, userId, "prev", 20))
+            .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/tabs/" + tabId + "/tasks")
+                .param("after", "prev")
+                .param("limit", "20")
+                .header("X-User-Id", userId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tasks").isArray())
+            .andExpect(jsonPath("$.nextCursor").value("cursor"));
+    }
+
     @Test
     @DisplayName("로그인한 사용자만 탭을 조회할 수 있다")
     void testFindTabFailNotLogin() throws Exception {
@@ -1,22 +1,33 @@
 package com.example.planservice.presentation;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.example.planservice.application.TaskService;
 import com.example.planservice.config.JpaAuditingConfig;
+import com.example.planservice.presentation.dto.request.TaskBatchChangeOrderRequest;
+import com.example.planservice.presentation.dto.request.TaskBulkCreateRequest;
 import com.example.planservice.presentation.dto.request.TaskCreateRequest;
+import com.example.planservice.presentation.dto.response.TaskBatchChangeOrderResponse;
+import com.example.planservice.presentation.dto.response.PlanVersion;
 import com.example.planservice.presentation.dto.response.TaskFindResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -58,6 +69,83 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.id").value(createdId));;
     }
 
+    @Test
+    @DisplayName("여러 태스크를 한 번에 생성한다")
+    void createAll() throws Exception {
+        // given
+        TaskBulkCreateRequest request = TaskBulkCreateRequest.builder()
+            .planId(1L)
+            .tabId(1L)
+            .tasks(List.of(
+                TaskBulkCreateRequest.Item.builder()
+                    .title("첫 번째")
+                    .build(),
+                TaskBulkCreateRequest.Item.builder()
+                    .title("두 번째")
+                    .build()))
+            .build();
+        Long userId = 2L;
+
+        // stub
+        when(taskService.createAll(anyLong(), any(TaskBulkCreateRequest.class)))
+            .thenReturn(List.of(3L, 4L));
+
+        // when & then
+        mockMvc.perform(post("/tasks/bulk")
+                .header("X-User-Id", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.ids[0]").value(3L))
+            .andExpect(jsonPath("$.ids[1]").value(4L));
+    }
+
+    @Test
+    @DisplayName("한 번에 생성할 태스크에 labels가 없거나 null이면 빈 목록으로 받는다")
+    void createAllWithoutLabels() throws Exception {
+        // given
+        String content = "{\"planId\":1,\"tabId\":1,\"tasks\":[{\"title\":\"첫 번째\"},"
+            + "{\"title\":\"두 번째\",\"labels\":null}]}";
+        ArgumentCaptor<TaskBulkCreateRequest> captor = ArgumentCaptor.forClass(TaskBulkCreateRequest.class);
+
+        // stub
+        when(taskService.createAll(anyLong(), any(TaskBulkCreateRequest.class)))
+            .thenReturn(List.of(3L, 4L));
+
+        // when
+        mockMvc.perform(post("/tasks/bulk")
+                .header("X-User-Id", 2L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(content))
+            .andExpect(status().isCreated());
+
+        // then
+        verify(taskService).createAll(eq(2L), captor.capture());
+        assertThat(captor.getValue()
+            .getTasks()).extracting(TaskBulkCreateRequest.Item::getLabels)
+            .containsExactly(List.of(), List.of());
+    }
+
+    @Test
+    @DisplayName("한 번에 생성할 태스크 중 제목이 없는 태스크가 있으면 요청이 실패한다")
+    void createAllFailBlankTitle() throws Exception {
+        // given
+        TaskBulkCreateRequest request = TaskBulkCreateRequest.builder()
+            .planId(1L)
+            .tabId(1L)
+            .tasks(List.of(TaskBulkCreateRequest.Item.builder()
+                .title(" ")
+                .build()))
+            .build();
+
+        // when & then
+        mockMvc.perform(post("/tasks/bulk")
+                .header("X-User-Id", 2L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("로그인하지 않은 사용자는 태스크를 생성할 수 없다")
     void createTaskFailNotLogin() throws Exception {
@@ -164,6 +252,54 @@ class TaskControllerTest {
             .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("태스크의 순서를 한 번에 변경한다")
+    void testChangeOrders() throws Exception {
+        // given
+        Long userId = 2L;
+        TaskBatchChangeOrderRequest request = TaskBatchChangeOrderRequest.builder()
+            .planId(1L)
+            .moves(List.of(TaskBatchChangeOrderRequest.Move.builder()
+                .targetTabId(1L)
+                .targetId(3L)
+                .newPrevId(null)
+                .build()))
+            .build();
+        TaskBatchChangeOrderResponse response = new TaskBatchChangeOrderResponse(
+            List.of(new TaskBatchChangeOrderResponse.TabOrder(1L, List.of(3L, 1L, 2L))));
+
+        // stub
+        when(taskService.changeOrders(anyLong(), any(TaskBatchChangeOrderRequest.class)))
+            .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(put("/tasks/change-order/batch")
+                .header("X-User-Id", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tabs[0].tabId").value(1L))
+            .andExpect(jsonPath("$.tabs[0].sortedTasks[0]").value(3L));
+    }
+
+    @Test
+    @DisplayName("한 번에 변경할 이동이 없으면 요청이 실패한다")
+    void testChangeOrdersFailEmptyMoves() throws Exception {
+        // given
+        Long userId = 2L;
+        TaskBatchChangeOrderRequest request = TaskBatchChangeOrderRequest.builder()
+            .planId(1L)
+            .moves(List.of())
+            .build();
+
+        // when & then
+        mockMvc.perform(put("/tasks/change-order/batch")
+                .header("X-User-Id", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("태스크를 조회한다")
     void testFindTask() throws Exception {
@@ -188,6 +324,48 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.title").value(response.getTitle()));
     }
 
+    @Test
+    @DisplayName("공개 플랜의 태스크를 조회하면 게이트웨이가 캐시할 수 있도록 플랜 id와 ETag를 함께 내려준다")
+    void testFindTaskOfPublicPlan() throws Exception {
+        // given
+        TaskFindResponse response = TaskFindResponse.builder()
+            .id(1L)
+            .title("태스크제목")
+            .planVersion(new PlanVersion(3L, 7L, true))
+            .build();
+        when(taskService.find(anyLong(), anyLong()))
+            .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/tasks/1")
+                .header("X-User-Id", 2L))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public"))
+            .andExpect(header().string("X-Plan-Id", "3"))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3-7\""))
+            .andExpect(jsonPath("$.planVersion").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("비공개 플랜의 태스크는 공유 캐시에 남지 않도록 Cache-Control: private으로 내려준다")
+    void testFindTaskOfPrivatePlan() throws Exception {
+        // given
+        TaskFindResponse response = TaskFindResponse.builder()
+            .id(1L)
+            .title("태스크제목")
+            .planVersion(new PlanVersion(3L, 7L, false))
+            .build();
+        when(taskService.find(anyLong(), anyLong()))
+            .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/tasks/1")
+                .header("X-User-Id", 2L))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private"))
+            .andExpect(header().doesNotExist("X-Plan-Id"));
+    }
+
     @Test
     @DisplayName("로그인하지 않은 사용자는 태스크를 조회할 수 없다")
     void testFindTaskFailNotLogin() throws Exception {
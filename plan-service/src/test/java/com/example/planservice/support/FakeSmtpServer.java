@@ -0,0 +1,133 @@
+package com.example.planservice.support;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+
+/**
+ * 테스트에서 메일을 실제로 보내보기 위한 SMTP 서버. 받은 메일과 맺어진 연결의 수를 기록한다.
+ * {@link #rejectNext(int)}로 정해둔 수만큼은 메일을 받지 않고 일시적인 실패로 응답한다.
+ */
+public class FakeSmtpServer implements AutoCloseable {
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<String> mails = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger rejections = new AtomicInteger();
+
+    private FakeSmtpServer(int port) throws IOException {
+        serverSocket = new ServerSocket(port);
+        executor.execute(this::accept);
+    }
+
+    public static FakeSmtpServer start(int port) {
+        try {
+            return new FakeSmtpServer(port);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<MimeMessage> getMessages() {
+        Session session = Session.getInstance(new Properties());
+        List<MimeMessage> result = new ArrayList<>();
+        for (String mail : mails) {
+            try {
+                result.add(new MimeMessage(session, new ByteArrayInputStream(mail.getBytes(StandardCharsets.UTF_8))));
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return result;
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public void rejectNext(int count) {
+        rejections.set(count);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                executor.execute(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                 new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            reply(out, "220 localhost fake smtp");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase(Locale.ROOT);
+                if (command.startsWith("QUIT")) {
+                    reply(out, "221 bye");
+                    return;
+                }
+                if (command.startsWith("DATA")) {
+                    reply(out, "354 end data with <CR><LF>.<CR><LF>");
+                    String mail = readData(in);
+                    if (rejections.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+                        reply(out, "451 try again later");
+                    } else {
+                        mails.add(mail);
+                        reply(out, "250 ok");
+                    }
+                } else {
+                    reply(out, "250 ok");
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우
+        }
+    }
+
+    private static String readData(BufferedReader in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            data.append(line.startsWith(".") ? line.substring(1) : line)
+                .append("\r\n");
+        }
+        return data.toString();
+    }
+
+    private static void reply(PrintWriter out, String message) {
+        out.print(message + "\r\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.planservice.support;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate 통계를 이용해 특정 구간에서 실행된 SQL 문장 수를 센다.
+ * 영속성 컨텍스트에 이미 올라와 있는 엔티티 때문에 쿼리가 생략되지 않도록, 측정 전 flush & clear 를 수행한다.
+ * 문장의 개수뿐 아니라 어떤 테이블을 읽는지 확인해야 할 때는 {@link #record(Runnable)}로 SQL 자체를 받아온다.
+ */
+@Component
+public class QueryCounter {
+    private final Statistics statistics;
+    private final EntityManager em;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory, EntityManager em) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class)
+            .getStatistics();
+        this.em = em;
+    }
+
+    public long count(Runnable action) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    public List<String> record(Runnable action) {
+        em.flush();
+        em.clear();
+        List<String> recorded;
+        SqlRecorder.start();
+        try {
+            action.run();
+        } finally {
+            recorded = SqlRecorder.stop();
+        }
+        return recorded;
+    }
+}
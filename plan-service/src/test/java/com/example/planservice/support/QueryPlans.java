@@ -0,0 +1,63 @@
+package com.example.planservice.support;
+
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 문장 앞에 EXPLAIN을 붙여 실행하고 실행 계획을 문자열로 돌려준다.
+ * {@link QueryCounter#record(Runnable)}로 받아온 SQL의 파라미터는 값이 없으므로, 파라미터 타입에 맞는 임의의 값을 채운다.
+ */
+@Component
+public class QueryPlans {
+    private static final String TABLE_SCAN = "tableScan";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QueryPlans(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public String explain(String sql) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("explain " + sql);
+            bindSampleValues(statement);
+            return statement;
+        }, resultSet -> {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1));
+            }
+            return plan.toString();
+        });
+    }
+
+    public boolean scansTable(String sql) {
+        return explain(sql).contains(TABLE_SCAN);
+    }
+
+    private static void bindSampleValues(PreparedStatement statement) throws SQLException {
+        ParameterMetaData metaData = statement.getParameterMetaData();
+        for (int i = 1; i <= metaData.getParameterCount(); i++) {
+            statement.setObject(i, sampleOf(metaData.getParameterType(i)));
+        }
+    }
+
+    private static Object sampleOf(int sqlType) {
+        return switch (sqlType) {
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR -> "a";
+            case Types.BOOLEAN, Types.BIT -> false;
+            case Types.DATE -> Date.valueOf(LocalDate.now());
+            case Types.TIMESTAMP -> Timestamp.valueOf(LocalDateTime.now());
+            default -> 1L;
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.planservice.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문장을 스레드별로 기록한다. 테스트 설정의 statement_inspector 로 등록되어 있다.
+ * 기록은 {@link #start()}를 호출한 스레드에서만 이루어진다.
+ */
+public class SqlRecorder implements StatementInspector {
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+
+    static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    static List<String> stop() {
+        List<String> recorded = RECORDED.get();
+        RECORDED.remove();
+        return recorded == null ? List.of() : List.copyOf(recorded);
+    }
+}
@@ -0,0 +1,210 @@
+-- Flyway를 도입하기 전 ddl-auto가 운영 DB에 만들어 둔 스키마. 마이그레이션과 따로 두어 V1이 운영 스키마와 달라지면 테스트가 실패하게 한다.
+
+create table comments (
+    comment_id bigint not null auto_increment,
+    created_at datetime(6),
+    modified_at datetime(6),
+    task_id bigint,
+    writer_id bigint,
+    primary key (comment_id)
+) engine=InnoDB;
+
+create table labels (
+    created_at datetime(6),
+    label_id bigint not null auto_increment,
+    modified_at datetime(6),
+    plan_id bigint,
+    name varchar(255),
+    primary key (label_id)
+) engine=InnoDB;
+
+create table labels_of_task (
+    created_at datetime(6),
+    label_id bigint,
+    label_of_task_id bigint not null auto_increment,
+    modified_at datetime(6),
+    task_id bigint,
+    primary key (label_of_task_id)
+) engine=InnoDB;
+
+create table members (
+    is_deleted bit not null,
+    receive_emails bit not null,
+    created_at datetime(6),
+    member_id bigint not null auto_increment,
+    modified_at datetime(6),
+    email varchar(255),
+    name varchar(255),
+    profile_uri varchar(255),
+    role enum ('ADMIN','USER'),
+    primary key (member_id)
+) engine=InnoDB;
+
+create table members_of_plan (
+    created_at datetime(6),
+    member_id bigint,
+    member_of_plan_id bigint not null auto_increment,
+    modified_at datetime(6),
+    plan_id bigint,
+    primary key (member_of_plan_id)
+) engine=InnoDB;
+
+create table plans (
+    is_deleted bit not null,
+    is_public bit not null,
+    star_cnt integer not null,
+    view_cnt integer not null,
+    created_at datetime(6),
+    modified_at datetime(6),
+    owner_id bigint,
+    plan_id bigint not null auto_increment,
+    intro varchar(255),
+    title varchar(255),
+    primary key (plan_id)
+) engine=InnoDB;
+
+create table stars (
+    created_at datetime(6),
+    member_id bigint,
+    modified_at datetime(6),
+    plan_id bigint,
+    star_id bigint not null auto_increment,
+    primary key (star_id)
+) engine=InnoDB;
+
+create table tabs (
+    first bit not null,
+    is_deleted bit not null,
+    version integer not null,
+    created_at datetime(6),
+    first_task_id bigint,
+    last_task_id bigint,
+    modified_at datetime(6),
+    next_id bigint,
+    plan_id bigint,
+    tab_id bigint not null auto_increment,
+    title varchar(255),
+    primary key (tab_id)
+) engine=InnoDB;
+
+create table tasks (
+    end_date date,
+    is_deleted bit not null,
+    start_date date,
+    version integer not null,
+    assignee_id bigint,
+    created_at datetime(6),
+    modified_at datetime(6),
+    next_id bigint,
+    prev_id bigint,
+    tab_id bigint,
+    task_id bigint not null auto_increment,
+    description varchar(255),
+    title varchar(255),
+    primary key (task_id)
+) engine=InnoDB;
+
+alter table labels
+    add constraint UniquePlanAndLabelName unique (plan_id, name);
+
+alter table members
+    add constraint UK_9d30a9u1qpg8eou0otgkwrp5d unique (email);
+
+alter table tabs
+    add constraint UniquePlanAndTabName unique (plan_id, title);
+
+alter table tabs
+    add constraint UK_3xbbpee80ffcimdu20aqg77ft unique (first_task_id);
+
+alter table tabs
+    add constraint UK_ru1mu872o4vkhpgrhs9vlpibr unique (last_task_id);
+
+alter table comments
+    add constraint FKi7pp0331nbiwd2844kg78kfwb
+    foreign key (task_id)
+    references tasks (task_id);
+
+alter table comments
+    add constraint FK5e2sgmwoy66tn58hgom68mbmq
+    foreign key (writer_id)
+    references members (member_id);
+
+alter table labels
+    add constraint FKnh1tu004d1xk34s3jrvdf7kwf
+    foreign key (plan_id)
+    references plans (plan_id);
+
+alter table labels_of_task
+    add constraint FKti57ewyvwhjpbil610ec1urwv
+    foreign key (label_id)
+    references labels (label_id);
+
+alter table labels_of_task
+    add constraint FKi5wlayy7mwtq3hd44uypf1dy
+    foreign key (task_id)
+    references tasks (task_id);
+
+alter table members_of_plan
+    add constraint FKefiatfje5sk25n82a6ewwrcft
+    foreign key (member_id)
+    references members (member_id);
+
+alter table members_of_plan
+    add constraint FK242eemal7lwem51rq5wyo64dp
+    foreign key (plan_id)
+    references plans (plan_id);
+
+alter table plans
+    add constraint FK7t3rngnmcji0jbpxglem2lyg9
+    foreign key (owner_id)
+    references members (member_id);
+
+alter table stars
+    add constraint FKbmay5iuc02s9qfmu63hawwact
+    foreign key (member_id)
+    references members (member_id);
+
+alter table stars
+    add constraint FKqdnkpi99a15gq1lom32ycaip9
+    foreign key (plan_id)
+    references plans (plan_id);
+
+alter table tabs
+    add constraint FK9cv1a351i5n38jlhcbon9d7ub
+    foreign key (first_task_id)
+    references tasks (task_id);
+
+alter table tabs
+    add constraint FKkmnj7oxnfbwrlotfd7st1xjr
+    foreign key (last_task_id)
+    references tasks (task_id);
+
+alter table tabs
+    add constraint FKed435fq1liu0glcn35kbl9n9b
+    foreign key (next_id)
+    references tabs (tab_id);
+
+alter table tabs
+    add constraint FKeg6nx83wnfyfllhg18cncl51r
+    foreign key (plan_id)
+    references plans (plan_id);
+
+alter table tasks
+    add constraint FKfdpcrqcnqpl0aiepil696argr
+    foreign key (assignee_id)
+    references members (member_id);
+
+alter table tasks
+    add constraint FK9enjty90b7yqng10p8hy8wpy0
+    foreign key (next_id)
+    references tasks (task_id);
+
+alter table tasks
+    add constraint FKsucvrobewbrk6wqrgnlmmloys
+    foreign key (prev_id)
+    references tasks (task_id);
+
+alter table tasks
+    add constraint FK7vumdmoy9o0d6t9k8enoly0or
+    foreign key (tab_id)
+    references tabs (tab_id);